@@ -0,0 +1,117 @@
+package com.codesoom.assignment.benchmarks;
+
+import com.codesoom.assignment.controllers.dtos.ToyRequestData;
+import com.codesoom.assignment.domain.entities.Toy;
+import com.codesoom.assignment.domain.entities.ToyProducer;
+import com.codesoom.assignment.domain.projections.ToySummary;
+import com.codesoom.assignment.domain.vos.ImageDemo;
+import com.codesoom.assignment.domain.vos.Won;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 벤치마크에서 사용하는 장난감 데이터를 만든다
+ */
+final class BenchmarkToys {
+    static final String URL = "https://metacode.biz/@test/avatar.jpg";
+    static final LocalDateTime CREATED_AT = LocalDateTime.of(2020, 11, 1, 12, 0);
+
+    private BenchmarkToys() {
+    }
+
+    /**
+     * 순번에 해당하는 id 없는 장난감을 반환한다
+     * <p>
+     *
+     * @param index    장난감 순번
+     * @param producer 생산자
+     * @return 저장되지 않은 장난감
+     * </p>
+     */
+    static Toy toy(int index, ToyProducer producer) {
+        return Toy.builder()
+                .name("Benchmark Toy " + index)
+                .price(new Won(new BigDecimal(1000 + index)))
+                .producer(producer)
+                .demo(new ImageDemo(URL))
+                .build();
+    }
+
+    /**
+     * 순번에 해당하는 id를 가진 장난감을 반환한다
+     * <p>
+     *
+     * @param index 장난감 순번
+     * @return 장난감
+     * </p>
+     */
+    static Toy toyWithId(int index) {
+        return Toy.builder()
+                .id((long) index + 1)
+                .name("Benchmark Toy " + index)
+                .price(new Won(new BigDecimal(1000 + index)))
+                .producer(ToyProducer.builder().id((long) index % 100 + 1).name("Producer " + index % 100).build())
+                .demo(new ImageDemo(URL))
+                .build();
+    }
+
+    /**
+     * 순번에 해당하는 장난감 Projection을 반환한다
+     * <p>
+     *
+     * @param index 장난감 순번
+     * @return 장난감 Projection
+     * </p>
+     */
+    static ToySummary summary(int index) {
+        Toy toy = toyWithId(index);
+        return new ToySummary() {
+            @Override
+            public Long getId() {
+                return toy.getId();
+            }
+
+            @Override
+            public String getName() {
+                return toy.getName();
+            }
+
+            @Override
+            public BigDecimal getPrice() {
+                return toy.getPrice().getValue();
+            }
+
+            @Override
+            public String getMaker() {
+                return toy.getProducer().getName();
+            }
+
+            @Override
+            public String getUrl() {
+                return toy.getDemo().getUrl();
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return CREATED_AT;
+            }
+        };
+    }
+
+    /**
+     * 장난감 등록 요청 데이터를 반환한다
+     * <p>
+     *
+     * @return 장난감 등록 요청 데이터
+     * </p>
+     */
+    static ToyRequestData request() {
+        return ToyRequestData.builder()
+                .name("Benchmark Toy")
+                .maker("Benchmark Producer")
+                .price(new BigDecimal(1000))
+                .url(URL)
+                .build();
+    }
+}
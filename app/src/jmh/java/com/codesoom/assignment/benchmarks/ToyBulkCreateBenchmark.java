@@ -0,0 +1,86 @@
+package com.codesoom.assignment.benchmarks;
+
+import com.codesoom.assignment.App;
+import com.codesoom.assignment.application.interfaces.ToyCreateService;
+import com.codesoom.assignment.domain.entities.Toy;
+import com.codesoom.assignment.domain.entities.ToyProducer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 장난감 size 개를 한 번의 createAll로 등록할 때와 create를 반복해 등록할 때의 소요 시간을 비교한다
+ * <p>
+ * createAll은 하나의 트랜잭션에서 JDBC batch로 insert하고, create는 장난감마다 트랜잭션을 연다.
+ * </p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ToyBulkCreateBenchmark {
+    @Param({"10000"})
+    public int size;
+
+    private ConfigurableApplicationContext context;
+    private ToyCreateService service;
+    private List<Toy> toys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(App.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--logging.level.root=warn",
+                        "--codesoom.queries.budget=" + Integer.MAX_VALUE,
+                        "--codesoom.reactive.port=0");
+        service = context.getBean(ToyCreateService.class);
+
+        ToyProducer producer = ToyProducer.builder().name("Benchmark Producer").build();
+        toys = IntStream.range(0, size)
+                .mapToObj(i -> BenchmarkToys.toy(i, producer))
+                .collect(Collectors.toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Toy> createAll() {
+        return service.createAll(toys);
+    }
+
+    @Benchmark
+    public void createEach(Blackhole blackhole) {
+        for (Toy toy : toys) {
+            blackhole.consume(service.create(toy));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.codesoom.assignment.benchmarks;
+
+import com.codesoom.assignment.App;
+import com.codesoom.assignment.application.interfaces.ToyCreateService;
+import com.codesoom.assignment.domain.entities.Toy;
+import com.codesoom.assignment.domain.entities.ToyProducer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 스레드가 동시에 장난감을 등록할 때의 insert 처리량을 id 블록 크기별로 측정한다
+ * <p>
+ * 블록 크기가 1이면 insert마다 시퀀스를 조회하므로, 기본값 50과 비교해 시퀀스 왕복이 처리량에 미치는 영향을 확인한다.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ToyConcurrentCreateBenchmark {
+    @Param({"1", "50"})
+    public int incrementSize;
+
+    private ConfigurableApplicationContext context;
+    private ToyCreateService service;
+    private final ToyProducer producer = ToyProducer.builder().name("Benchmark Producer").build();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(App.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.properties.codesoom.id.increment_size=" + incrementSize,
+                        "--logging.level.root=warn",
+                        "--codesoom.queries.budget=" + Integer.MAX_VALUE,
+                        "--codesoom.reactive.port=0");
+        service = context.getBean(ToyCreateService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Toy create() {
+        return service.create(BenchmarkToys.toy(ThreadLocalRandom.current().nextInt(10_000), producer));
+    }
+}
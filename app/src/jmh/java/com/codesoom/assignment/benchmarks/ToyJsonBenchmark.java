@@ -0,0 +1,65 @@
+package com.codesoom.assignment.benchmarks;
+
+import com.codesoom.assignment.controllers.dtos.ToyResponseData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 장난감 목록 응답의 JSON 직렬화를 목록 크기별로 측정한다
+ * <p>
+ * 응답 본문을 버리는 OutputStream에 쓰므로 버퍼 복사 없이 직렬화 비용만 측정된다
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ToyJsonBenchmark {
+    @Param({"100", "10000", "100000"})
+    public int size;
+
+    private List<ToyResponseData> responses;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        responses = IntStream.range(0, size)
+                .mapToObj(BenchmarkToys::toyWithId)
+                .map(ToyResponseData::from)
+                .collect(Collectors.toList());
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = mapper.writerFor(mapper.getTypeFactory()
+                .constructCollectionType(List.class, ToyResponseData.class));
+    }
+
+    @Benchmark
+    public void serializeList() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), responses);
+    }
+
+    @Benchmark
+    public byte[] serializeListToBytes() throws IOException {
+        return writer.writeValueAsBytes(responses);
+    }
+}
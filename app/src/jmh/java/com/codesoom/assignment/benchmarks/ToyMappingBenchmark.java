@@ -0,0 +1,72 @@
+package com.codesoom.assignment.benchmarks;
+
+import com.codesoom.assignment.controllers.dtos.ToyRequestData;
+import com.codesoom.assignment.controllers.dtos.ToyResponseData;
+import com.codesoom.assignment.controllers.validators.PasswordValidator;
+import com.codesoom.assignment.domain.entities.Toy;
+import com.codesoom.assignment.domain.projections.ToySummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청/응답 변환과 비밀번호 검증처럼 요청마다 실행되는 짧은 경로를 측정한다
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ToyMappingBenchmark {
+    private Toy toy;
+    private ToySummary summary;
+    private ToyRequestData request;
+    private PasswordValidator validator;
+    private String validPassword;
+    private String shortPassword;
+
+    @Setup
+    public void setUp() {
+        toy = BenchmarkToys.toyWithId(0);
+        summary = BenchmarkToys.summary(0);
+        request = BenchmarkToys.request();
+        validator = new PasswordValidator();
+        validPassword = "yahOo~!@12345";
+        shortPassword = "short";
+    }
+
+    @Benchmark
+    public ToyResponseData responseFromEntity() {
+        return ToyResponseData.from(toy);
+    }
+
+    @Benchmark
+    public ToyResponseData responseFromSummary() {
+        return ToyResponseData.from(summary);
+    }
+
+    @Benchmark
+    public Toy requestToEntity() {
+        return request.toEntity();
+    }
+
+    @Benchmark
+    public boolean validPassword() {
+        return validator.isValid(validPassword, null);
+    }
+
+    @Benchmark
+    public boolean invalidPassword() {
+        return validator.isValid(shortPassword, null);
+    }
+}
@@ -0,0 +1,92 @@
+package com.codesoom.assignment.benchmarks;
+
+import com.codesoom.assignment.App;
+import com.codesoom.assignment.application.interfaces.ToyShowService;
+import com.codesoom.assignment.domain.ToyProducerRepository;
+import com.codesoom.assignment.domain.ToyRepository;
+import com.codesoom.assignment.domain.entities.Toy;
+import com.codesoom.assignment.domain.entities.ToyProducer;
+import com.codesoom.assignment.domain.projections.ToySummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 인메모리 H2에 장난감을 저장해 두고 ToyShowService의 조회를 측정한다
+ * <p>
+ * 웹 계층 없이 애플리케이션 컨텍스트를 띄우므로 서비스, 저장소, Hibernate 2차 캐시까지의 비용이 측정된다
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ToyShowServiceBenchmark {
+    @Param({"100", "10000"})
+    public int size;
+
+    private ConfigurableApplicationContext context;
+    private ToyShowService service;
+    private List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(App.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--logging.level.root=warn",
+                        "--codesoom.queries.budget=" + Integer.MAX_VALUE,
+                        "--codesoom.reactive.port=0");
+        service = context.getBean(ToyShowService.class);
+
+        ToyProducer producer = context.getBean(ToyProducerRepository.class)
+                .save(ToyProducer.builder().name("Benchmark Producer").build());
+        List<Toy> toys = IntStream.range(0, size)
+                .mapToObj(i -> BenchmarkToys.toy(i, producer))
+                .collect(Collectors.toList());
+        ids = StreamSupport.stream(context.getBean(ToyRepository.class).saveAll(toys).spliterator(), false)
+                .map(Toy::getId)
+                .collect(Collectors.toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ToySummary> showAllSummaries() {
+        return service.showAllSummaries();
+    }
+
+    @Benchmark
+    public Toy showById() {
+        return service.showById(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+    }
+}
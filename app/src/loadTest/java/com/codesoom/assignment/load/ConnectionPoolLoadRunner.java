@@ -0,0 +1,123 @@
+package com.codesoom.assignment.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.zaxxer.hikari.HikariConfig;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * LoadTestRunner의 부하를 커넥션 풀 크기별로 다시 실행해 풀 크기에 따른 처리량과 응답 시간을 JSON 보고서로 남긴다
+ * <p>
+ * 각 실행은 prod 프로필로 App을 새로 띄우고 spring.datasource.hikari.maximum-pool-size와 minimum-idle만 바꾼다.
+ * 풀 크기는 load.pool.sizes(쉼표로 구분, 기본 2, 4, 8과 application-prod.yml의 크기)로, 보고서 위치는 load.pool.report로
+ * 바꿀 수 있으며 나머지 부하 설정은 LoadTestRunner와 같은 load.* 프로퍼티를 따른다
+ * </p>
+ */
+public final class ConnectionPoolLoadRunner {
+    private static final String PROFILE = "prod";
+    private static final String PROFILE_CONFIG = "application-" + PROFILE + ".yml";
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    private ConnectionPoolLoadRunner() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        Properties profile = profileProperties();
+        int configuredSize = configuredPool(profile).getMaximumPoolSize();
+        // 파일 대신 메모리 데이터베이스를 쓰되 application-prod.yml의 H2 설정은 그대로 적용한다
+        String url = profile.getProperty("spring.datasource.url", "");
+        String urlSettings = url.contains(";") ? url.substring(url.indexOf(';')) : "";
+        SortedSet<Integer> sizes = poolSizes(configuredSize);
+        Path reportPath = Paths.get(System.getProperty("load.pool.report", "build/reports/load/connection-pool.json"));
+
+        List<Map<String, Object>> runs = new ArrayList<>(sizes.size());
+        for (int size : sizes) {
+            Map<String, Object> overrides = new LinkedHashMap<>();
+            overrides.put("spring.profiles.active", PROFILE);
+            overrides.put("spring.datasource.url", "jdbc:h2:mem:load-pool-" + size + ";DB_CLOSE_DELAY=-1" + urlSettings);
+            overrides.put(HIKARI_PREFIX + ".maximum-pool-size", size);
+            overrides.put(HIKARI_PREFIX + ".minimum-idle", size);
+
+            Map<String, Object> run = new LinkedHashMap<>();
+            run.put("poolSize", size);
+            run.putAll(LoadTestRunner.run(settings, overrides, args));
+            runs.add(run);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("configuredPoolSize", configuredSize);
+        report.put("settings", settings.toMap());
+        report.put("runs", runs);
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), report);
+
+        print(runs, configuredSize);
+        System.out.println("Report written to " + reportPath.toAbsolutePath());
+    }
+
+    private static Properties profileProperties() {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource(PROFILE_CONFIG));
+        return yaml.getObject();
+    }
+
+    private static HikariConfig configuredPool(Properties profile) {
+        HikariConfig config = new HikariConfig();
+        new Binder(new MapConfigurationPropertySource(profile))
+                .bind(HIKARI_PREFIX, Bindable.ofInstance(config))
+                .orElseThrow(() -> new IllegalStateException(HIKARI_PREFIX + " is missing in " + PROFILE_CONFIG));
+        return config;
+    }
+
+    private static SortedSet<Integer> poolSizes(int configuredSize) {
+        String property = System.getProperty("load.pool.sizes");
+        SortedSet<Integer> sizes = new TreeSet<>();
+        if (property == null || property.isBlank()) {
+            sizes.addAll(List.of(2, 4, 8, configuredSize));
+            return sizes;
+        }
+        Arrays.stream(property.split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .forEach(sizes::add);
+        if (sizes.first() < 1) {
+            throw new IllegalArgumentException("load.pool.sizes must be positive: " + property);
+        }
+        return sizes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void print(List<Map<String, Object>> runs, int configuredSize) {
+        System.out.printf("%-10s %12s %10s %10s %10s %12s %10s%n",
+                "pool size", "req/s", "p50 ms", "p95 ms", "p99 ms", "acquire ms", "errors");
+        for (Map<String, Object> run : runs) {
+            Map<String, Object> latency = (Map<String, Object>) run.get("latencyMillis");
+            Map<String, Object> pool = (Map<String, Object>) run.get("connectionPool");
+            int size = (int) run.get("poolSize");
+            System.out.printf("%-10s %12.1f %10.1f %10.1f %10.1f %12.2f %10d%n",
+                    size == configuredSize ? size + "*" : String.valueOf(size),
+                    (double) run.get("requestsPerSecond"),
+                    (double) latency.get("p50"), (double) latency.get("p95"), (double) latency.get("p99"),
+                    (Double) pool.get("meanAcquireMillis"),
+                    (long) run.get("errors"));
+        }
+    }
+}
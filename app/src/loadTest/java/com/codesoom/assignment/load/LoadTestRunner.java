@@ -0,0 +1,151 @@
+package com.codesoom.assignment.load;
+
+import com.codesoom.assignment.App;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 임의의 포트로 App을 띄우고 데이터를 채운 뒤 REST API에 부하를 주어 JSON 보고서를 남긴다
+ * <p>
+ * load.baseline에 이전 보고서를 지정하면 요청 종류별 처리량과 p99 응답 시간의 변화를 함께 출력한다.
+ * load.app.으로 시작하는 프로퍼티는 접두사를 떼고 애플리케이션 설정으로 전달한다
+ * (예: -Pload.app.codesoom.execution.mode=bounded). 보고서에는 Hikari 커넥션 풀의 크기와 커넥션 획득 시간도 남긴다
+ * </p>
+ */
+public final class LoadTestRunner {
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+        Map<String, Object> report = run(settings, Map.of(), args);
+        Files.createDirectories(settings.getReport().toAbsolutePath().getParent());
+        mapper.writeValue(settings.getReport().toFile(), report);
+        System.out.println(mapper.writeValueAsString(report));
+        System.out.println("Report written to " + settings.getReport().toAbsolutePath());
+
+        if (settings.getBaseline() != null) {
+            compare(mapper.readTree(settings.getBaseline().toFile()), mapper.valueToTree(report));
+        }
+    }
+
+    /**
+     * App을 띄워 데이터를 채우고 부하를 준 뒤 보고서를 반환한다
+     * <p>
+     * overrides는 load.app. 프로퍼티보다 우선한다
+     *
+     * @param settings  부하 테스트 설정
+     * @param overrides 이번 실행에만 적용할 애플리케이션 설정
+     * @param args      애플리케이션에 그대로 전달할 명령행 인자
+     * @return 요청 종류별 처리량과 응답 시간, 커넥션 풀 지표를 담은 보고서
+     * @throws InterruptedException 기다리는 중 인터럽트된 경우
+     * </p>
+     */
+    static Map<String, Object> run(LoadTestSettings settings, Map<String, Object> overrides, String[] args)
+            throws InterruptedException {
+        // SpringApplicationBuilder.properties()는 application.yml보다 우선순위가 낮으므로 명령행 인자로 넘긴다
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", "jdbc:h2:mem:load;DB_CLOSE_DELAY=-1");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("logging.level.root", "warn");
+        properties.put("codesoom.queries.budget", Integer.MAX_VALUE);
+        properties.put("codesoom.reactive.port", 0);
+        properties.putAll(settings.getApplicationProperties());
+        properties.putAll(overrides);
+        List<String> arguments = new ArrayList<>();
+        properties.forEach((name, value) -> arguments.add("--" + name + "=" + value));
+        arguments.addAll(List.of(args));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(App.class)
+                .bannerMode(Banner.Mode.OFF)
+                .run(arguments.toArray(String[]::new))) {
+            LoadTestSeeder.SeededData data = new LoadTestSeeder(context).seed(settings);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            Instant startedAt = Instant.now();
+            Map<Operation, OperationRecorder> recorders =
+                    new LoadTestWorkload("http://localhost:" + port, settings, data).run();
+
+            Map<String, Object> report = report(settings, startedAt, recorders);
+            report.put("connectionPool", connectionPool(context.getBean(MeterRegistry.class)));
+            return report;
+        }
+    }
+
+    private static Map<String, Object> report(LoadTestSettings settings, Instant startedAt,
+                                              Map<Operation, OperationRecorder> recorders) {
+        double seconds = settings.getDuration().toMillis() / 1000.0;
+        Map<String, Object> operations = new LinkedHashMap<>();
+        long requests = 0;
+        long errors = 0;
+        Histogram latency = OperationRecorder.newHistogram();
+        for (Map.Entry<Operation, OperationRecorder> entry : recorders.entrySet()) {
+            entry.getValue().addTo(latency);
+            Map<String, Object> summary = entry.getValue().summarize(seconds);
+            operations.put(entry.getKey().getLabel(), summary);
+            requests += (long) summary.get("requests");
+            errors += (long) summary.get("errors");
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", startedAt.toString());
+        report.put("settings", settings.toMap());
+        report.put("requests", requests);
+        report.put("errors", errors);
+        report.put("requestsPerSecond", requests / seconds);
+        report.put("latencyMillis", OperationRecorder.latency(latency));
+        report.put("operations", operations);
+        return report;
+    }
+
+    private static Map<String, Object> connectionPool(MeterRegistry registry) {
+        Map<String, Object> pool = new LinkedHashMap<>();
+        Gauge max = registry.find("hikaricp.connections.max").gauge();
+        Timer acquire = registry.find("hikaricp.connections.acquire").timer();
+        pool.put("maximumPoolSize", max == null ? null : (long) max.value());
+        // 워밍업과 데이터 채우기를 포함한 전체 실행 동안의 커넥션 획득 시간
+        pool.put("meanAcquireMillis", acquire == null ? null : acquire.mean(TimeUnit.MILLISECONDS));
+        pool.put("maxAcquireMillis", acquire == null ? null : acquire.max(TimeUnit.MILLISECONDS));
+        return pool;
+    }
+
+    private static void compare(JsonNode baseline, JsonNode current) {
+        System.out.printf("%-24s %14s %14s%n", "operation", "req/s change", "p99 change");
+        System.out.printf("%-24s %13.1f%% %14s%n", "total",
+                change(baseline.path("requestsPerSecond"), current.path("requestsPerSecond")), "");
+        current.path("operations").fields().forEachRemaining(entry -> {
+            JsonNode before = baseline.path("operations").path(entry.getKey());
+            System.out.printf("%-24s %13.1f%% %13.1f%%%n", entry.getKey(),
+                    change(before.path("requestsPerSecond"), entry.getValue().path("requestsPerSecond")),
+                    change(before.path("latencyMillis").path("p99"), entry.getValue().path("latencyMillis").path("p99")));
+        });
+    }
+
+    private static double change(JsonNode before, JsonNode after) {
+        if (!before.isNumber() || before.asDouble() == 0) {
+            return Double.NaN;
+        }
+        return (after.asDouble() - before.asDouble()) / before.asDouble() * 100;
+    }
+}
@@ -0,0 +1,117 @@
+package com.codesoom.assignment.load;
+
+import com.codesoom.assignment.domain.ToyProducerRepository;
+import com.codesoom.assignment.domain.ToyRepository;
+import com.codesoom.assignment.domain.UserRepository;
+import com.codesoom.assignment.domain.entities.Toy;
+import com.codesoom.assignment.domain.entities.ToyProducer;
+import com.codesoom.assignment.domain.entities.User;
+import com.codesoom.assignment.domain.vos.ImageDemo;
+import com.codesoom.assignment.domain.vos.Won;
+import org.springframework.context.ApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 부하 테스트 전에 생산자, 장난감, 회원을 저장소에 직접 저장한다
+ */
+final class LoadTestSeeder {
+    private static final int CHUNK_SIZE = 1_000;
+
+    private final ToyProducerRepository producerRepository;
+    private final ToyRepository toyRepository;
+    private final UserRepository userRepository;
+
+    LoadTestSeeder(ApplicationContext context) {
+        this.producerRepository = context.getBean(ToyProducerRepository.class);
+        this.toyRepository = context.getBean(ToyRepository.class);
+        this.userRepository = context.getBean(UserRepository.class);
+    }
+
+    /**
+     * 설정한 수만큼 데이터를 저장하고 저장된 id를 반환한다
+     * <p>
+     *
+     * @param settings 부하 테스트 설정
+     * @return 저장된 데이터의 id
+     * </p>
+     */
+    SeededData seed(LoadTestSettings settings) {
+        List<ToyProducer> producers = IntStream.range(0, settings.getProducers())
+                .mapToObj(i -> producerRepository.save(ToyProducer.builder().name("Load Producer " + i).build()))
+                .collect(Collectors.toList());
+
+        long[] toyIds = IntStream.range(0, settings.getToys()).boxed()
+                .collect(Collectors.groupingBy(i -> i / CHUNK_SIZE))
+                .values().stream()
+                .flatMap(chunk -> ids(toyRepository.saveAll(chunk.stream()
+                        .map(i -> toy(i, producers.get(i % producers.size())))
+                        .collect(Collectors.toList()))).stream())
+                .mapToLong(Long::longValue)
+                .toArray();
+
+        long[] userIds = IntStream.range(0, settings.getUsers())
+                .mapToObj(this::user)
+                .map(userRepository::save)
+                .mapToLong(User::getId)
+                .toArray();
+
+        return new SeededData(toyIds, userIds, producers.stream()
+                .map(ToyProducer::getName)
+                .toArray(String[]::new));
+    }
+
+    private Toy toy(int index, ToyProducer producer) {
+        return Toy.builder()
+                .name("Load Toy " + index)
+                .price(new Won(new BigDecimal(1000 + index % 10_000)))
+                .producer(producer)
+                .demo(new ImageDemo("https://metacode.biz/@test/avatar.jpg"))
+                .build();
+    }
+
+    private User user(int index) {
+        return User.builder()
+                .name("Load User " + index)
+                .email("load-user-" + index + "@codesoom.com")
+                .password("yahOo~!@12345")
+                .build();
+    }
+
+    private List<Long> ids(Iterable<Toy> toys) {
+        return StreamSupport.stream(toys.spliterator(), false)
+                .map(Toy::getId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 저장된 장난감과 회원의 id, 생산자 이름
+     */
+    static final class SeededData {
+        private final long[] toyIds;
+        private final long[] userIds;
+        private final String[] producerNames;
+
+        SeededData(long[] toyIds, long[] userIds, String[] producerNames) {
+            this.toyIds = toyIds;
+            this.userIds = userIds;
+            this.producerNames = producerNames;
+        }
+
+        long[] getToyIds() {
+            return toyIds;
+        }
+
+        long[] getUserIds() {
+            return userIds;
+        }
+
+        String[] getProducerNames() {
+            return producerNames;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.codesoom.assignment.load;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정
+ * <p>
+ * load.* 시스템 프로퍼티에서 읽으며, Gradle에서는 -Pload.concurrency=32 처럼 전달한다
+ * </p>
+ */
+final class LoadTestSettings {
+    private static final String APPLICATION_PREFIX = "load.app.";
+
+    private final int producers;
+    private final int toys;
+    private final int users;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final double readRatio;
+    private final Path report;
+    private final Path baseline;
+    private final Map<String, Object> applicationProperties;
+
+    private LoadTestSettings(int producers, int toys, int users, int concurrency, Duration warmup,
+                             Duration duration, double readRatio, Path report, Path baseline,
+                             Map<String, Object> applicationProperties) {
+        if (producers < 1 || toys < 1 || users < 1 || concurrency < 1) {
+            throw new IllegalArgumentException("producers, toys, users and concurrency must be positive");
+        }
+        if (readRatio < 0 || readRatio > 1) {
+            throw new IllegalArgumentException("load.read-ratio must be between 0 and 1: " + readRatio);
+        }
+        this.producers = producers;
+        this.toys = toys;
+        this.users = users;
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.readRatio = readRatio;
+        this.report = report;
+        this.baseline = baseline;
+        this.applicationProperties = applicationProperties;
+    }
+
+    /**
+     * 시스템 프로퍼티로 설정을 만든다
+     * <p>
+     *
+     * @return 부하 테스트 설정
+     * @throws IllegalArgumentException 값이 범위를 벗어난 경우
+     * </p>
+     */
+    static LoadTestSettings fromSystemProperties() {
+        String baseline = System.getProperty("load.baseline");
+        return new LoadTestSettings(
+                Integer.getInteger("load.producers", 100),
+                Integer.getInteger("load.toys", 10_000),
+                Integer.getInteger("load.users", 1_000),
+                Integer.getInteger("load.concurrency", 16),
+                Duration.ofSeconds(Long.getLong("load.warmup-seconds", 10L)),
+                Duration.ofSeconds(Long.getLong("load.duration-seconds", 30L)),
+                Double.parseDouble(System.getProperty("load.read-ratio", "0.9")),
+                Paths.get(System.getProperty("load.report", "build/reports/load/report.json")),
+                baseline == null || baseline.isBlank() ? null : Paths.get(baseline),
+                applicationProperties());
+    }
+
+    private static Map<String, Object> applicationProperties() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(APPLICATION_PREFIX))
+                .sorted()
+                .forEach(name -> properties.put(name.substring(APPLICATION_PREFIX.length()), System.getProperty(name)));
+        return properties;
+    }
+
+    int getProducers() {
+        return producers;
+    }
+
+    int getToys() {
+        return toys;
+    }
+
+    int getUsers() {
+        return users;
+    }
+
+    int getConcurrency() {
+        return concurrency;
+    }
+
+    Duration getWarmup() {
+        return warmup;
+    }
+
+    Duration getDuration() {
+        return duration;
+    }
+
+    double getReadRatio() {
+        return readRatio;
+    }
+
+    Path getReport() {
+        return report;
+    }
+
+    Path getBaseline() {
+        return baseline;
+    }
+
+    Map<String, Object> getApplicationProperties() {
+        return applicationProperties;
+    }
+
+    /**
+     * 보고서에 기록할 설정 값을 반환한다
+     * <p>
+     *
+     * @return 설정 이름과 값의 Map
+     * </p>
+     */
+    Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("producers", producers);
+        map.put("toys", toys);
+        map.put("users", users);
+        map.put("concurrency", concurrency);
+        map.put("warmupSeconds", warmup.getSeconds());
+        map.put("durationSeconds", duration.getSeconds());
+        map.put("readRatio", readRatio);
+        map.put("application", applicationProperties);
+        return map;
+    }
+}
@@ -0,0 +1,155 @@
+package com.codesoom.assignment.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 설정한 동시성만큼의 작업자가 읽기/쓰기 요청을 섞어 보내고 요청 종류별 응답을 기록한다
+ * <p>
+ * 작업자는 응답을 받은 즉시 다음 요청을 보내는 closed-loop 방식으로 동작한다
+ * </p>
+ */
+final class LoadTestWorkload {
+    private static final Operation[] READS = {
+            Operation.LIST_PRODUCTS, Operation.SHOW_PRODUCT, Operation.SHOW_PRODUCT,
+            Operation.LIST_USERS, Operation.SHOW_USER};
+    private static final Operation[] WRITES = {
+            Operation.CREATE_PRODUCT, Operation.PATCH_PRODUCT, Operation.CREATE_USER, Operation.PATCH_USER};
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final LoadTestSettings settings;
+    private final LoadTestSeeder.SeededData data;
+    private final HttpClient client;
+    private final Map<Operation, OperationRecorder> recorders = new EnumMap<>(Operation.class);
+    private final AtomicLong sequence = new AtomicLong();
+
+    LoadTestWorkload(String baseUrl, LoadTestSettings settings, LoadTestSeeder.SeededData data) {
+        this.baseUrl = baseUrl;
+        this.settings = settings;
+        this.data = data;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new OperationRecorder());
+        }
+    }
+
+    /**
+     * 워밍업 후 측정 시간 동안 요청을 보낸다
+     * <p>
+     *
+     * @return 요청 종류별 기록
+     * @throws InterruptedException 기다리는 중 인터럽트된 경우
+     * </p>
+     */
+    Map<Operation, OperationRecorder> run() throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(settings.getConcurrency());
+        long end = System.nanoTime() + settings.getWarmup().plus(settings.getDuration()).toNanos();
+        for (int i = 0; i < settings.getConcurrency(); i++) {
+            workers.execute(() -> {
+                while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                    send(next());
+                }
+            });
+        }
+        workers.shutdown();
+
+        TimeUnit.NANOSECONDS.sleep(settings.getWarmup().toNanos());
+        recorders.values().forEach(OperationRecorder::reset);
+
+        if (!workers.awaitTermination(settings.getDuration().plus(REQUEST_TIMEOUT).toNanos(), TimeUnit.NANOSECONDS)) {
+            workers.shutdownNow();
+        }
+        return recorders;
+    }
+
+    private Operation next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Operation[] operations = random.nextDouble() < settings.getReadRatio() ? READS : WRITES;
+        return operations[random.nextInt(operations.length)];
+    }
+
+    private void send(Operation operation) {
+        HttpRequest request = request(operation);
+        OperationRecorder recorder = recorders.get(operation);
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            recorder.record(response.statusCode(), System.nanoTime() - start);
+        } catch (IOException e) {
+            recorder.recordFailure();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private HttpRequest request(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long toyId = pick(data.getToyIds());
+        long userId = pick(data.getUserIds());
+        long n = sequence.incrementAndGet();
+
+        switch (operation) {
+            case LIST_PRODUCTS:
+                return get("/products?cursor=" + random.nextLong(toyId) + "&size=20");
+            case SHOW_PRODUCT:
+                return get("/products/" + toyId);
+            case LIST_USERS:
+                return get("/users");
+            case SHOW_USER:
+                return get("/users/" + userId);
+            case CREATE_PRODUCT:
+                return json("POST", "/products", String.format(
+                        "{\"name\":\"Load Toy N%d\",\"maker\":\"%s\",\"price\":%d,"
+                                + "\"url\":\"https://metacode.biz/@test/avatar.jpg\"}",
+                        n, pick(data.getProducerNames()), 1000 + n % 10_000));
+            case PATCH_PRODUCT:
+                return json("PATCH", "/products/" + toyId, "{\"price\":" + (1000 + n % 10_000) + "}");
+            case CREATE_USER:
+                return json("POST", "/users", String.format(
+                        "{\"name\":\"Load User N%d\",\"email\":\"load-new-%d@codesoom.com\","
+                                + "\"password\":\"yahOo~!@12345\"}", n, n));
+            case PATCH_USER:
+                return json("PATCH", "/users/" + userId, "{\"name\":\"Load User P" + n + "\"}");
+            default:
+                throw new IllegalArgumentException(operation.name());
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest json(String method, String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static long pick(long[] values) {
+        return values[ThreadLocalRandom.current().nextInt(values.length)];
+    }
+
+    private static String pick(String[] values) {
+        return values[ThreadLocalRandom.current().nextInt(values.length)];
+    }
+}
@@ -0,0 +1,31 @@
+package com.codesoom.assignment.load;
+
+/**
+ * 부하 테스트에서 실행하는 요청의 종류
+ */
+enum Operation {
+    LIST_PRODUCTS("GET /products", true),
+    SHOW_PRODUCT("GET /products/{id}", true),
+    LIST_USERS("GET /users", true),
+    SHOW_USER("GET /users/{id}", true),
+    CREATE_PRODUCT("POST /products", false),
+    PATCH_PRODUCT("PATCH /products/{id}", false),
+    CREATE_USER("POST /users", false),
+    PATCH_USER("PATCH /users/{id}", false);
+
+    private final String label;
+    private final boolean read;
+
+    Operation(String label, boolean read) {
+        this.label = label;
+        this.read = read;
+    }
+
+    String getLabel() {
+        return label;
+    }
+
+    boolean isRead() {
+        return read;
+    }
+}
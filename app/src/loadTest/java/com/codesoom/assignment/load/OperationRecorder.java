@@ -0,0 +1,130 @@
+package com.codesoom.assignment.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 종류 하나의 응답 시간 분포와 상태 코드별 응답 수를 기록한다
+ * <p>
+ * 응답 시간은 마이크로초 단위로 최대 1분까지 유효숫자 3자리로 기록한다
+ * </p>
+ */
+final class OperationRecorder {
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Histogram histogram = newHistogram();
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * 응답을 기록한다
+     * <p>
+     *
+     * @param status       HTTP 상태 코드
+     * @param elapsedNanos 요청을 보내고 응답 본문을 받을 때까지 걸린 시간
+     * </p>
+     */
+    void record(int status, long elapsedNanos) {
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_MICROS));
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 응답을 받지 못한 요청을 기록한다
+     */
+    void recordFailure() {
+        failures.increment();
+    }
+
+    /**
+     * 기록을 지운다
+     * <p>
+     * 워밍업이 끝난 뒤 측정을 시작할 때 호출한다
+     * </p>
+     */
+    void reset() {
+        histogram.reset();
+        statuses.clear();
+        failures.reset();
+    }
+
+    /**
+     * 기록한 응답 수, 오류 수, 처리량, 응답 시간 백분위를 반환한다
+     * <p>
+     * 4xx, 5xx 응답과 응답을 받지 못한 요청을 오류로 센다
+     *
+     * @param seconds 측정 시간(초)
+     * @return 보고서에 기록할 요약
+     * </p>
+     */
+    Map<String, Object> summarize(double seconds) {
+        long responses = histogram.getTotalCount();
+        long errors = failures.sum() + statuses.entrySet().stream()
+                .filter(entry -> entry.getKey() >= 400)
+                .mapToLong(entry -> entry.getValue().sum())
+                .sum();
+
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        statuses.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> statusCounts.put(String.valueOf(entry.getKey()), entry.getValue().sum()));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", responses + failures.sum());
+        summary.put("errors", errors);
+        summary.put("requestsPerSecond", (responses + failures.sum()) / seconds);
+        summary.put("latencyMillis", latency(histogram));
+        summary.put("statuses", statusCounts);
+        return summary;
+    }
+
+    /**
+     * 기록한 응답 시간을 다른 분포에 더한다
+     * <p>
+     *
+     * @param total 요청 종류를 합친 응답 시간 분포
+     * </p>
+     */
+    void addTo(Histogram total) {
+        total.add(histogram);
+    }
+
+    /**
+     * 응답 시간을 기록할 빈 분포를 만든다
+     * <p>
+     *
+     * @return 마이크로초 단위로 최대 1분까지 유효숫자 3자리로 기록하는 분포
+     * </p>
+     */
+    static Histogram newHistogram() {
+        return new ConcurrentHistogram(HIGHEST_MICROS, 3);
+    }
+
+    /**
+     * 응답 시간 분포의 백분위를 반환한다
+     * <p>
+     *
+     * @param histogram 마이크로초 단위 응답 시간 분포
+     * @return 밀리초 단위 p50, p95, p99, 최댓값과 평균
+     * </p>
+     */
+    static Map<String, Object> latency(Histogram histogram) {
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("p50", millis(histogram.getValueAtPercentile(50)));
+        latency.put("p95", millis(histogram.getValueAtPercentile(95)));
+        latency.put("p99", millis(histogram.getValueAtPercentile(99)));
+        latency.put("max", millis(histogram.getMaxValue()));
+        latency.put("mean", histogram.getTotalCount() == 0 ? 0 : histogram.getMean() / 1000);
+        return latency;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
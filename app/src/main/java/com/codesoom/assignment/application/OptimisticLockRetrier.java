@@ -0,0 +1,66 @@
+package com.codesoom.assignment.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 잠금 충돌로 실패한 수정을 정해진 횟수까지 다시 실행한다
+ * <p>
+ * 수정 작업을 병렬로 실행하는 내부 호출자를 위한 것이다.
+ * 매 시도는 새 트랜잭션에서 최신 버전을 다시 읽어야 하므로 트랜잭션 밖에서 호출해야 하며,
+ * 전달하는 작업은 @Transactional 서비스 메소드처럼 스스로 트랜잭션을 시작하고 커밋해야 한다.
+ * </p>
+ */
+@Component
+public class OptimisticLockRetrier {
+    private final int maxAttempts;
+    private final Duration backoff;
+
+    public OptimisticLockRetrier(@Value("${codesoom.optimistic-lock.max-attempts}") int maxAttempts,
+                                 @Value("${codesoom.optimistic-lock.backoff}") Duration backoff) {
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+    }
+
+    /**
+     * 작업을 실행하고, 낙관적 잠금 충돌이 발생하면 시도 횟수에 비례해 기다린 뒤 다시 실행한다
+     * <p>
+     *
+     * @param action 한 번의 트랜잭션으로 수정하는 작업
+     * @param <T>    작업 결과 타입
+     * @return 작업 결과
+     * @throws OptimisticLockingFailureException 최대 시도 횟수까지 충돌한 경우
+     * @throws IllegalStateException             트랜잭션 안에서 호출한 경우
+     * </p>
+     */
+    public <T> T run(Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Optimistic lock retry must start outside a transaction");
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                pause(attempt, e);
+            }
+        }
+    }
+
+    private void pause(int attempt, OptimisticLockingFailureException cause) {
+        try {
+            Thread.sleep(backoff.toMillis() * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
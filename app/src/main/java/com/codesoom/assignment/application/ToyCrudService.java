@@ -1,72 +1,267 @@
 package com.codesoom.assignment.application;
 
 import com.codesoom.assignment.application.exceptions.ProductNotFoundException;
+import com.codesoom.assignment.application.exceptions.ProductVersionMismatchException;
+import com.codesoom.assignment.application.facets.ToyFacetCounter;
 import com.codesoom.assignment.application.interfaces.*;
+import com.codesoom.assignment.application.search.ToySearchIndex;
 import com.codesoom.assignment.domain.*;
 import com.codesoom.assignment.domain.entities.Toy;
 import com.codesoom.assignment.domain.entities.ToyProducer;
+import com.codesoom.assignment.domain.projections.ToyFacet;
+import com.codesoom.assignment.domain.projections.ToySummary;
+import com.codesoom.assignment.domain.projections.VersionSummary;
+import com.codesoom.assignment.domain.vos.Won;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
-public class ToyCrudService implements ToyCreateService, ToyShowService, ToyUpdateService, ToyDeleteService {
+public class ToyCrudService implements ToyCreateService, ToyShowService, ToyUpdateService, ToyDeleteService,
+        ToyExportService {
+    private static final int CLEAR_INTERVAL = 1_000;
+
     private final ToyRepository repository;
-    private final ToyProducerRepository producerRepository;
+    private final ToyProducerResolver producerResolver;
+    private final ToyDetailCache detailCache;
+    private final ToySearchIndex searchIndex;
+    private final ToyFacetCounter facetCounter;
+    private final int maxPageSize;
+    @PersistenceContext
+    private EntityManager entityManager;
 
-    public ToyCrudService(ToyRepository repository, ToyProducerRepository producerRepository) {
+    public ToyCrudService(ToyRepository repository, ToyProducerResolver producerResolver,
+                          ToyDetailCache detailCache, ToySearchIndex searchIndex, ToyFacetCounter facetCounter,
+                          @Value("${products.page.max-size}") int maxPageSize) {
         this.repository = repository;
-        this.producerRepository = producerRepository;
+        this.producerResolver = producerResolver;
+        this.detailCache = detailCache;
+        this.searchIndex = searchIndex;
+        this.facetCounter = facetCounter;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ToySummary> showAllSummaries() {
+        return repository.findAllSummaries();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ToySummary> showPage(Long cursor, int size) {
+        return repository.findSummariesByIdGreaterThan(
+                cursor == null ? 0L : cursor,
+                PageRequest.of(0, boundedPageSize(size)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ToySummary> showFilteredPage(ToyFilter filter, Long cursor, int size) {
+        return repository.findSummaries(
+                ToySpecifications.idGreaterThan(cursor).and(ToySpecifications.matching(filter)),
+                PageRequest.of(0, boundedPageSize(size)));
     }
 
     @Override
-    public List<Toy> showAll() {
-        return repository.findAll();
+    @Transactional(readOnly = true)
+    public Slice<ToySummary> showSortedPage(ToyFilter filter, ToySort sort, Keyset after, int size) {
+        return repository.findSummaries(
+                Specification.where(sort.after(after)).and(ToySpecifications.matching(filter)),
+                PageRequest.of(0, boundedPageSize(size), sort.toSort()));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Toy showById(Long id) {
-        return repository.findById(id).stream()
+        Toy toy = repository.findById(id).stream()
                 .findFirst()
                 .orElseThrow(() -> new ProductNotFoundException(id));
+        Hibernate.initialize(toy.getProducer());
+        return toy;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Long showVersionById(Long id) {
+        return repository.findVersionById(id)
+                .orElseThrow(() -> new ProductNotFoundException(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersionSummary showVersionSummary(Long cursor) {
+        return repository.findVersionSummary(cursor == null ? 0L : cursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ToySummary showSummaryById(Long id) {
+        return repository.findSummaryById(id)
+                .orElseThrow(() -> new ProductNotFoundException(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<ToySummary> consumer) {
+        try (Stream<ToySummary> summaries = repository.streamAllSummaries()) {
+            Iterator<ToySummary> iterator = summaries.iterator();
+            for (int count = 1; iterator.hasNext(); count++) {
+                consumer.accept(iterator.next());
+                if (count % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
     }
 
     @Override
     public Toy create(Toy toy) {
-        ToyProducer producer = producerRepository.save(toy.getProducer());
-        Toy toySaving = Toy.builder()
-                .name(toy.getName())
-                .price(toy.getPrice())
-                .producer(producer)
-                .demo(toy.getDemo())
-                .build();
-        return repository.save(toySaving);
+        Toy created = repository.save(toySaving(toy));
+        index(created);
+        count(created);
+        return created;
     }
 
     @Override
-    public Toy update(Long id, Toy toy) {
-        if (!repository.existsById(id)) {
-            throw new ProductNotFoundException(id);
+    @Transactional
+    public List<Toy> createAll(List<Toy> toys) {
+        List<Toy> created = new ArrayList<>(toys.size());
+        for (Toy toy : toys) {
+            Toy saved = repository.save(toySaving(toy));
+            index(saved);
+            count(saved);
+            created.add(saved);
+            if (created.size() % CLEAR_INTERVAL == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
         }
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public Toy update(Long id, Toy toy) {
+        ToyProducer producer = producerResolver.resolve(toy.getProducer().getName());
+        ToyFacet updating = repository.updateColumns(id, toy.getName(), toy.getPrice().getValue(),
+                producer.getId(), toy.getDemo().getUrl())
+                .orElseThrow(() -> new ProductNotFoundException(id));
+        detailCache.invalidate(id);
+        searchIndex.put(id, toy.getName(), producer.getName());
+        uncount(updating);
+        facetCounter.add(producer.getName(), toy.getPrice().getValue());
 
-        Toy toyUpdating = Toy.builder()
+        return Toy.builder()
                 .id(id)
                 .name(toy.getName())
                 .price(toy.getPrice())
-                .producer(toy.getProducer())
+                .producer(producer)
                 .demo(toy.getDemo())
                 .build();
-        return repository.save(toyUpdating);
     }
 
     @Override
-    public void deleteBy(Long id) {
-        if (!repository.existsById(id)) {
-            throw new ProductNotFoundException(id);
+    @Transactional
+    public Toy patch(Long id, Toy toy, Long expectedVersion) {
+        Toy toyPatching = repository.findWithProducerById(id)
+                .orElseThrow(() -> new ProductNotFoundException(id));
+        if (expectedVersion != null && !expectedVersion.equals(toyPatching.getVersion())) {
+            throw new ProductVersionMismatchException(id);
         }
 
-        repository.deleteById(id);
+        facetCounter.remove(makerOf(toyPatching), toyPatching.getPrice().getValue());
+        if (toy.getName() != null) {
+            toyPatching.changeName(toy.getName());
+        }
+        if (toy.getPrice() != null) {
+            toyPatching.changePrice(toy.getPrice());
+        }
+        if (toy.getDemo() != null) {
+            toyPatching.changeDemo(toy.getDemo());
+        }
+        if (toy.getProducer() != null && !isProducedBy(toyPatching, toy.getProducer().getName())) {
+            toyPatching.changeProducer(producerResolver.resolve(toy.getProducer().getName()));
+        }
+        detailCache.invalidate(id);
+        index(toyPatching);
+        count(toyPatching);
+        return toyPatching;
     }
-}
 
+    @Override
+    @Transactional
+    public Map<Long, Boolean> updatePrices(Map<Long, Won> prices) {
+        Map<Long, BigDecimal> values = new LinkedHashMap<>();
+        prices.forEach((id, price) -> values.put(id, price.getValue()));
+        Map<Long, ToyFacet> updated = repository.updatePrices(values);
+        detailCache.invalidateAll(updated.keySet());
+        updated.forEach((id, previous) -> {
+            uncount(previous);
+            facetCounter.add(previous.getMaker(), values.get(id));
+        });
+
+        Map<Long, Boolean> results = new LinkedHashMap<>();
+        prices.keySet().forEach(id -> results.put(id, updated.containsKey(id)));
+        return results;
+    }
 
+    @Override
+    @Transactional
+    public void deleteBy(Long id) {
+        ToyFacet deleting = repository.deleteRows(id)
+                .orElseThrow(() -> new ProductNotFoundException(id));
+        detailCache.invalidate(id);
+        searchIndex.remove(id);
+        uncount(deleting);
+    }
+
+    private int boundedPageSize(int size) {
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
+
+    private boolean isProducedBy(Toy toy, String makerName) {
+        return toy.getProducer() != null && makerName.equals(toy.getProducer().getName());
+    }
+
+    private void index(Toy toy) {
+        searchIndex.put(toy.getId(), toy.getName(), makerOf(toy));
+    }
+
+    private void count(Toy toy) {
+        facetCounter.add(makerOf(toy), toy.getPrice().getValue());
+    }
+
+    private void uncount(ToyFacet previous) {
+        facetCounter.remove(previous.getMaker(), previous.getPrice());
+    }
+
+    private String makerOf(Toy toy) {
+        ToyProducer producer = toy.getProducer();
+        return producer == null ? null : producer.getName();
+    }
+
+    private Toy toySaving(Toy toy) {
+        return Toy.builder()
+                .name(toy.getName())
+                .price(toy.getPrice())
+                .producer(producerResolver.resolve(toy.getProducer().getName()))
+                .demo(toy.getDemo())
+                .build();
+    }
+}
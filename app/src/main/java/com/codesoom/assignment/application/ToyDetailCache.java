@@ -0,0 +1,101 @@
+package com.codesoom.assignment.application;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 상품 상세 응답을 직렬화한 JSON 바이트를 상품 id별로 만들 때의 버전과 함께 보관한다
+ * <p>
+ * 요청한 버전과 보관된 버전이 다르면 다시 만들므로, 수정 전의 행을 읽은 요청이 지운 뒤에 이전 바이트를 넣더라도
+ * 수정된 버전을 요청하면 이전 바이트를 응답하지 않는다.
+ * 보관된 바이트의 총합은 설정된 크기로 제한되며, 넘치면 가장 오래 사용되지 않은 항목부터 제거한다.
+ * 상품이 수정되거나 삭제되면 즉시 지우고, 트랜잭션 안이라면 커밋 후에 한 번 더 지운다.
+ * 커밋 전에 다른 요청이 이전 값을 다시 넣더라도 커밋 이후에는 수정된 값으로 응답하기 위해서다.
+ * </p>
+ */
+@Component
+public class ToyDetailCache {
+    private final Cache<Long, VersionedBytes> bytesById;
+
+    public ToyDetailCache(@Value("${products.detail-cache.max-bytes}") long maxBytes,
+                          @Value("${products.detail-cache.expire-after-write}") Duration expireAfterWrite) {
+        this.bytesById = CacheBuilder.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, VersionedBytes detail) -> detail.bytes.length)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    /**
+     * id와 버전에 해당하는 상세 응답 바이트를 반환하고, 없거나 버전이 다르다면 loader로 만들어 보관한다
+     * <p>
+     * loader는 version을 읽은 뒤에 호출되어 그 버전 이후의 상품을 직렬화해야 한다.
+     * 반환된 배열은 다른 요청과 공유되므로 수정해서는 안 된다
+     *
+     * @param id      상품 id
+     * @param version 요청 시점에 조회한 상품 버전
+     * @param loader  캐시에 없을 때 상세 응답 바이트를 만드는 함수
+     * @return 직렬화된 상세 응답
+     * </p>
+     */
+    public byte[] get(Long id, Long version, Supplier<byte[]> loader) {
+        VersionedBytes cached = bytesById.getIfPresent(id);
+        if (cached != null && Objects.equals(cached.version, version)) {
+            return cached.bytes;
+        }
+
+        byte[] loaded = loader.get();
+        bytesById.put(id, new VersionedBytes(version, loaded));
+        return loaded;
+    }
+
+    /**
+     * id에 해당하는 상세 응답을 지운다
+     * <p>
+     *
+     * @param id 수정되거나 삭제된 상품 id
+     * </p>
+     */
+    public void invalidate(Long id) {
+        invalidateAll(List.of(id));
+    }
+
+    /**
+     * ids에 해당하는 상세 응답들을 지운다
+     * <p>
+     *
+     * @param ids 수정되거나 삭제된 상품 id 콜렉션
+     * </p>
+     */
+    public void invalidateAll(Collection<Long> ids) {
+        bytesById.invalidateAll(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    bytesById.invalidateAll(ids);
+                }
+            });
+        }
+    }
+
+    private static final class VersionedBytes {
+        private final Long version;
+        private final byte[] bytes;
+
+        VersionedBytes(Long version, byte[] bytes) {
+            this.version = version;
+            this.bytes = bytes;
+        }
+    }
+}
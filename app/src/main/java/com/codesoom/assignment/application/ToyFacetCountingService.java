@@ -0,0 +1,47 @@
+package com.codesoom.assignment.application;
+
+import com.codesoom.assignment.application.facets.ToyFacetCounter;
+import com.codesoom.assignment.application.facets.ToyFacets;
+import com.codesoom.assignment.application.interfaces.ToyFacetService;
+import com.codesoom.assignment.domain.ToyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class ToyFacetCountingService implements ToyFacetService {
+    private final ToyFacetCounter counter;
+    private final ToyRepository repository;
+    private final boolean recountOnStartup;
+
+    public ToyFacetCountingService(ToyFacetCounter counter, ToyRepository repository,
+                                   @Value("${products.facets.recount-on-startup}") boolean recountOnStartup) {
+        this.counter = counter;
+        this.repository = repository;
+        this.recountOnStartup = recountOnStartup;
+    }
+
+    @Override
+    public ToyFacets showFacets() {
+        return counter.snapshot();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ToyFacets recountFacets() {
+        counter.reset(repository.countByMaker(), repository.countByPriceBucket(counter.getPriceBounds()));
+        return counter.snapshot();
+    }
+
+    /**
+     * 애플리케이션이 요청을 받을 준비가 되면 데이터베이스에서 장난감 수를 센다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recountFacetsOnStartup() {
+        if (recountOnStartup) {
+            recountFacets();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.codesoom.assignment.application;
+
+import com.codesoom.assignment.domain.ToyProducerRepository;
+import com.codesoom.assignment.domain.entities.ToyProducer;
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 생산자 이름에 해당하는 ToyProducer를 찾고, 없다면 생성한다
+ * <p>
+ * 이름별 생산자 id를 크기가 제한된 캐시에 보관하여 이미 알고 있는 생산자는 조회나 저장 없이 재사용한다.
+ * 같은 이름을 동시에 생성하려 하면 이름의 유니크 제약으로 한 쪽만 저장되고, 나머지는 저장된 생산자를 다시 조회한다.
+ * </p>
+ */
+@Component
+public class ToyProducerResolver {
+    private final ToyProducerRepository repository;
+    private final TransactionTemplate newTransaction;
+    private final LoadingCache<String, Long> idsByName;
+
+    public ToyProducerResolver(ToyProducerRepository repository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${products.producer-cache.max-size}") long maxCacheSize) {
+        this.repository = repository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.idsByName = CacheBuilder.newBuilder()
+                .maximumSize(maxCacheSize)
+                .build(new CacheLoader<String, Long>() {
+                    @Override
+                    public Long load(String name) {
+                        return findOrCreate(name).getId();
+                    }
+                });
+    }
+
+    /**
+     * 이름에 해당하는 생산자를 반환한다
+     * <p>
+     * 반환된 생산자는 영속성 컨텍스트에 속하지 않으며, 연관관계 설정에 필요한 id와 이름만 가진다
+     *
+     * @param name 생산자 이름
+     * @return 생산자
+     * </p>
+     */
+    public ToyProducer resolve(String name) {
+        try {
+            return ToyProducer.builder()
+                    .id(idsByName.getUnchecked(name))
+                    .name(name)
+                    .build();
+        } catch (UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        }
+    }
+
+    private ToyProducer findOrCreate(String name) {
+        return repository.findFirstByNameOrderByIdAsc(name)
+                .orElseGet(() -> create(name));
+    }
+
+    private ToyProducer create(String name) {
+        try {
+            return newTransaction.execute(status -> repository.save(ToyProducer.builder()
+                    .name(name)
+                    .build()));
+        } catch (DataIntegrityViolationException e) {
+            return repository.findFirstByNameOrderByIdAsc(name)
+                    .orElseThrow(() -> e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.codesoom.assignment.application;
+
+import com.codesoom.assignment.application.interfaces.ToyExportService;
+import com.codesoom.assignment.application.interfaces.ToySearchService;
+import com.codesoom.assignment.application.search.ToySearchIndex;
+import com.codesoom.assignment.domain.ToyRepository;
+import com.codesoom.assignment.domain.projections.ToySummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+public class ToySearchingService implements ToySearchService {
+    private final ToySearchIndex index;
+    private final ToyRepository repository;
+    private final ToyExportService exportService;
+    private final int maxPageSize;
+    private final boolean rebuildOnStartup;
+
+    public ToySearchingService(ToySearchIndex index, ToyRepository repository, ToyExportService exportService,
+                               @Value("${products.page.max-size}") int maxPageSize,
+                               @Value("${products.search.rebuild-on-startup}") boolean rebuildOnStartup) {
+        this.index = index;
+        this.repository = repository;
+        this.exportService = exportService;
+        this.maxPageSize = maxPageSize;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ToySummary> search(String query, boolean fuzzy, Long cursor, int size) {
+        int boundedSize = Math.max(1, Math.min(size, maxPageSize));
+        List<Long> ids = index.search(query, fuzzy, cursor == null ? 0L : cursor, boundedSize + 1);
+        boolean hasNext = ids.size() > boundedSize;
+        List<ToySummary> summaries = ids.isEmpty()
+                ? List.of()
+                : repository.findSummariesByIdIn(hasNext ? ids.subList(0, boundedSize) : ids);
+        return new SliceImpl<>(summaries, PageRequest.of(0, boundedSize), hasNext);
+    }
+
+    @Override
+    public int rebuildIndex() {
+        return index.rebuild(exportService::exportAll);
+    }
+
+    @Override
+    public int indexedCount() {
+        return index.size();
+    }
+
+    /**
+     * 애플리케이션이 요청을 받을 준비가 되면 검색 색인을 만든다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndexOnStartup() {
+        if (rebuildOnStartup) {
+            rebuildIndex();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.codesoom.assignment.application;
+
+import com.codesoom.assignment.application.interfaces.ToyStreamService;
+import com.codesoom.assignment.domain.projections.ToySummary;
+import com.codesoom.assignment.domain.reactive.ReactiveToyRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+@Service
+public class ToyStreamingService implements ToyStreamService {
+    private final ReactiveToyRepository repository;
+
+    public ToyStreamingService(ReactiveToyRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public Flux<ToySummary> streamSummaries(Long cursor, Integer size) {
+        return repository.findSummariesByIdGreaterThan(
+                cursor == null ? 0L : cursor,
+                size == null ? Integer.MAX_VALUE : Math.max(1, size));
+    }
+}
@@ -1,20 +1,32 @@
 package com.codesoom.assignment.application;
 
 import com.codesoom.assignment.application.exceptions.UserNotFoundException;
+import com.codesoom.assignment.application.exceptions.UserVersionMismatchException;
 import com.codesoom.assignment.application.interfaces.*;
+import com.codesoom.assignment.domain.Keyset;
 import com.codesoom.assignment.domain.UserRepository;
+import com.codesoom.assignment.domain.UserSort;
 import com.codesoom.assignment.domain.entities.User;
+import com.codesoom.assignment.domain.projections.VersionSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
 public class UserCrudService implements UserShowService, UserCreateService,
         UserUpdateService, UserDeleteService {
     private final UserRepository repository;
+    private final int maxPageSize;
 
-    public UserCrudService(UserRepository repository) {
+    public UserCrudService(UserRepository repository, @Value("${users.page.max-size}") int maxPageSize) {
         this.repository = repository;
+        this.maxPageSize = maxPageSize;
     }
 
     @Override
@@ -22,6 +34,19 @@ public class UserCrudService implements UserShowService, UserCreateService,
         return repository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<User> showPage(UserSort sort, Keyset after, int size) {
+        Pageable pageable = PageRequest.of(0, Math.max(1, Math.min(size, maxPageSize)), sort.toSort());
+        if (after == null) {
+            return repository.findPage(pageable);
+        }
+        if (sort == UserSort.NAME) {
+            return repository.findPageAfterName((String) after.getValue(), after.getId(), pageable);
+        }
+        return repository.findPageBeforeCreatedAt((LocalDateTime) after.getValue(), after.getId(), pageable);
+    }
+
     @Override
     public User showById(Long id) {
         return repository.findById(id).stream()
@@ -29,6 +54,17 @@ public class UserCrudService implements UserShowService, UserCreateService,
                 .orElseThrow(() -> new UserNotFoundException(id));
     }
 
+    @Override
+    public Long showVersionById(Long id) {
+        return repository.findVersionById(id)
+                .orElseThrow(() -> new UserNotFoundException(id));
+    }
+
+    @Override
+    public VersionSummary showVersionSummary() {
+        return repository.findVersionSummary();
+    }
+
     @Override
     public User create(User user) {
         User userSaving = User.builder()
@@ -40,27 +76,47 @@ public class UserCrudService implements UserShowService, UserCreateService,
     }
 
     @Override
+    @Transactional
     public User update(Long id, User user) {
-        if (!repository.existsById(id)) {
+        if (repository.updateColumns(id, user.getName(), user.getEmail(), user.getPassword()) == 0) {
             throw new UserNotFoundException(id);
         }
 
-        User userUpdating = User.builder()
+        return User.builder()
                 .id(id)
                 .name(user.getName())
                 .email(user.getEmail())
                 .password(user.getPassword())
                 .build();
-        return repository.save(userUpdating);
     }
 
     @Override
+    @Transactional
+    public User patch(Long id, User user, Long expectedVersion) {
+        User userPatching = repository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException(id));
+        if (expectedVersion != null && !expectedVersion.equals(userPatching.getVersion())) {
+            throw new UserVersionMismatchException(id);
+        }
+
+        if (user.getName() != null) {
+            userPatching.changeName(user.getName());
+        }
+        if (user.getEmail() != null) {
+            userPatching.changeEmail(user.getEmail());
+        }
+        if (user.getPassword() != null) {
+            userPatching.changePassword(user.getPassword());
+        }
+        return userPatching;
+    }
+
+    @Override
+    @Transactional
     public void deleteBy(Long id) {
-        if (!repository.existsById(id)) {
+        if (repository.deleteRow(id) == 0) {
             throw new UserNotFoundException(id);
         }
-
-        repository.deleteById(id);
     }
 }
 
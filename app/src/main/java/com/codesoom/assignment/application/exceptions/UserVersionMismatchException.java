@@ -0,0 +1,7 @@
+package com.codesoom.assignment.application.exceptions;
+
+public class UserVersionMismatchException extends RuntimeException {
+    public UserVersionMismatchException(Long id) {
+        super("User version mismatch: " + id);
+    }
+}
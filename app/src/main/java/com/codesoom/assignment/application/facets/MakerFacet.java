@@ -0,0 +1,15 @@
+package com.codesoom.assignment.application.facets;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 생산자 하나의 장난감 수
+ */
+@Getter
+@AllArgsConstructor
+public class MakerFacet {
+    private final String maker;
+
+    private final long count;
+}
@@ -0,0 +1,22 @@
+package com.codesoom.assignment.application.facets;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 가격 구간 하나의 장난감 수
+ * <p>
+ * 구간은 min 이상 max 미만이며, 첫 구간은 min이, 마지막 구간은 max가 null이다
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+public class PriceFacet {
+    private final BigDecimal min;
+
+    private final BigDecimal max;
+
+    private final long count;
+}
@@ -0,0 +1,149 @@
+package com.codesoom.assignment.application.facets;
+
+import com.codesoom.assignment.domain.projections.MakerCount;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 생산자별, 가격 구간별 장난감 수를 메모리에 보관하는 카운터
+ * <p>
+ * 장난감이 추가, 수정, 삭제될 때마다 해당 생산자와 가격 구간의 수만 바꾸므로,
+ * 조회 비용은 장난감 수가 아닌 생산자 수와 구간 수에 비례한다.
+ * 트랜잭션 안에서 변경하면 커밋된 뒤에 반영하므로 롤백된 변경은 수에 남지 않는다.
+ * 다시 세는 동안 커밋된 변경은 두 번 세거나 빠질 수 있으므로, 데이터베이스로부터 다시 세어 바로잡는다.
+ * </p>
+ */
+@Component
+public class ToyFacetCounter {
+    private final BigDecimal[] bounds;
+    private final Map<String, Long> makerCounts = new HashMap<>();
+    private final long[] priceCounts;
+
+    /**
+     * 가격 구간 경계로 카운터를 만든다
+     * <p>
+     *
+     * @param bounds 오름차순으로 정렬된 '원' 단위의 구간 경계, 하나 이상이어야 한다
+     * @throws IllegalArgumentException 경계가 없거나 오름차순이 아닌 경우
+     * </p>
+     */
+    public ToyFacetCounter(@Value("${products.facets.price-bounds}") BigDecimal[] bounds) {
+        if (bounds.length == 0) {
+            throw new IllegalArgumentException("At least one price bound is required");
+        }
+        for (int index = 1; index < bounds.length; index++) {
+            if (bounds[index - 1].compareTo(bounds[index]) >= 0) {
+                throw new IllegalArgumentException("Price bounds must be in ascending order");
+            }
+        }
+        this.bounds = bounds.clone();
+        this.priceCounts = new long[bounds.length + 1];
+    }
+
+    /**
+     * 가격 구간 경계를 반환한다
+     */
+    public List<BigDecimal> getPriceBounds() {
+        return List.of(bounds);
+    }
+
+    /**
+     * 장난감 하나를 생산자와 가격 구간에 더한다
+     * <p>
+     *
+     * @param maker 생산자 이름
+     * @param price '원' 단위의 가격
+     * </p>
+     */
+    public void add(String maker, BigDecimal price) {
+        int bucket = bucketOf(price);
+        afterCommit(() -> change(maker, bucket, 1));
+    }
+
+    /**
+     * 장난감 하나를 생산자와 가격 구간에서 뺀다
+     * <p>
+     *
+     * @param maker 생산자 이름
+     * @param price '원' 단위의 가격
+     * </p>
+     */
+    public void remove(String maker, BigDecimal price) {
+        int bucket = bucketOf(price);
+        afterCommit(() -> change(maker, bucket, -1));
+    }
+
+    /**
+     * 데이터베이스에서 센 수로 모든 수를 바꾼다
+     * <p>
+     *
+     * @param makers      생산자별 장난감 수
+     * @param priceCounts 구간 번호를 인덱스로 하는 장난감 수
+     * </p>
+     */
+    public synchronized void reset(List<MakerCount> makers, long[] priceCounts) {
+        makerCounts.clear();
+        makers.forEach(maker -> makerCounts.put(maker.getMaker(), maker.getCount()));
+        System.arraycopy(priceCounts, 0, this.priceCounts, 0, this.priceCounts.length);
+    }
+
+    /**
+     * 현재 수를 반환한다
+     * <p>
+     * 생산자는 장난감이 많은 순서, 같다면 이름 순서로 정렬하며 장난감이 없는 생산자는 빠진다.
+     * 가격 구간은 장난감이 없더라도 모두 낮은 가격 순서로 반환한다.
+     *
+     * @return 생산자별, 가격 구간별 장난감 수
+     * </p>
+     */
+    public synchronized ToyFacets snapshot() {
+        List<MakerFacet> makers = makerCounts.entrySet().stream()
+                .map(entry -> new MakerFacet(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(MakerFacet::getCount).reversed()
+                        .thenComparing(MakerFacet::getMaker, Comparator.nullsLast(Comparator.naturalOrder())))
+                .collect(Collectors.toList());
+
+        List<PriceFacet> prices = new ArrayList<>(priceCounts.length);
+        for (int bucket = 0; bucket < priceCounts.length; bucket++) {
+            prices.add(new PriceFacet(
+                    bucket == 0 ? null : bounds[bucket - 1],
+                    bucket == bounds.length ? null : bounds[bucket],
+                    priceCounts[bucket]));
+        }
+        return new ToyFacets(makers, prices);
+    }
+
+    private int bucketOf(BigDecimal price) {
+        int index = Arrays.binarySearch(bounds, price);
+        return index >= 0 ? index + 1 : -(index + 1);
+    }
+
+    private synchronized void change(String maker, int bucket, long delta) {
+        makerCounts.merge(maker, delta, (count, added) -> count + added == 0 ? null : count + added);
+        priceCounts[bucket] += delta;
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
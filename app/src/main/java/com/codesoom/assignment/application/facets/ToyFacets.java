@@ -0,0 +1,17 @@
+package com.codesoom.assignment.application.facets;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 생산자별, 가격 구간별 장난감 수
+ */
+@Getter
+@AllArgsConstructor
+public class ToyFacets {
+    private final List<MakerFacet> makers;
+
+    private final List<PriceFacet> prices;
+}
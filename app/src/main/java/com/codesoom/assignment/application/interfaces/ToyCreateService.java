@@ -2,6 +2,8 @@ package com.codesoom.assignment.application.interfaces;
 
 import com.codesoom.assignment.domain.entities.Toy;
 
+import java.util.List;
+
 /**
  * 상품 타입 생성에 대한 비지니스 로직을 처리한다
  * <p>
@@ -18,4 +20,13 @@ public interface ToyCreateService {
      * </p>
      */
     Toy create(Toy toy);
+
+    /**
+     * 여러 Toy 엔티티를 하나의 트랜잭션에서 생성하고, 생성된 객체들을 요청 순서대로 반환한다.
+     * <p>
+     * @param toys Toy 객체 List
+     * @return 생성된 Toy 객체 List
+     * </p>
+     */
+    List<Toy> createAll(List<Toy> toys);
 }
@@ -0,0 +1,24 @@
+package com.codesoom.assignment.application.interfaces;
+
+import com.codesoom.assignment.domain.projections.ToySummary;
+
+import java.util.function.Consumer;
+
+/**
+ * 상품 전체 내보내기에 대한 비지니스 로직을 처리한다
+ * <p>
+ * All Known Implementing Classes:
+ * ToyCrudService
+ * </p>
+ */
+public interface ToyExportService {
+    /**
+     * 모든 Toy Projection을 id 오름차순으로 하나씩 consumer에 전달한다
+     * <p>
+     * 전체 목록을 메모리에 올리지 않고 데이터베이스 커서에서 읽는 대로 전달한다
+     *
+     * @param consumer Toy Projection을 전달 받아 처리할 객체
+     * </p>
+     */
+    void exportAll(Consumer<ToySummary> consumer);
+}
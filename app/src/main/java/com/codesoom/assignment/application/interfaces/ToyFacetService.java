@@ -0,0 +1,31 @@
+package com.codesoom.assignment.application.interfaces;
+
+import com.codesoom.assignment.application.facets.ToyFacets;
+
+/**
+ * 상품 목록의 생산자별, 가격 구간별 집계에 대한 비지니스 로직을 처리한다
+ * <p>
+ * All Known Implementing Classes:
+ * ToyFacetCountingService
+ * </p>
+ */
+public interface ToyFacetService {
+    /**
+     * 메모리에 보관된 생산자별, 가격 구간별 장난감 수를 반환한다
+     * <p>
+     * 장난감을 조회하지 않으므로 비용은 생산자 수와 구간 수에 비례한다
+     *
+     * @return 생산자별, 가격 구간별 장난감 수
+     * </p>
+     */
+    ToyFacets showFacets();
+
+    /**
+     * 데이터베이스에서 GROUP BY로 다시 세어 메모리의 수를 바로잡는다
+     * <p>
+     *
+     * @return 다시 센 생산자별, 가격 구간별 장난감 수
+     * </p>
+     */
+    ToyFacets recountFacets();
+}
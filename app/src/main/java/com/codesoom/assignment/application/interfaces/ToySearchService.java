@@ -0,0 +1,46 @@
+package com.codesoom.assignment.application.interfaces;
+
+import com.codesoom.assignment.domain.projections.ToySummary;
+import org.springframework.data.domain.Slice;
+
+/**
+ * 상품 검색에 대한 비지니스 로직을 처리한다
+ * <p>
+ * All Known Implementing Classes:
+ * ToySearchingService
+ * </p>
+ */
+public interface ToySearchService {
+    /**
+     * 질의의 모든 검색어가 상품 이름 또는 생산자 이름과 일치하는 Toy Projection을 커서 이후부터 id 오름차순으로 반환한다
+     * <p>
+     * 검색어는 접두어로 일치하며, fuzzy라면 철자가 조금 다른 검색어에도 일치한다
+     *
+     * @param query  검색 질의
+     * @param fuzzy  오타 허용 여부
+     * @param cursor 이전 페이지의 마지막 Toy id, 첫 페이지라면 null
+     * @param size   요청한 페이지 크기
+     * @return 장난감 Projection을 내부 요소로 하는 Slice, 다음 페이지 존재여부를 포함한다
+     * </p>
+     */
+    Slice<ToySummary> search(String query, boolean fuzzy, Long cursor, int size);
+
+    /**
+     * 데이터베이스의 모든 상품으로 검색 색인을 다시 만든다
+     * <p>
+     *
+     * @return 색인된 상품 수
+     * @throws IllegalStateException 이미 다시 만드는 중인 경우
+     * </p>
+     */
+    int rebuildIndex();
+
+    /**
+     * 검색 색인에 들어 있는 상품 수를 반환한다
+     * <p>
+     *
+     * @return 색인된 상품 수
+     * </p>
+     */
+    int indexedCount();
+}
@@ -1,6 +1,12 @@
 package com.codesoom.assignment.application.interfaces;
 
+import com.codesoom.assignment.domain.Keyset;
+import com.codesoom.assignment.domain.ToyFilter;
+import com.codesoom.assignment.domain.ToySort;
 import com.codesoom.assignment.domain.entities.Toy;
+import com.codesoom.assignment.domain.projections.ToySummary;
+import com.codesoom.assignment.domain.projections.VersionSummary;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -13,19 +19,89 @@ import java.util.List;
  */
 public interface ToyShowService {
     /**
-     * 모든 Toy 엔티티를 List 형태로 반환한다
+     * 모든 Toy의 Projection을 List 형태로 반환한다
      * <p>
-     * @return Toy 엔티티를 내부 요소로 하는 List Collection
+     * @return ToySummary를 내부 요소로 하는 List Collection
      * </p>
      */
-    List<Toy> showAll();
+    List<ToySummary> showAllSummaries();
+
+    /**
+     * 커서 이후의 Toy Projection을 id 오름차순으로 최대 size 만큼 반환한다
+     * <p>
+     * size는 설정된 최대 페이지 크기를 넘지 않도록 보정된다
+     *
+     * @param cursor 이전 페이지의 마지막 Toy id, 첫 페이지라면 null
+     * @param size   요청한 페이지 크기
+     * @return ToySummary를 내부 요소로 하는 Slice
+     * </p>
+     */
+    Slice<ToySummary> showPage(Long cursor, int size);
+
+    /**
+     * 필터의 모든 조건을 만족하는 커서 이후의 Toy Projection을 id 오름차순으로 최대 size 만큼 반환한다
+     * <p>
+     * size는 설정된 최대 페이지 크기를 넘지 않도록 보정된다
+     *
+     * @param filter 가격 범위, 생산자, 이름 접두어 조건
+     * @param cursor 이전 페이지의 마지막 Toy id, 첫 페이지라면 null
+     * @param size   요청한 페이지 크기
+     * @return ToySummary를 내부 요소로 하는 Slice
+     * </p>
+     */
+    Slice<ToySummary> showFilteredPage(ToyFilter filter, Long cursor, int size);
+
+    /**
+     * 필터의 모든 조건을 만족하는 Toy Projection을 정렬 순서에서 키셋 이후부터 최대 size 만큼 반환한다
+     * <p>
+     * 정렬 키가 같은 Toy는 id로 순서를 정한다. size는 설정된 최대 페이지 크기를 넘지 않도록 보정된다
+     *
+     * @param filter 가격 범위, 생산자, 이름 접두어 조건
+     * @param sort   정렬 순서
+     * @param after  이전 페이지의 마지막 행 위치, 첫 페이지라면 null
+     * @param size   요청한 페이지 크기
+     * @return ToySummary를 내부 요소로 하는 Slice
+     * </p>
+     */
+    Slice<ToySummary> showSortedPage(ToyFilter filter, ToySort sort, Keyset after, int size);
 
     /**
      * 매개변수로 전달 받은 id에 해당하는 Toy 엔티티를 반환한다
      * <p>
+     * 2차 캐시에 있는 Toy와 생산자는 데이터베이스를 조회하지 않는다
+     *
      * @param id Toy 엔티티의 Id에 해당
-     * @return Toy 엔티티
+     * @return 생산자가 초기화된 Toy 엔티티
      * </p>
      */
     Toy showById(Long id);
+
+    /**
+     * 매개변수로 전달 받은 id에 해당하는 Toy의 버전을 반환한다
+     * <p>
+     * 엔티티를 조회하지 않고 버전 컬럼만 조회한다
+     *
+     * @param id Toy 엔티티의 Id에 해당
+     * @return Toy의 버전
+     * </p>
+     */
+    Long showVersionById(Long id);
+
+    /**
+     * 커서 이후의 Toy 목록의 버전 요약을 반환한다
+     * <p>
+     * @param cursor 이전 페이지의 마지막 Toy id, 전체 목록이라면 null
+     * @return 개수, 최대 id, 버전의 합을 담은 VersionSummary
+     * </p>
+     */
+    VersionSummary showVersionSummary(Long cursor);
+
+    /**
+     * 매개변수로 전달 받은 id에 해당하는 Toy Projection을 반환한다
+     * <p>
+     * @param id Toy 엔티티의 Id에 해당
+     * @return ToySummary
+     * </p>
+     */
+    ToySummary showSummaryById(Long id);
 }
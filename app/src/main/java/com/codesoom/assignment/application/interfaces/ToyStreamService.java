@@ -0,0 +1,25 @@
+package com.codesoom.assignment.application.interfaces;
+
+import com.codesoom.assignment.domain.projections.ToySummary;
+import reactor.core.publisher.Flux;
+
+/**
+ * 상품 반응형 조회에 대한 비지니스 로직을 처리한다
+ * <p>
+ * All Known Implementing Classes:
+ * ToyStreamingService
+ * </p>
+ */
+public interface ToyStreamService {
+    /**
+     * 커서 이후의 Toy Projection을 id 오름차순으로 흘려보낸다
+     * <p>
+     * 구독자가 요청한 만큼만 데이터베이스에서 읽으며, size가 없다면 남은 장난감을 모두 흘려보낸다
+     *
+     * @param cursor 이전 페이지의 마지막 Toy id, 처음부터라면 null
+     * @param size   최대 개수, 제한하지 않는다면 null
+     * @return ToySummary의 Flux
+     * </p>
+     */
+    Flux<ToySummary> streamSummaries(Long cursor, Integer size);
+}
@@ -1,6 +1,9 @@
 package com.codesoom.assignment.application.interfaces;
 
 import com.codesoom.assignment.domain.entities.Toy;
+import com.codesoom.assignment.domain.vos.Won;
+
+import java.util.Map;
 
 /**
  * 상품의 수정 관련 비지니스 로직을 처리한다
@@ -18,4 +21,28 @@ public interface ToyUpdateService {
      * </p>
      */
     Toy update(Long id, Toy toy);
+
+    /**
+     * 매개변수로 전달 받은 id에 해당하는 Toy 엔티티에 값이 있는 필드만 반영하고 수정된 Toy 엔티티를 반환한다
+     * <p>
+     * null인 필드는 변경하지 않으며, 실제로 값이 바뀐 컬럼만 update 된다.
+     * 조회한 뒤 다른 트랜잭션이 먼저 수정했다면 커밋 시 OptimisticLockingFailureException이 발생한다.
+     *
+     * @param id              Toy 엔티티의 Id에 해당
+     * @param toy             변경할 필드만 값을 가진 Toy 엔티티
+     * @param expectedVersion 수정할 Toy의 버전, 버전을 확인하지 않는다면 null
+     * @return 수정된 Toy 엔티티
+     * @throws com.codesoom.assignment.application.exceptions.ProductVersionMismatchException 버전이 다른 경우
+     * </p>
+     */
+    Toy patch(Long id, Toy toy, Long expectedVersion);
+
+    /**
+     * 여러 상품의 가격만 엔티티 조회 없이 일괄 수정하고, 상품별 수정 여부를 반환한다
+     * <p>
+     * @param prices 상품 id를 키로, 새 가격을 값으로 하는 Map
+     * @return 요청한 상품 id를 요청 순서대로 키로, 수정 여부를 값으로 하는 Map. 존재하지 않는 상품은 false
+     * </p>
+     */
+    Map<Long, Boolean> updatePrices(Map<Long, Won> prices);
 }
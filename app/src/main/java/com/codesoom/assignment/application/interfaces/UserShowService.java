@@ -1,6 +1,10 @@
 package com.codesoom.assignment.application.interfaces;
 
+import com.codesoom.assignment.domain.Keyset;
+import com.codesoom.assignment.domain.UserSort;
 import com.codesoom.assignment.domain.entities.User;
+import com.codesoom.assignment.domain.projections.VersionSummary;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -20,6 +24,19 @@ public interface UserShowService {
      */
     List<User> showAll();
 
+    /**
+     * User 엔티티를 정렬 순서에서 키셋 이후부터 최대 size 만큼 반환한다
+     * <p>
+     * 정렬 키가 같은 User는 id로 순서를 정한다. size는 설정된 최대 페이지 크기를 넘지 않도록 보정된다
+     *
+     * @param sort  정렬 순서
+     * @param after 이전 페이지의 마지막 행 위치, 첫 페이지라면 null
+     * @param size  요청한 페이지 크기
+     * @return User 엔티티를 내부 요소로 하는 Slice
+     * </p>
+     */
+    Slice<User> showPage(UserSort sort, Keyset after, int size);
+
     /**
      * 매개변수로 전달 받은 id에 해당하는 User 엔티티를 반환한다
      * <p>
@@ -28,4 +45,23 @@ public interface UserShowService {
      * </p>
      */
     User showById(Long id);
+
+    /**
+     * 매개변수로 전달 받은 id에 해당하는 User의 버전을 반환한다
+     * <p>
+     * 엔티티를 조회하지 않고 버전 컬럼만 조회한다
+     *
+     * @param id User 엔티티의 Id에 해당
+     * @return User의 버전
+     * </p>
+     */
+    Long showVersionById(Long id);
+
+    /**
+     * 모든 User 목록의 버전 요약을 반환한다
+     * <p>
+     * @return 개수, 최대 id, 버전의 합을 담은 VersionSummary
+     * </p>
+     */
+    VersionSummary showVersionSummary();
 }
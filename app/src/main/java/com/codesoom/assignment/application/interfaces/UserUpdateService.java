@@ -18,4 +18,19 @@ public interface UserUpdateService {
      * </p>
      */
     User update(Long id, User user);
+
+    /**
+     * 매개변수로 전달 받은 id에 해당하는 User 엔티티에 값이 있는 필드만 반영하고 수정된 User 엔티티를 반환한다
+     * <p>
+     * null인 필드는 변경하지 않으며, 실제로 값이 바뀐 컬럼만 update 된다.
+     * 조회한 뒤 다른 트랜잭션이 먼저 수정했다면 커밋 시 OptimisticLockingFailureException이 발생한다.
+     *
+     * @param id              User 엔티티의 Id에 해당
+     * @param user            변경할 필드만 값을 가진 User 엔티티
+     * @param expectedVersion 수정할 User의 버전, 버전을 확인하지 않는다면 null
+     * @return 수정된 User 엔티티
+     * @throws com.codesoom.assignment.application.exceptions.UserVersionMismatchException 버전이 다른 경우
+     * </p>
+     */
+    User patch(Long id, User user, Long expectedVersion);
 }
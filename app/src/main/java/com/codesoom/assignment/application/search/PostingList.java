@@ -0,0 +1,89 @@
+package com.codesoom.assignment.application.search;
+
+import java.util.Arrays;
+
+/**
+ * 한 검색어를 포함한 상품 id를 오름차순으로 담는다
+ * <p>
+ * 박싱 없이 정렬된 long 배열로 보관하므로, 수백만 개의 id도 작은 메모리로 이진 탐색할 수 있다.
+ * 동기화하지 않으므로 ToySearchIndex의 잠금 안에서만 사용한다.
+ * </p>
+ */
+final class PostingList {
+    static final long NO_MORE = -1;
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * id를 추가한다, 이미 있다면 무시한다
+     * <p>
+     *
+     * @param id 상품 id
+     * </p>
+     */
+    void add(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return;
+        }
+        int insertion = -index - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, insertion, ids, insertion + 1, size - insertion);
+        ids[insertion] = id;
+        size++;
+    }
+
+    /**
+     * id를 제거한다, 없다면 무시한다
+     * <p>
+     *
+     * @param id 상품 id
+     * </p>
+     */
+    void remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * from 위치부터 target 이상인 첫 id의 위치를 반환한다
+     * <p>
+     *
+     * @param target 찾을 최소 id
+     * @param from   탐색을 시작할 위치
+     * @return 위치, 없다면 size
+     * </p>
+     */
+    int ceiling(long target, int from) {
+        int index = Arrays.binarySearch(ids, from, size, target);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * 위치에 해당하는 id를 반환한다
+     * <p>
+     *
+     * @param index 위치
+     * @return id, 위치가 끝을 넘었다면 NO_MORE
+     * </p>
+     */
+    long idAt(int index) {
+        return index < size ? ids[index] : NO_MORE;
+    }
+}
@@ -0,0 +1,72 @@
+package com.codesoom.assignment.application.search;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * 상품 이름과 생산자 이름을 검색어로 나누고, 검색어 사이의 편집 거리를 계산한다
+ */
+final class SearchTerms {
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchTerms() {
+    }
+
+    /**
+     * 문자열들을 글자와 숫자가 아닌 문자로 나눈 소문자 검색어를 중복 없이 반환한다
+     * <p>
+     *
+     * @param texts 나눌 문자열, null은 무시한다
+     * @return 검색어 배열
+     * </p>
+     */
+    static String[] of(String... texts) {
+        return Arrays.stream(texts)
+                .filter(Objects::nonNull)
+                .flatMap(text -> SEPARATOR.splitAsStream(text.toLowerCase(Locale.ROOT)))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    /**
+     * 두 검색어의 편집 거리가 max 이하인지 반환한다
+     * <p>
+     * 행마다 최솟값이 max를 넘으면 더 계산하지 않는다
+     *
+     * @param source 기준 검색어
+     * @param target 비교할 검색어
+     * @param max    허용하는 최대 편집 거리
+     * @return 편집 거리가 max 이하인지 여부
+     * </p>
+     */
+    static boolean withinDistance(String source, String target, int max) {
+        if (Math.abs(source.length() - target.length()) > max) {
+            return false;
+        }
+
+        int[] previous = new int[target.length() + 1];
+        int[] current = new int[target.length() + 1];
+        for (int j = 0; j <= target.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= source.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= target.length(); j++) {
+                int cost = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[target.length()] <= max;
+    }
+}
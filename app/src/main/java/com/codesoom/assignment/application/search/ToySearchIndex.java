@@ -0,0 +1,284 @@
+package com.codesoom.assignment.application.search;
+
+import com.codesoom.assignment.domain.projections.ToySummary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 상품 이름과 생산자 이름으로 상품 id를 찾는 메모리 역색인
+ * <p>
+ * 검색어 사전은 정렬되어 있어 접두어에 해당하는 검색어를 범위로 찾고,
+ * 검색어마다 상품 id를 오름차순으로 보관해 여러 검색어의 교집합을 id 순서대로 필요한 만큼만 계산한다.
+ * 검색은 읽기 잠금, 변경은 쓰기 잠금 안에서 실행된다.
+ * 트랜잭션 안에서 변경하면 커밋된 뒤에 색인에 반영하므로 롤백된 변경은 색인에 남지 않는다.
+ * </p>
+ */
+@Component
+public class ToySearchIndex {
+    private static final int FUZZY_MIN_LENGTH = 3;
+    private static final int FUZZY_TWO_EDITS_LENGTH = 6;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Index index = new Index();
+    private List<Consumer<Index>> pending;
+
+    /**
+     * 상품을 색인하거나, 이미 색인되어 있다면 이름과 생산자 이름을 새로 색인한다
+     * <p>
+     *
+     * @param id    상품 id
+     * @param name  상품 이름
+     * @param maker 생산자 이름
+     * </p>
+     */
+    public void put(Long id, String name, String maker) {
+        String[] terms = SearchTerms.of(name, maker);
+        afterCommit(() -> apply(target -> target.put(id, terms)));
+    }
+
+    /**
+     * 상품을 색인에서 지운다
+     * <p>
+     *
+     * @param id 삭제된 상품 id
+     * </p>
+     */
+    public void remove(Long id) {
+        afterCommit(() -> apply(target -> target.remove(id)));
+    }
+
+    /**
+     * 질의의 모든 검색어와 일치하는 상품 id를 커서 이후부터 오름차순으로 최대 size 개 반환한다
+     * <p>
+     * 질의의 검색어는 같은 검색어와 그 검색어로 시작하는 검색어에 일치한다.
+     * fuzzy라면 3글자 이상의 검색어는 편집 거리 1(6글자 이상이면 2) 이하이면서 첫 글자가 같은 검색어에도 일치한다.
+     * 질의에 검색어가 없다면 빈 List를 반환한다.
+     *
+     * @param query  검색 질의
+     * @param fuzzy  오타 허용 여부
+     * @param cursor 이전 페이지의 마지막 상품 id
+     * @param size   최대 개수
+     * @return 상품 id List
+     * </p>
+     */
+    public List<Long> search(String query, boolean fuzzy, long cursor, int size) {
+        String[] terms = SearchTerms.of(query);
+        if (terms.length == 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<TermUnion> unions = new ArrayList<>(terms.length);
+            for (String term : terms) {
+                List<PostingList> lists = index.matching(term, fuzzy);
+                if (lists.isEmpty()) {
+                    return List.of();
+                }
+                unions.add(new TermUnion(lists));
+            }
+            return intersect(unions, cursor, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 상품 수를 반환한다
+     * <p>
+     *
+     * @return 색인된 상품 수
+     * </p>
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * source가 전달하는 상품으로 새 색인을 만든 뒤 기존 색인과 바꾼다
+     * <p>
+     * 새 색인을 만드는 동안에도 기존 색인으로 검색할 수 있으며,
+     * 그동안 반영된 변경은 새 색인에도 다시 반영한 뒤 바꾼다.
+     *
+     * @param source 모든 상품의 Projection을 하나씩 consumer에 전달하는 함수
+     * @return 새 색인의 상품 수
+     * @throws IllegalStateException 이미 다시 만드는 중인 경우
+     * </p>
+     */
+    public int rebuild(Consumer<Consumer<ToySummary>> source) {
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                throw new IllegalStateException("Search index is already being rebuilt");
+            }
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index rebuilt = new Index();
+        try {
+            source.accept(summary -> rebuilt.put(summary.getId(), SearchTerms.of(summary.getName(), summary.getMaker())));
+        } catch (RuntimeException e) {
+            finishRebuild(null);
+            throw e;
+        }
+        finishRebuild(rebuilt);
+        return rebuilt.size();
+    }
+
+    private void finishRebuild(Index rebuilt) {
+        lock.writeLock().lock();
+        try {
+            if (rebuilt != null) {
+                pending.forEach(change -> change.accept(rebuilt));
+                index = rebuilt;
+            }
+            pending = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<Index> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private static List<Long> intersect(List<TermUnion> unions, long cursor, int size) {
+        List<Long> ids = new ArrayList<>(size);
+        long target = cursor + 1;
+        search:
+        while (ids.size() < size) {
+            for (TermUnion union : unions) {
+                long next = union.advance(target);
+                if (next == PostingList.NO_MORE) {
+                    break search;
+                }
+                if (next != target) {
+                    target = next;
+                    continue search;
+                }
+            }
+            ids.add(target);
+            target++;
+        }
+        return ids;
+    }
+
+    /**
+     * 검색어 사전과 상품별 검색어
+     */
+    private static final class Index {
+        private final NavigableMap<String, PostingList> postings = new TreeMap<>();
+        private final Map<Long, String[]> termsById = new HashMap<>();
+
+        void put(Long id, String[] terms) {
+            remove(id);
+            for (String term : terms) {
+                postings.computeIfAbsent(term, key -> new PostingList()).add(id);
+            }
+            termsById.put(id, terms);
+        }
+
+        void remove(Long id) {
+            String[] terms = termsById.remove(id);
+            if (terms == null) {
+                return;
+            }
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                list.remove(id);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+
+        int size() {
+            return termsById.size();
+        }
+
+        List<PostingList> matching(String term, boolean fuzzy) {
+            List<PostingList> lists = new ArrayList<>(prefixed(term).values());
+            if (fuzzy && term.length() >= FUZZY_MIN_LENGTH) {
+                int maxEdits = term.length() >= FUZZY_TWO_EDITS_LENGTH ? 2 : 1;
+                prefixed(term.substring(0, 1)).forEach((candidate, list) -> {
+                    if (!candidate.startsWith(term) && SearchTerms.withinDistance(term, candidate, maxEdits)) {
+                        lists.add(list);
+                    }
+                });
+            }
+            return lists;
+        }
+
+        private NavigableMap<String, PostingList> prefixed(String prefix) {
+            return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        }
+    }
+
+    /**
+     * 한 검색어에 일치하는 여러 검색어의 상품 id를 합쳐 오름차순으로 탐색한다
+     * <p>
+     * 탐색하는 id는 증가하기만 하므로 검색어마다 마지막 위치부터 이어서 찾는다
+     * </p>
+     */
+    private static final class TermUnion {
+        private final List<PostingList> lists;
+        private final int[] positions;
+
+        TermUnion(Collection<PostingList> lists) {
+            this.lists = new ArrayList<>(lists);
+            this.positions = new int[lists.size()];
+        }
+
+        long advance(long target) {
+            long min = PostingList.NO_MORE;
+            for (int i = 0; i < lists.size(); i++) {
+                PostingList list = lists.get(i);
+                positions[i] = list.ceiling(target, positions[i]);
+                long id = list.idAt(positions[i]);
+                if (id != PostingList.NO_MORE && (min == PostingList.NO_MORE || id < min)) {
+                    min = id;
+                }
+            }
+            return min;
+        }
+    }
+}
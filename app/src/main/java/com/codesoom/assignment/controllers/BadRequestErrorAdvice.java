@@ -0,0 +1,28 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.controllers.dtos.ErrorResponse;
+import com.codesoom.assignment.controllers.dtos.ItemsErrorResponse;
+import com.codesoom.assignment.controllers.exceptions.InvalidItemsException;
+import com.codesoom.assignment.controllers.exceptions.InvalidPageRequestException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ControllerAdvice
+public class BadRequestErrorAdvice {
+    @ResponseBody
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidItemsException.class)
+    public ItemsErrorResponse handleInvalidItems(InvalidItemsException exception) {
+        return new ItemsErrorResponse("Invalid items", exception.getErrors());
+    }
+
+    @ResponseBody
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ErrorResponse handleInvalidPageRequest(InvalidPageRequestException exception) {
+        return new ErrorResponse(exception.getMessage());
+    }
+}
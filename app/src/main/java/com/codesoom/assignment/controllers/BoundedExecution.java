@@ -0,0 +1,21 @@
+package com.codesoom.assignment.controllers;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러의 핸들러가 데이터베이스를 기다리며 블로킹됨을 표시한다
+ * <p>
+ * codesoom.execution.mode가 bounded라면 표시한 컨트롤러의 핸들러는 Tomcat 작업자 스레드 대신
+ * 크기가 제한된 전용 스레드 풀에서 실행되고, 대기열까지 가득 차면 429 Too Many Requests로 거절된다.
+ * 이미 비동기로 응답하는 핸들러는 제외된다.
+ * </p>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface BoundedExecution {
+}
@@ -0,0 +1,39 @@
+package com.codesoom.assignment.controllers;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.time.Duration;
+
+/**
+ * codesoom.execution.mode가 bounded일 때 '@BoundedExecution' 핸들러를 전용 스레드 풀에서 실행하도록 설정한다
+ * <p>
+ * 데이터베이스가 멈춰도 Tomcat 작업자 스레드는 대기열에 작업을 넘긴 즉시 반환되므로
+ * HelloController처럼 데이터베이스를 쓰지 않는 요청은 계속 처리된다.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "codesoom.execution.mode", havingValue = "bounded")
+public class BoundedExecutionConfig {
+    @Bean
+    BoundedHandlerExecutor boundedHandlerExecutor(
+            @Value("${codesoom.execution.bounded.threads}") int threads,
+            @Value("${codesoom.execution.bounded.queue-capacity}") int queueCapacity,
+            @Value("${codesoom.execution.bounded.timeout}") Duration timeout) {
+        return new BoundedHandlerExecutor(threads, queueCapacity, timeout);
+    }
+
+    @Bean
+    WebMvcRegistrations boundedExecutionRegistrations(BoundedHandlerExecutor executor) {
+        return new WebMvcRegistrations() {
+            @Override
+            public RequestMappingHandlerAdapter getRequestMappingHandlerAdapter() {
+                return new BoundedExecutionHandlerAdapter(executor);
+            }
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.codesoom.assignment.controllers;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.ServletInvocableHandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * '@BoundedExecution' 컨트롤러의 핸들러를 BoundedHandlerExecutor에서 실행하는 핸들러 어댑터
+ * <p>
+ * 인자 변환과 검증은 요청 스레드에서 끝내고 핸들러 호출만 비동기 작업으로 넘기므로,
+ * 컨트롤러는 동기 시그니처를 그대로 유지한 채 Callable을 반환한 것처럼 처리된다.
+ * </p>
+ */
+class BoundedExecutionHandlerAdapter extends RequestMappingHandlerAdapter {
+    private static final List<Class<?>> ASYNC_TYPES = List.of(StreamingResponseBody.class, ResponseBodyEmitter.class,
+            Callable.class, WebAsyncTask.class, DeferredResult.class, CompletionStage.class);
+
+    private final BoundedHandlerExecutor executor;
+    private final Map<Method, Boolean> bounded = new ConcurrentHashMap<>();
+
+    BoundedExecutionHandlerAdapter(BoundedHandlerExecutor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    protected ServletInvocableHandlerMethod createInvocableHandlerMethod(HandlerMethod handlerMethod) {
+        if (!bounded.computeIfAbsent(handlerMethod.getMethod(), method -> isBounded(handlerMethod))) {
+            return super.createInvocableHandlerMethod(handlerMethod);
+        }
+        return new ServletInvocableHandlerMethod(handlerMethod) {
+            @Override
+            protected Object doInvoke(Object... args) {
+                return executor.submit(() -> super.doInvoke(args));
+            }
+        };
+    }
+
+    private boolean isBounded(HandlerMethod handlerMethod) {
+        return AnnotatedElementUtils.hasAnnotation(handlerMethod.getBeanType(), BoundedExecution.class)
+                && !isAsync(handlerMethod.getReturnType());
+    }
+
+    private boolean isAsync(MethodParameter returnType) {
+        ResolvableType type = ResolvableType.forMethodParameter(returnType);
+        if (HttpEntity.class.isAssignableFrom(type.toClass())) {
+            type = type.getGeneric();
+        }
+        Class<?> bodyType = type.toClass();
+        return ASYNC_TYPES.stream().anyMatch(asyncType -> asyncType.isAssignableFrom(bodyType));
+    }
+}
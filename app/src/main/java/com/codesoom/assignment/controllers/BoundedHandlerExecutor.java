@@ -0,0 +1,89 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.controllers.exceptions.HandlerOverloadedException;
+import com.codesoom.assignment.metrics.QueryStatisticsPropagation;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 블로킹 핸들러를 실행하는 크기가 제한된 스레드 풀
+ * <p>
+ * 실행 중이거나 기다리는 핸들러가 스레드 수와 대기열 크기의 합에 이르면 새 핸들러를 받지 않는다.
+ * 핸들러는 설정된 타임아웃 안에 끝나야 하며, 타임아웃이 지나면 Spring MVC가 작업을 취소한다.
+ * 허가는 작업이 끝나거나 취소될 때 반환되므로, 타임아웃된 핸들러의 허가는 스레드가 인터럽트에 응답하기 전에 돌아온다.
+ * 핸들러가 실행한 SQL이 요청의 QueryStatistics에 기록되도록 요청 스레드의 기록을 작업 스레드에 전달한다.
+ * </p>
+ */
+class BoundedHandlerExecutor implements DisposableBean {
+    private final int capacity;
+    private final long timeoutMillis;
+    private final Semaphore permits;
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor() {
+        @Override
+        public Future<?> submit(Runnable task) {
+            return submit(Executors.callable(task));
+        }
+
+        @Override
+        public <T> Future<T> submit(Callable<T> task) {
+            FutureTask<T> future = new FutureTask<>(task) {
+                @Override
+                protected void done() {
+                    permits.release();
+                }
+            };
+            execute(future);
+            return future;
+        }
+    };
+
+    BoundedHandlerExecutor(int threads, int queueCapacity, Duration timeout) {
+        this.capacity = threads + queueCapacity;
+        this.timeoutMillis = timeout.toMillis();
+        this.permits = new Semaphore(capacity);
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("bounded-handler-");
+        executor.initialize();
+    }
+
+    /**
+     * 핸들러를 스레드 풀에서 실행하는 비동기 작업을 반환한다
+     * <p>
+     *
+     * @param handler 핸들러 호출
+     * @return Spring MVC가 스레드 풀에 제출할, 설정된 타임아웃을 가진 비동기 작업
+     * @throws HandlerOverloadedException 스레드와 대기열이 모두 찬 경우
+     * </p>
+     */
+    WebAsyncTask<Object> submit(Callable<Object> handler) {
+        if (!permits.tryAcquire()) {
+            throw new HandlerOverloadedException(capacity);
+        }
+        return new WebAsyncTask<>(timeoutMillis, executor, QueryStatisticsPropagation.wrap(handler));
+    }
+
+    /**
+     * 남은 허가 수를 반환한다
+     * <p>
+     *
+     * @return 더 받을 수 있는 핸들러 수
+     * </p>
+     */
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,32 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.application.exceptions.ProductVersionMismatchException;
+import com.codesoom.assignment.application.exceptions.UserVersionMismatchException;
+import com.codesoom.assignment.controllers.dtos.ErrorResponse;
+import com.codesoom.assignment.controllers.exceptions.InvalidEntityTagException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import javax.persistence.OptimisticLockException;
+
+@ControllerAdvice
+public class ConflictErrorAdvice {
+    @ResponseBody
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    @ExceptionHandler({ProductVersionMismatchException.class, UserVersionMismatchException.class,
+            InvalidEntityTagException.class})
+    public ErrorResponse handleVersionMismatch() {
+        return new ErrorResponse("If-Match does not match current version");
+    }
+
+    @ResponseBody
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+    public ErrorResponse handleConcurrentModification() {
+        return new ErrorResponse("Modified concurrently, retry with the current version");
+    }
+}
@@ -0,0 +1,69 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.controllers.exceptions.InvalidEntityTagException;
+import com.codesoom.assignment.domain.projections.VersionSummary;
+
+/**
+ * 조건부 조회에 사용할 강한 ETag 값을 만든다
+ * <p>
+ * 응답 본문이 아닌 버전으로 계산하므로 본문을 직렬화하기 전에 304 Not Modified 여부를 판단할 수 있다
+ * </p>
+ */
+final class EntityTags {
+    private EntityTags() {
+    }
+
+    /**
+     * 단건 리소스의 ETag를 반환한다
+     * <p>
+     *
+     * @param id      리소스 id
+     * @param version 리소스의 버전
+     * @return ETag 값
+     * </p>
+     */
+    static String of(Long id, Long version) {
+        return id + "-" + version;
+    }
+
+    /**
+     * If-Match 헤더에서 단건 리소스의 버전을 꺼낸다
+     * <p>
+     * 헤더가 없거나 * 라면 버전을 확인하지 않도록 null을 반환한다.
+     * If-Match는 강한 비교를 하므로 약한 ETag나 다른 리소스의 ETag는 일치하지 않는 것으로 본다.
+     *
+     * @param id      리소스 id
+     * @param ifMatch If-Match 헤더 값
+     * @return 요청한 버전, 확인하지 않는다면 null
+     * @throws InvalidEntityTagException 이 리소스의 강한 ETag가 아닌 경우
+     * </p>
+     */
+    static Long versionOf(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+        String prefix = "\"" + id + "-";
+        if (!tag.startsWith(prefix) || !tag.endsWith("\"")) {
+            throw new InvalidEntityTagException(ifMatch);
+        }
+        try {
+            return Long.valueOf(tag.substring(prefix.length(), tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new InvalidEntityTagException(ifMatch);
+        }
+    }
+
+    /**
+     * 목록 리소스의 ETag를 반환한다
+     * <p>
+     *
+     * @param summary 목록의 버전 요약
+     * @return ETag 값
+     * </p>
+     */
+    static String of(VersionSummary summary) {
+        return summary.getCount() + "-" + summary.getMaxId() + "-" + summary.getVersionSum();
+    }
+}
@@ -0,0 +1,28 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.application.interfaces.ToyFacetService;
+import com.codesoom.assignment.controllers.dtos.ToyFacetsData;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리에 보관된 상품 집계를 데이터베이스로부터 다시 세는 관리용 엔드포인트
+ * <p>
+ * POST /actuator/facets 는 다시 센 생산자별, 가격 구간별 장난감 수를 반환한다
+ * </p>
+ */
+@Component
+@Endpoint(id = "facets")
+public class FacetsEndpoint {
+    private final ToyFacetService service;
+
+    public FacetsEndpoint(ToyFacetService service) {
+        this.service = service;
+    }
+
+    @WriteOperation
+    public ToyFacetsData recount() {
+        return ToyFacetsData.from(service.recountFacets());
+    }
+}
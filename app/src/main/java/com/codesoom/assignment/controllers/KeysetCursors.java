@@ -0,0 +1,65 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.controllers.exceptions.InvalidPageRequestException;
+import com.codesoom.assignment.domain.Keyset;
+import com.codesoom.assignment.domain.KeysetSort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.util.Base64;
+
+/**
+ * 정렬된 목록의 다음 페이지 위치를 불투명한 커서 문자열로 만들고 해석한다
+ * <p>
+ * 커서는 정렬 이름, 마지막 행의 id, 마지막 행의 정렬 키 값을 URL에 안전한 Base64로 인코딩한 것이다.
+ * 클라이언트는 커서의 내용을 해석하지 않고 Link 헤더로 받은 그대로 다시 보낸다.
+ * </p>
+ */
+final class KeysetCursors {
+    private static final String SEPARATOR = ":";
+
+    private KeysetCursors() {
+    }
+
+    /**
+     * 마지막 행 위치의 커서를 반환한다
+     * <p>
+     *
+     * @param sort  정렬 순서
+     * @param id    마지막 행의 id
+     * @param value 마지막 행의 정렬 키 값의 문자열 표현
+     * @return 커서
+     * </p>
+     */
+    static String of(KeysetSort sort, Long id, String value) {
+        String keyset = sort.getParameter() + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(keyset.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 정렬 순서의 마지막 행 위치로 해석한다
+     * <p>
+     *
+     * @param sort   정렬 순서
+     * @param cursor 커서, 첫 페이지라면 null
+     * @return 마지막 행 위치, 첫 페이지라면 null
+     * @throws InvalidPageRequestException 이 정렬 순서에서 만든 커서가 아닌 경우
+     * </p>
+     */
+    static Keyset parse(KeysetSort sort, String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(SEPARATOR, 3);
+            if (parts.length != 3 || !parts[0].equals(sort.getParameter())) {
+                throw new InvalidPageRequestException("Invalid cursor: " + cursor);
+            }
+            return new Keyset(sort.parse(parts[2]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidPageRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
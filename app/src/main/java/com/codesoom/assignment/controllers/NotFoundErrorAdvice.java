@@ -3,6 +3,8 @@ package com.codesoom.assignment.controllers;
 import com.codesoom.assignment.application.exceptions.ProductNotFoundException;
 import com.codesoom.assignment.application.exceptions.UserNotFoundException;
 import com.codesoom.assignment.controllers.dtos.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -11,10 +13,21 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ControllerAdvice
 public class NotFoundErrorAdvice {
+    static final String NOT_FOUND_COUNTER = "codesoom.not.found";
+
+    private final Counter productNotFound;
+    private final Counter userNotFound;
+
+    public NotFoundErrorAdvice(MeterRegistry registry) {
+        this.productNotFound = notFoundCounter(registry, "product");
+        this.userNotFound = notFoundCounter(registry, "user");
+    }
+
     @ResponseBody
     @ResponseStatus(HttpStatus.NOT_FOUND)
     @ExceptionHandler(ProductNotFoundException.class)
     public ErrorResponse handleProductTaskNotFound() {
+        productNotFound.increment();
         return new ErrorResponse("Product not found");
     }
 
@@ -22,6 +35,14 @@ public class NotFoundErrorAdvice {
     @ResponseStatus(HttpStatus.NOT_FOUND)
     @ExceptionHandler(UserNotFoundException.class)
     public ErrorResponse handleUserTaskNotFound() {
+        userNotFound.increment();
         return new ErrorResponse("User not found");
     }
+
+    private Counter notFoundCounter(MeterRegistry registry, String entity) {
+        return Counter.builder(NOT_FOUND_COUNTER)
+                .description("404 Not Found responses by missing entity")
+                .tag("entity", entity)
+                .register(registry);
+    }
 }
@@ -0,0 +1,25 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.controllers.dtos.ErrorResponse;
+import com.codesoom.assignment.controllers.exceptions.HandlerOverloadedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import javax.servlet.http.HttpServletResponse;
+
+@ControllerAdvice
+public class OverloadErrorAdvice {
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    @ResponseBody
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    @ExceptionHandler(HandlerOverloadedException.class)
+    public ErrorResponse handleOverloaded(HttpServletResponse response) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        return new ErrorResponse("Too many requests in progress, retry later");
+    }
+}
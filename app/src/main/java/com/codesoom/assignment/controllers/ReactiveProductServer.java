@@ -0,0 +1,81 @@
+package com.codesoom.assignment.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.accept;
+
+/**
+ * 반응형 상품 조회 API를 Spring MVC와 별도의 포트에서 Reactor Netty로 제공한다
+ * <p>
+ * 소수의 event-loop 스레드가 모든 연결을 처리하므로, 느린 클라이언트가 많아도 요청마다 스레드를 붙잡지 않는다.
+ * Accept 헤더가 text/event-stream이면 server-sent events로, 그 밖에는 JSON 배열로 응답한다.
+ * </p>
+ */
+@Component
+public class ReactiveProductServer implements SmartLifecycle {
+    private final HttpServer httpServer;
+    private DisposableServer server;
+
+    public ReactiveProductServer(ToyStreamHandler handler, ObjectMapper objectMapper,
+                                 @Value("${codesoom.reactive.port}") int port) {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper)))
+                .build();
+        this.httpServer = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(RouterFunctions.toHttpHandler(routes(handler), strategies)));
+    }
+
+    /**
+     * 반응형 상품 조회 라우팅을 반환한다
+     * <p>
+     *
+     * @param handler 반응형 상품 조회 요청 처리기
+     * @return GET /products 라우팅
+     * </p>
+     */
+    static RouterFunction<ServerResponse> routes(ToyStreamHandler handler) {
+        return RouterFunctions.route(GET("/products").and(accept(MediaType.APPLICATION_JSON)), handler::list)
+                .andRoute(GET("/products").and(accept(MediaType.TEXT_EVENT_STREAM)), handler::events);
+    }
+
+    @Override
+    public void start() {
+        server = httpServer.bindNow();
+    }
+
+    @Override
+    public void stop() {
+        server.disposeNow();
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * 서버가 듣고 있는 포트를 반환한다
+     * <p>
+     *
+     * @return 포트 번호
+     * </p>
+     */
+    public int getPort() {
+        return server.port();
+    }
+}
@@ -0,0 +1,35 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.application.interfaces.ToySearchService;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 상품 검색 색인의 상태를 조회하고 데이터베이스로부터 다시 만드는 관리용 엔드포인트
+ * <p>
+ * GET /actuator/searchindex 는 색인된 상품 수를, POST /actuator/searchindex 는 색인을 다시 만든 뒤의 상품 수를 반환한다
+ * </p>
+ */
+@Component
+@Endpoint(id = "searchindex")
+public class SearchIndexEndpoint {
+    private final ToySearchService service;
+
+    public SearchIndexEndpoint(ToySearchService service) {
+        this.service = service;
+    }
+
+    @ReadOperation
+    public Map<String, Integer> count() {
+        return Map.of("indexed", service.indexedCount());
+    }
+
+    @WriteOperation
+    public Map<String, Integer> rebuild() {
+        return Map.of("indexed", service.rebuildIndex());
+    }
+}
@@ -1,42 +1,159 @@
 package com.codesoom.assignment.controllers;
 
 import com.codesoom.assignment.application.ToyCrudService;
+import com.codesoom.assignment.application.ToyDetailCache;
+import com.codesoom.assignment.application.interfaces.ToyFacetService;
+import com.codesoom.assignment.application.interfaces.ToySearchService;
+import com.codesoom.assignment.controllers.dtos.ItemErrorData;
+import com.codesoom.assignment.controllers.dtos.PriceUpdateData;
+import com.codesoom.assignment.controllers.dtos.PriceUpdateResultData;
+import com.codesoom.assignment.controllers.dtos.ToyFacetsData;
+import com.codesoom.assignment.controllers.dtos.ToyFilterData;
+import com.codesoom.assignment.controllers.dtos.ToyPatchData;
 import com.codesoom.assignment.controllers.dtos.ToyRequestData;
 import com.codesoom.assignment.controllers.dtos.ToyResponseData;
+import com.codesoom.assignment.controllers.exceptions.InvalidItemsException;
+import com.codesoom.assignment.controllers.exceptions.InvalidPageRequestException;
 import com.codesoom.assignment.controllers.interfaces.*;
+import com.codesoom.assignment.domain.Keyset;
+import com.codesoom.assignment.domain.ToyFilter;
+import com.codesoom.assignment.domain.ToySort;
 import com.codesoom.assignment.domain.entities.Toy;
+import com.codesoom.assignment.domain.projections.ToySummary;
+import com.codesoom.assignment.domain.vos.Won;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import javax.validation.Valid;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 
 @RestController
+@BoundedExecution
 @RequestMapping("/products")
-@CrossOrigin(origins = "http://localhost:3000")
+@CrossOrigin(origins = "http://localhost:3000", exposedHeaders = {HttpHeaders.LINK, HttpHeaders.ETAG})
 public class ToyCrudController implements ToyCreateController, ToyDetailController,
-        ToyListController, ToyUpdateController, ToyDeleteController {
+        ToyListController, ToyUpdateController, ToyDeleteController, ToyExportController, ToyPriceController,
+        ToySearchController, ToyFacetController {
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final ToyCrudService service;
+    private final ToySearchService searchService;
+    private final ToyFacetService facetService;
+    private final ToyDetailCache detailCache;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
-    public ToyCrudController(ToyCrudService service) {
+    public ToyCrudController(ToyCrudService service, ToySearchService searchService, ToyFacetService facetService,
+                             ToyDetailCache detailCache, ObjectMapper objectMapper, Validator validator) {
         this.service = service;
+        this.searchService = searchService;
+        this.facetService = facetService;
+        this.detailCache = detailCache;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
     }
 
     @GetMapping
     @Override
-    public List<ToyResponseData> list() {
-        return service.showAll().stream()
-                .map(ToyResponseData::from)
-                .collect(Collectors.toList());
+    public ResponseEntity<List<ToyResponseData>> list(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "${products.page.default-size}") int size,
+            @RequestParam(defaultValue = "false") boolean all,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String after,
+            @Valid ToyFilterData filterDto,
+            WebRequest request) {
+        ToySort toySort = sort == null ? null : ToySort.of(sort)
+                .orElseThrow(() -> new InvalidPageRequestException("Unknown sort: " + sort));
+        Keyset keyset = toySort == null ? null : KeysetCursors.parse(toySort, after);
+        Long versionCursor = all || toySort != null ? null : cursor;
+        if (request.checkNotModified(EntityTags.of(service.showVersionSummary(versionCursor)))) {
+            return null;
+        }
+        if (all) {
+            return ResponseEntity.ok(toResponses(service.showAllSummaries()));
+        }
+
+        ToyFilter filter = filterDto.toFilter();
+        if (toySort != null) {
+            return toPageResponse(service.showSortedPage(filter, toySort, keyset, size),
+                    last -> nextLink("after", KeysetCursors.of(toySort, last.getId(), toySort.format(last))));
+        }
+        return toPageResponse(filter.isEmpty()
+                ? service.showPage(cursor, size)
+                : service.showFilteredPage(filter, cursor, size));
+    }
+
+    @GetMapping("search")
+    @Override
+    public ResponseEntity<List<ToyResponseData>> search(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "${products.page.default-size}") int size) {
+        return toPageResponse(searchService.search(query, fuzzy, cursor, size));
+    }
+
+    @GetMapping("facets")
+    @Override
+    public ToyFacetsData facets() {
+        return ToyFacetsData.from(facetService.showFacets());
+    }
+
+    @GetMapping("export")
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "json") String format) {
+        boolean ndjson = "ndjson".equalsIgnoreCase(format);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory()
+                    .createGenerator(outputStream, JsonEncoding.UTF8)) {
+                generator.setRootValueSeparator(null);
+                if (!ndjson) {
+                    generator.writeStartArray();
+                }
+                service.exportAll(summary -> writeSummary(generator, summary, ndjson));
+                if (!ndjson) {
+                    generator.writeEndArray();
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(ndjson ? APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     @GetMapping("{id}")
     @Override
-    public ToyResponseData detail(@PathVariable Long id) {
-        Toy toy = service.showById(id);
-        return ToyResponseData.from(toy);
+    public ResponseEntity<byte[]> detail(@PathVariable Long id, WebRequest request) {
+        Long version = service.showVersionById(id);
+        if (request.checkNotModified(EntityTags.of(id, version))) {
+            return null;
+        }
+
+        byte[] body = detailCache.get(id, version, () -> writeDetail(id));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     @PostMapping
@@ -47,17 +164,128 @@ public class ToyCrudController implements ToyCreateController, ToyDetailControll
         return ToyResponseData.from(toy);
     }
 
-    @PatchMapping("{id}")
+    @PostMapping("bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Override
+    public List<ToyResponseData> createAll(@RequestBody List<ToyRequestData> requestDtos) {
+        List<ItemErrorData> errors = validateItems(requestDtos);
+        if (!errors.isEmpty()) {
+            throw new InvalidItemsException(errors);
+        }
+
+        List<Toy> toys = service.createAll(requestDtos.stream()
+                .map(ToyRequestData::toEntity)
+                .collect(Collectors.toList()));
+        return toys.stream()
+                .map(ToyResponseData::from)
+                .collect(Collectors.toList());
+    }
+
+    @PutMapping("{id}")
     @Override
     public ToyResponseData update(@PathVariable Long id, @RequestBody @Valid ToyRequestData requestDto) {
         Toy toy = service.update(id, requestDto.toEntity());
         return ToyResponseData.from(toy);
     }
 
+    @PatchMapping("{id}")
+    @Override
+    public ResponseEntity<ToyResponseData> patch(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody @Valid ToyPatchData patchDto) {
+        Toy toy = service.patch(id, patchDto.toEntity(), EntityTags.versionOf(id, ifMatch));
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(id, toy.getVersion()))
+                .body(ToyResponseData.from(toy));
+    }
+
+    @PatchMapping("prices")
+    @Override
+    public List<PriceUpdateResultData> updatePrices(@RequestBody List<PriceUpdateData> requestDtos) {
+        List<ItemErrorData> errors = validateItems(requestDtos);
+        if (!errors.isEmpty()) {
+            throw new InvalidItemsException(errors);
+        }
+
+        Map<Long, Won> prices = new LinkedHashMap<>();
+        requestDtos.forEach(requestDto -> prices.put(requestDto.getId(), new Won(requestDto.getPrice())));
+        return service.updatePrices(prices).entrySet().stream()
+                .map(result -> new PriceUpdateResultData(result.getKey(), result.getValue()))
+                .collect(Collectors.toList());
+    }
+
     @DeleteMapping("{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Override
     public void delete(@PathVariable Long id) {
         service.deleteBy(id);
     }
+
+    private ResponseEntity<List<ToyResponseData>> toPageResponse(Slice<ToySummary> page) {
+        return toPageResponse(page, last -> nextLink("cursor", last.getId()));
+    }
+
+    private ResponseEntity<List<ToyResponseData>> toPageResponse(Slice<ToySummary> page,
+                                                                 Function<ToySummary, String> nextLink) {
+        List<ToyResponseData> responses = toResponses(page.getContent());
+        if (!page.hasNext()) {
+            return ResponseEntity.ok(responses);
+        }
+
+        ToySummary last = page.getContent().get(page.getContent().size() - 1);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.LINK, nextLink.apply(last))
+                .body(responses);
+    }
+
+    private List<ToyResponseData> toResponses(List<ToySummary> summaries) {
+        return summaries.stream()
+                .map(ToyResponseData::from)
+                .collect(Collectors.toList());
+    }
+
+    private <T> List<ItemErrorData> validateItems(List<T> requestDtos) {
+        List<ItemErrorData> errors = new ArrayList<>();
+        for (int index = 0; index < requestDtos.size(); index++) {
+            T requestDto = requestDtos.get(index);
+            if (requestDto == null) {
+                errors.add(new ItemErrorData(index, "", "must not be null"));
+                continue;
+            }
+
+            int itemIndex = index;
+            validator.validate(requestDto).stream()
+                    .map(violation -> new ItemErrorData(
+                            itemIndex, violation.getPropertyPath().toString(), violation.getMessage()))
+                    .forEach(errors::add);
+        }
+        return errors;
+    }
+
+    private byte[] writeDetail(Long id) {
+        try {
+            return objectMapper.writeValueAsBytes(ToyResponseData.from(service.showById(id)));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeSummary(JsonGenerator generator, ToySummary summary, boolean ndjson) {
+        try {
+            generator.writeObject(ToyResponseData.from(summary));
+            if (ndjson) {
+                generator.writeRaw('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String nextLink(String parameter, Object next) {
+        String uri = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam(parameter, next)
+                .toUriString();
+        return "<" + uri + ">; rel=\"next\"";
+    }
 }
@@ -0,0 +1,123 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.application.interfaces.ToyStreamService;
+import com.codesoom.assignment.controllers.dtos.ErrorResponse;
+import com.codesoom.assignment.controllers.dtos.ToyResponseData;
+import com.codesoom.assignment.controllers.exceptions.InvalidPageRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.function.Function;
+
+/**
+ * 반응형 상품 조회 요청을 처리한다
+ * <p>
+ * 상품은 데이터베이스에서 읽히는 대로 JSON 배열의 원소 또는 server-sent event 하나씩으로 쓰이며,
+ * 느린 클라이언트가 읽지 않는 동안에는 데이터베이스에서도 더 읽지 않는다.
+ * cursor, size가 숫자가 아니라면 400 Bad Request로 응답한다.
+ * </p>
+ */
+@Component
+public class ToyStreamHandler {
+    private static final ResolvableType RESPONSE_TYPE = ResolvableType.forClass(ToyResponseData.class);
+    private static final byte[] ARRAY_START = "[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SEPARATOR = ",".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ARRAY_END = "]".getBytes(StandardCharsets.UTF_8);
+
+    private final ToyStreamService service;
+    private final Jackson2JsonEncoder encoder;
+
+    public ToyStreamHandler(ToyStreamService service, ObjectMapper objectMapper) {
+        this.service = service;
+        this.encoder = new Jackson2JsonEncoder(objectMapper);
+    }
+
+    /**
+     * 커서 이후의 상품을 JSON 배열로 흘려보낸다
+     * <p>
+     *
+     * @param request cursor, size 쿼리 파라미터를 선택적으로 담은 요청
+     * @return 상품 JSON 배열 응답
+     * </p>
+     */
+    public Mono<ServerResponse> list(ServerRequest request) {
+        return respond(request, responses -> ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonArray(responses)));
+    }
+
+    /**
+     * 커서 이후의 상품을 server-sent event 하나씩으로 흘려보낸다
+     * <p>
+     *
+     * @param request cursor, size 쿼리 파라미터를 선택적으로 담은 요청
+     * @return 상품 이벤트 스트림 응답
+     * </p>
+     */
+    public Mono<ServerResponse> events(ServerRequest request) {
+        return respond(request, responses -> ServerResponse.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(responses, ToyResponseData.class));
+    }
+
+    /**
+     * 쿼리 파라미터로 상품을 조회해 응답을 만들고, 파라미터가 숫자가 아니라면 400 Bad Request로 응답한다
+     */
+    private Mono<ServerResponse> respond(ServerRequest request,
+                                         Function<Flux<ToyResponseData>, Mono<ServerResponse>> writer) {
+        Long cursor;
+        Integer size;
+        try {
+            cursor = queryParam(request, "cursor", Long::valueOf);
+            size = queryParam(request, "size", Integer::valueOf);
+        } catch (InvalidPageRequestException exception) {
+            return ServerResponse.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(new ErrorResponse(exception.getMessage()));
+        }
+        return writer.apply(service.streamSummaries(cursor, size).map(ToyResponseData::from));
+    }
+
+    private <T> T queryParam(ServerRequest request, String name, Function<String, T> parser) {
+        return request.queryParam(name)
+                .map(value -> {
+                    try {
+                        return parser.apply(value);
+                    } catch (NumberFormatException exception) {
+                        throw new InvalidPageRequestException("Invalid " + name + ": " + value);
+                    }
+                })
+                .orElse(null);
+    }
+
+    private BodyInserter<Flux<DataBuffer>, ReactiveHttpOutputMessage> jsonArray(Flux<ToyResponseData> responses) {
+        return (message, context) -> {
+            DataBufferFactory factory = message.bufferFactory();
+            Flux<DataBuffer> elements = responses.index()
+                    .concatMap(element -> {
+                        DataBuffer json = encoder.encodeValue(element.getT2(), factory, RESPONSE_TYPE,
+                                MediaType.APPLICATION_JSON, Collections.emptyMap());
+                        return element.getT1() == 0
+                                ? Flux.just(json)
+                                : Flux.just(factory.wrap(SEPARATOR), json);
+                    });
+            return message.writeWith(Flux.concat(
+                    Mono.fromSupplier(() -> factory.wrap(ARRAY_START)),
+                    elements,
+                    Mono.fromSupplier(() -> factory.wrap(ARRAY_END))));
+        };
+    }
+}
@@ -1,12 +1,21 @@
 package com.codesoom.assignment.controllers;
 
 import com.codesoom.assignment.application.UserCrudService;
+import com.codesoom.assignment.controllers.dtos.UserPatchData;
 import com.codesoom.assignment.controllers.dtos.UserRequestData;
 import com.codesoom.assignment.controllers.dtos.UserResponseData;
+import com.codesoom.assignment.controllers.exceptions.InvalidPageRequestException;
 import com.codesoom.assignment.controllers.interfaces.*;
+import com.codesoom.assignment.domain.Keyset;
+import com.codesoom.assignment.domain.UserSort;
 import com.codesoom.assignment.domain.entities.User;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import javax.validation.Valid;
 import java.util.List;
@@ -14,8 +23,9 @@ import java.util.stream.Collectors;
 
 
 @RestController
+@BoundedExecution
 @RequestMapping("/users")
-@CrossOrigin(origins = "http://localhost:3000")
+@CrossOrigin(origins = "http://localhost:3000", exposedHeaders = {HttpHeaders.LINK, HttpHeaders.ETAG})
 public class UserCrudController implements UserListController, UserDetailController,
         UserCreateController, UserUpdateController, UserDeleteController {
     private final UserCrudService service;
@@ -26,16 +36,44 @@ public class UserCrudController implements UserListController, UserDetailControl
 
     @GetMapping
     @Override
-    public List<UserResponseData> list() {
-        return service.showAll().stream()
-                .map(UserResponseData::from)
-                .collect(Collectors.toList());
+    public ResponseEntity<List<UserResponseData>> list(
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "${users.page.default-size}") int size,
+            WebRequest request) {
+        UserSort userSort = sort == null ? null : UserSort.of(sort)
+                .orElseThrow(() -> new InvalidPageRequestException("Unknown sort: " + sort));
+        Keyset keyset = userSort == null ? null : KeysetCursors.parse(userSort, after);
+        if (request.checkNotModified(EntityTags.of(service.showVersionSummary()))) {
+            return null;
+        }
+        if (userSort == null) {
+            return ResponseEntity.ok(toResponses(service.showAll()));
+        }
+
+        Slice<User> page = service.showPage(userSort, keyset, size);
+        List<UserResponseData> responses = toResponses(page.getContent());
+        if (!page.hasNext()) {
+            return ResponseEntity.ok(responses);
+        }
+
+        User last = page.getContent().get(page.getContent().size() - 1);
+        String uri = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("after", KeysetCursors.of(userSort, last.getId(), userSort.format(last)))
+                .toUriString();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.LINK, "<" + uri + ">; rel=\"next\"")
+                .body(responses);
     }
 
 
     @GetMapping("{id}")
     @Override
-    public UserResponseData detail(@PathVariable Long id) {
+    public UserResponseData detail(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(EntityTags.of(id, service.showVersionById(id)))) {
+            return null;
+        }
+
         User user = service.showById(id);
         return UserResponseData.from(user);
     }
@@ -48,13 +86,25 @@ public class UserCrudController implements UserListController, UserDetailControl
         return UserResponseData.from(user);
     }
 
-    @PatchMapping("{id}")
+    @PutMapping("{id}")
     @Override
     public UserResponseData update(@PathVariable Long id, @RequestBody @Valid UserRequestData requestData) {
         User user = service.update(id, requestData.toEntity());
         return UserResponseData.from(user);
     }
 
+    @PatchMapping("{id}")
+    @Override
+    public ResponseEntity<UserResponseData> patch(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody @Valid UserPatchData patchData) {
+        User user = service.patch(id, patchData.toEntity(), EntityTags.versionOf(id, ifMatch));
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(id, user.getVersion()))
+                .body(UserResponseData.from(user));
+    }
+
 
     @DeleteMapping("{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -62,4 +112,10 @@ public class UserCrudController implements UserListController, UserDetailControl
     public void delete(@PathVariable Long id) {
         service.deleteBy(id);
     }
+
+    private List<UserResponseData> toResponses(List<User> users) {
+        return users.stream()
+                .map(UserResponseData::from)
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,19 @@
+package com.codesoom.assignment.controllers.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 항목을 한 번에 요청할 때, 유효하지 않은 한 항목의 오류 정보
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemErrorData {
+    private int index;
+
+    private String field;
+
+    private String message;
+}
@@ -0,0 +1,21 @@
+package com.codesoom.assignment.controllers.dtos;
+
+import java.util.List;
+
+public class ItemsErrorResponse {
+    private final String message;
+    private final List<ItemErrorData> errors;
+
+    public ItemsErrorResponse(String message, List<ItemErrorData> errors) {
+        this.message = message;
+        this.errors = errors;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public List<ItemErrorData> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,26 @@
+package com.codesoom.assignment.controllers.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.PositiveOrZero;
+import java.math.BigDecimal;
+
+/**
+ * 가격 일괄 수정 요청의 한 항목
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceUpdateData {
+    @NotNull
+    private Long id;
+
+    @NotNull
+    @PositiveOrZero
+    private BigDecimal price;
+}
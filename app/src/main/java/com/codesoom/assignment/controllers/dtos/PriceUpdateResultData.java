@@ -0,0 +1,17 @@
+package com.codesoom.assignment.controllers.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가격 일괄 수정 결과의 한 항목, 존재하지 않는 상품이라면 updated는 false
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceUpdateResultData {
+    private Long id;
+
+    private boolean updated;
+}
@@ -0,0 +1,32 @@
+package com.codesoom.assignment.controllers.dtos;
+
+import com.codesoom.assignment.application.facets.MakerFacet;
+import com.codesoom.assignment.application.facets.PriceFacet;
+import com.codesoom.assignment.application.facets.ToyFacets;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 상품 목록의 생산자별, 가격 구간별 장난감 수
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ToyFacetsData {
+    private List<MakerFacet> makers;
+
+    private List<PriceFacet> prices;
+
+
+    public static ToyFacetsData from(ToyFacets facets) {
+        return ToyFacetsData.builder()
+                .makers(facets.getMakers())
+                .prices(facets.getPrices())
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.codesoom.assignment.controllers.dtos;
+
+import com.codesoom.assignment.domain.ToyFilter;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.constraints.PositiveOrZero;
+import java.math.BigDecimal;
+
+/**
+ * 상품 목록 조회 요청의 필터 파라미터
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ToyFilterData {
+    @PositiveOrZero
+    private BigDecimal minPrice;
+
+    @PositiveOrZero
+    private BigDecimal maxPrice;
+
+    private Long makerId;
+
+    private String maker;
+
+    private String name;
+
+    public ToyFilter toFilter() {
+        return ToyFilter.builder()
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .makerId(makerId)
+                .maker(maker)
+                .namePrefix(name)
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.codesoom.assignment.controllers.dtos;
+
+import com.codesoom.assignment.domain.entities.Toy;
+import com.codesoom.assignment.domain.entities.ToyProducer;
+import com.codesoom.assignment.domain.vos.ImageDemo;
+import com.codesoom.assignment.domain.vos.Won;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+import lombok.*;
+
+import javax.validation.constraints.Pattern;
+import java.math.BigDecimal;
+
+/**
+ * 상품 부분 수정 요청 (JSON Merge Patch)
+ * <p>
+ * 생략된 필드는 변경하지 않는다.
+ * 필수 값인 name, maker, price에 null을 명시하면 요청을 거부하고, url에 null을 명시하면 URL을 지운다.
+ * </p>
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ToyPatchData {
+    @JsonSetter(nulls = Nulls.FAIL)
+    @Pattern(regexp = ".*\\S.*", message = "must not be blank")
+    private String name;
+
+    @JsonSetter(nulls = Nulls.FAIL)
+    @Pattern(regexp = ".*\\S.*", message = "must not be blank")
+    private String maker;
+
+    @JsonSetter(nulls = Nulls.FAIL)
+    private BigDecimal price;
+
+    @JsonSetter(nulls = Nulls.AS_EMPTY)
+    private String url;
+
+
+    public Toy toEntity() {
+        return Toy.builder()
+                .name(name)
+                .price(price == null ? null : new Won(price))
+                .producer(maker == null ? null : ToyProducer.builder().name(maker).build())
+                .demo(url == null ? null : new ImageDemo(url.isEmpty() ? null : url))
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.codesoom.assignment.controllers.dtos;
 
 import com.codesoom.assignment.domain.entities.Toy;
+import com.codesoom.assignment.domain.projections.ToySummary;
 import lombok.*;
 
 import java.math.BigDecimal;
@@ -28,7 +29,17 @@ public class ToyResponseData {
                 .name(toy.getName())
                 .price(toy.getPrice().getValue())
                 .maker(toy.getProducer().getName())
-                .url(toy.getDemo().getUrl())
+                .url(toy.getDemo() == null ? null : toy.getDemo().getUrl())
+                .build();
+    }
+
+    public static ToyResponseData from(ToySummary summary) {
+        return ToyResponseData.builder()
+                .id(summary.getId())
+                .name(summary.getName())
+                .price(summary.getPrice())
+                .maker(summary.getMaker())
+                .url(summary.getUrl())
                 .build();
     }
 }
@@ -0,0 +1,47 @@
+package com.codesoom.assignment.controllers.dtos;
+
+import com.codesoom.assignment.controllers.validators.Password;
+import com.codesoom.assignment.domain.entities.User;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.Email;
+import javax.validation.constraints.Pattern;
+
+/**
+ * 사용자 부분 수정 요청 (JSON Merge Patch)
+ * <p>
+ * 생략된 필드는 변경하지 않으며, 필수 값에 null을 명시하면 요청을 거부한다.
+ * </p>
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPatchData {
+    @JsonSetter(nulls = Nulls.FAIL)
+    @Pattern(regexp = ".*\\S.*", message = "must not be blank")
+    private String name;
+
+    @JsonSetter(nulls = Nulls.FAIL)
+    @Email
+    @Pattern(regexp = ".*\\S.*", message = "must not be blank")
+    private String email;
+
+    @JsonSetter(nulls = Nulls.FAIL)
+    @Password
+    private String password;
+
+
+    public User toEntity() {
+        return User.builder()
+                .name(name)
+                .email(email)
+                .password(password)
+                .build();
+    }
+}
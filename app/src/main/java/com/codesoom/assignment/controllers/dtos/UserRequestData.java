@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 
 import javax.validation.constraints.Email;
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
 
 @Getter
 @Builder
@@ -22,6 +23,7 @@ public class UserRequestData {
     @NotBlank
     private String email;
 
+    @NotNull
     @Password
     private String password;
 
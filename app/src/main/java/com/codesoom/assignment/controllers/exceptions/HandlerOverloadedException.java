@@ -0,0 +1,7 @@
+package com.codesoom.assignment.controllers.exceptions;
+
+public class HandlerOverloadedException extends RuntimeException {
+    public HandlerOverloadedException(int capacity) {
+        super("More than " + capacity + " requests are running or waiting");
+    }
+}
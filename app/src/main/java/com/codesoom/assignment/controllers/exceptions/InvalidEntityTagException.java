@@ -0,0 +1,7 @@
+package com.codesoom.assignment.controllers.exceptions;
+
+public class InvalidEntityTagException extends RuntimeException {
+    public InvalidEntityTagException(String entityTag) {
+        super("Invalid entity tag: " + entityTag);
+    }
+}
@@ -0,0 +1,18 @@
+package com.codesoom.assignment.controllers.exceptions;
+
+import com.codesoom.assignment.controllers.dtos.ItemErrorData;
+
+import java.util.List;
+
+public class InvalidItemsException extends RuntimeException {
+    private final List<ItemErrorData> errors;
+
+    public InvalidItemsException(List<ItemErrorData> errors) {
+        super("Invalid items: " + errors.size());
+        this.errors = errors;
+    }
+
+    public List<ItemErrorData> getErrors() {
+        return errors;
+    }
+}
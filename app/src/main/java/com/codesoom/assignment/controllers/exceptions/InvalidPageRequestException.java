@@ -0,0 +1,7 @@
+package com.codesoom.assignment.controllers.exceptions;
+
+public class InvalidPageRequestException extends RuntimeException {
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
@@ -3,6 +3,8 @@ package com.codesoom.assignment.controllers.interfaces;
 import com.codesoom.assignment.controllers.dtos.ToyRequestData;
 import com.codesoom.assignment.controllers.dtos.ToyResponseData;
 
+import java.util.List;
+
 /**
  * Toy 객체에 연관된 HTTP POST 요청을 받고, 처리결과를 응답으로 반환한다
  * <p>
@@ -19,4 +21,15 @@ public interface ToyCreateController {
      * </p>
      */
     ToyResponseData create(ToyRequestData requestDto);
+
+    /**
+     * 여러 상품의 POST 요청을 한 번에 처리한 결과를 List<ToyResponseData> 형태로 가공하여 반환한다
+     * <p>
+     * 유효하지 않은 항목이 하나라도 있다면 어떤 상품도 생성하지 않고 항목별 오류를 응답한다
+     *
+     * @param requestDtos Request Body로 전달된 JSON 배열을 직렬화하여 받기 위한 객체
+     * @return HTTP Request를 처리한 결과를 JSON 배열로 역직렬화하기 위한 객체
+     * </p>
+     */
+    List<ToyResponseData> createAll(List<ToyRequestData> requestDtos);
 }
@@ -1,6 +1,7 @@
 package com.codesoom.assignment.controllers.interfaces;
 
-import com.codesoom.assignment.controllers.dtos.ToyResponseData;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Product 타입에 대해 HTTP GET의 상세 조회 요청을 받고, 처리결과를 응답으로 반환한다
@@ -11,12 +12,15 @@ import com.codesoom.assignment.controllers.dtos.ToyResponseData;
  */
 public interface ToyDetailController {
     /**
-     * 상세 조히 요청에 따른 처리 결과를 ToyResponseDto 형태로 가공하여 반환한다
+     * 상세 조히 요청에 따른 처리 결과를 ToyResponseDto의 JSON 형태로 직렬화하여 반환한다
      * <p>
+     * 직렬화된 결과는 상품이 수정되거나 삭제될 때까지 캐시에서 그대로 재사용된다.
+     * 상품의 버전으로 만든 ETag가 If-None-Match와 같다면 본문 없이 304 Not Modified 응답한다.
      *
-     * @param id Request Path Parameter 전달된 Toy Id를 받기 위한 객체
-     * @return HTTP Request를 처리한 결과를 JSON 객체로 역직렬화하기 위한 객체
+     * @param id      Request Path Parameter 전달된 Toy Id를 받기 위한 객체
+     * @param request If-None-Match 헤더를 확인하기 위한 요청
+     * @return 직렬화된 ToyResponseDto를 본문으로 하는 응답, 변경되지 않았다면 null
      * </p>
      */
-    ToyResponseData detail(Long id);
+    ResponseEntity<byte[]> detail(Long id, WebRequest request);
 }
@@ -0,0 +1,23 @@
+package com.codesoom.assignment.controllers.interfaces;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Product 타입에 대해 HTTP GET의 전체 내보내기 요청을 받고, 처리결과를 스트리밍으로 반환한다
+ * <p>
+ * All Known Implementing Classes:
+ * ToyCrudController
+ * </p>
+ */
+public interface ToyExportController {
+    /**
+     * 모든 상품을 JSON 배열 또는 NDJSON 형태로 응답 스트림에 직접 기록한다
+     * <p>
+     *
+     * @param format 응답 형식, json 또는 ndjson
+     * @return 응답 스트림에 상품을 기록하는 객체
+     * </p>
+     */
+    ResponseEntity<StreamingResponseBody> export(String format);
+}
@@ -0,0 +1,22 @@
+package com.codesoom.assignment.controllers.interfaces;
+
+import com.codesoom.assignment.controllers.dtos.ToyFacetsData;
+
+/**
+ * Product 타입에 대해 HTTP GET의 집계 조회 요청을 받고, 처리결과를 응답으로 반환한다
+ * <p>
+ * All Known Implementing Classes:
+ * ToyCrudController
+ * </p>
+ */
+public interface ToyFacetController {
+    /**
+     * 생산자별, 가격 구간별 장난감 수를 반환한다
+     * <p>
+     * 메모리에 보관된 수를 그대로 반환하므로 상품 목록을 조회하지 않는다
+     *
+     * @return HTTP Request를 처리한 결과를 JSON 객체로 역직렬화하기 위한 객체
+     * </p>
+     */
+    ToyFacetsData facets();
+}
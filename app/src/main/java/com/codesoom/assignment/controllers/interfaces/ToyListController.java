@@ -1,6 +1,9 @@
 package com.codesoom.assignment.controllers.interfaces;
 
+import com.codesoom.assignment.controllers.dtos.ToyFilterData;
 import com.codesoom.assignment.controllers.dtos.ToyResponseData;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -15,8 +18,23 @@ public interface ToyListController {
     /**
      * 목록 조회 요청에 따른 처리 결과를 List<ToyResponseDto> 형태로 가공하여 반환한다
      * <p>
-     * @return  HTTP Request를 처리한 결과를 JSON 객체로 역직렬화하기 위한 객체
+     * 기본적으로 커서 이후의 한 페이지만 반환하며, 다음 페이지가 있다면 Link 헤더(rel="next")로 다음 커서를 알린다.
+     * 전체 목록은 all 파라미터로 명시적으로 요청한 경우에만 반환한다.
+     * 가격 범위, 생산자, 이름 접두어 필터는 페이지 조회에만 적용된다.
+     * sort(price, name, newest)를 지정하면 정렬 순서로 조회하고, 다음 페이지는 cursor 대신 불투명한 after 커서로 알린다.
+     * 커서 이후 목록의 버전 요약으로 만든 ETag가 If-None-Match와 같다면 본문 없이 304 Not Modified 응답한다.
+     *
+     * @param cursor  이전 페이지의 마지막 Toy id, 첫 페이지라면 null
+     * @param size    요청한 페이지 크기
+     * @param all     전체 목록 조회 여부
+     * @param sort    정렬 이름, id 순서라면 null
+     * @param after   정렬된 목록에서 이전 페이지가 알려준 커서, 첫 페이지라면 null
+     * @param filter  가격 범위, 생산자 id 또는 이름, 이름 접두어 필터
+     * @param request If-None-Match 헤더를 확인하기 위한 요청
+     * @return  HTTP Request를 처리한 결과를 JSON 객체로 역직렬화하기 위한 객체, 변경되지 않았다면 null
+     * @throws com.codesoom.assignment.controllers.exceptions.InvalidPageRequestException 없는 정렬이거나 이 정렬의 커서가 아닌 경우
      * </p>
      */
-    List<ToyResponseData> list();
+    ResponseEntity<List<ToyResponseData>> list(Long cursor, int size, boolean all, String sort, String after,
+                                              ToyFilterData filter, WebRequest request);
 }
@@ -0,0 +1,25 @@
+package com.codesoom.assignment.controllers.interfaces;
+
+import com.codesoom.assignment.controllers.dtos.PriceUpdateData;
+import com.codesoom.assignment.controllers.dtos.PriceUpdateResultData;
+
+import java.util.List;
+
+/**
+ * Product 타입에 대해 HTTP PATCH의 가격 일괄 수정 요청을 받고, 처리결과를 응답으로 반환한다
+ * <p>
+ * All Known Implementing Classes:
+ * ToyCrudController
+ * </p>
+ */
+public interface ToyPriceController {
+    /**
+     * (id, 가격) 항목들을 검증한 뒤 가격만 일괄 수정하고, 상품별 수정 여부를 반환한다
+     * <p>
+     *
+     * @param requestDtos 가격을 수정할 상품 id와 새 가격의 List
+     * @return 요청 순서대로 상품 id와 수정 여부를 담은 List
+     * </p>
+     */
+    List<PriceUpdateResultData> updatePrices(List<PriceUpdateData> requestDtos);
+}
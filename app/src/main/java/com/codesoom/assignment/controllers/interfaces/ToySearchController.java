@@ -0,0 +1,30 @@
+package com.codesoom.assignment.controllers.interfaces;
+
+import com.codesoom.assignment.controllers.dtos.ToyResponseData;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+/**
+ * Product 타입에 대해 HTTP GET의 검색 요청을 받고, 처리결과를 응답으로 반환한다
+ * <p>
+ * All Known Implementing Classes:
+ * ToyCrudController
+ * </p>
+ */
+public interface ToySearchController {
+    /**
+     * 검색 요청에 따른 처리 결과를 List<ToyResponseDto> 형태로 가공하여 반환한다
+     * <p>
+     * 질의의 모든 검색어가 상품 이름 또는 생산자 이름과 일치하는 상품을 커서 이후부터 한 페이지만 반환하며,
+     * 다음 페이지가 있다면 Link 헤더(rel="next")로 다음 커서를 알린다.
+     *
+     * @param query  검색 질의
+     * @param fuzzy  오타 허용 여부
+     * @param cursor 이전 페이지의 마지막 Toy id, 첫 페이지라면 null
+     * @param size   요청한 페이지 크기
+     * @return HTTP Request를 처리한 결과를 JSON 객체로 역직렬화하기 위한 객체
+     * </p>
+     */
+    ResponseEntity<List<ToyResponseData>> search(String query, boolean fuzzy, Long cursor, int size);
+}
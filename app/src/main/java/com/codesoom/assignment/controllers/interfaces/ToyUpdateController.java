@@ -1,10 +1,12 @@
 package com.codesoom.assignment.controllers.interfaces;
 
+import com.codesoom.assignment.controllers.dtos.ToyPatchData;
 import com.codesoom.assignment.controllers.dtos.ToyRequestData;
 import com.codesoom.assignment.controllers.dtos.ToyResponseData;
+import org.springframework.http.ResponseEntity;
 
 /**
- * Product 타입에 대해 HTTP PATCH의 수정 요청을 받고, 처리결과를 응답으로 반환한다
+ * Product 타입에 대해 HTTP PUT의 전체 수정, HTTP PATCH의 부분 수정 요청을 받고, 처리결과를 응답으로 반환한다
  * <p>
  * All Known Implementing Classes:
  * ToyUpdateController
@@ -20,4 +22,17 @@ public interface ToyUpdateController {
      * </p>
      */
     ToyResponseData update(Long id, ToyRequestData requestDto);
+
+    /**
+     * 부분 수정 요청에 포함된 필드만 반영한 처리 결과를 ToyResponseData 형태로 가공하여 반환한다
+     * <p>
+     * If-Match 헤더가 있다면 현재 버전의 ETag와 같을 때만 수정하고, 다르다면 412 Precondition Failed 응답한다.
+     * 동시에 다른 요청이 먼저 수정했다면 409 Conflict 응답한다.
+     *
+     * @param id      Request Path Parameter 전달된 Toy Id를 받기 위한 객체
+     * @param ifMatch 수정할 Toy의 ETag, 버전을 확인하지 않는다면 null
+     * @return 수정된 Toy의 ETag와 ToyResponseData를 담은 응답
+     * </p>
+     */
+    ResponseEntity<ToyResponseData> patch(Long id, String ifMatch, ToyPatchData patchDto);
 }
@@ -1,6 +1,7 @@
 package com.codesoom.assignment.controllers.interfaces;
 
 import com.codesoom.assignment.controllers.dtos.UserResponseData;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * User에 대해 HTTP GET의 상세 조회 요청을 받고, 처리결과를 응답으로 반환한다
@@ -13,10 +14,12 @@ public interface UserDetailController {
     /**
      * 상세 조히 요청에 따른 처리 결과를 UserResponseData 형태로 가공하여 반환한다
      * <p>
+     * 사용자의 버전으로 만든 ETag가 If-None-Match와 같다면 본문 없이 304 Not Modified 응답한다
      *
-     * @param id Request Path Parameter 전달된 User Id를 받기 위한 객체
-     * @return HTTP Request를 처리한 결과를 JSON 객체로 역직렬화하기 위한 객체
+     * @param id      Request Path Parameter 전달된 User Id를 받기 위한 객체
+     * @param request If-None-Match 헤더를 확인하기 위한 요청
+     * @return HTTP Request를 처리한 결과를 JSON 객체로 역직렬화하기 위한 객체, 변경되지 않았다면 null
      * </p>
      */
-    UserResponseData detail(Long id);
+    UserResponseData detail(Long id, WebRequest request);
 }
@@ -1,6 +1,8 @@
 package com.codesoom.assignment.controllers.interfaces;
 
 import com.codesoom.assignment.controllers.dtos.UserResponseData;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -15,8 +17,16 @@ public interface UserListController {
     /**
      * 목록 조회 요청에 따른 처리 결과를 List<UserResponseData> 형태로 가공하여 반환한다
      * <p>
-     * @return  HTTP Request를 처리한 결과를 JSON 객체로 역직렬화하기 위한 객체
+     * 목록의 버전 요약으로 만든 ETag가 If-None-Match와 같다면 본문 없이 304 Not Modified 응답한다
+     * sort(name, newest)를 지정하면 size 개씩 정렬된 페이지로 조회하고, 다음 페이지가 있다면 after 커서를 담은 Link 헤더로 알린다
+     *
+     * @param sort    정렬 이름, 전체 목록을 조회한다면 null
+     * @param after   이전 페이지가 알려준 커서, 첫 페이지라면 null
+     * @param size    정렬된 페이지의 크기
+     * @param request If-None-Match 헤더를 확인하기 위한 요청
+     * @return  HTTP Request를 처리한 결과를 JSON 객체로 역직렬화하기 위한 객체, 변경되지 않았다면 null
+     * @throws com.codesoom.assignment.controllers.exceptions.InvalidPageRequestException 없는 정렬이거나 이 정렬의 커서가 아닌 경우
      * </p>
      */
-    List<UserResponseData> list();
+    ResponseEntity<List<UserResponseData>> list(String sort, String after, int size, WebRequest request);
 }
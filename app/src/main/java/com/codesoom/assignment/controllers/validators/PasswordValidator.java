@@ -12,7 +12,10 @@ public class PasswordValidator implements
 
     @Override
     public boolean isValid(String password, ConstraintValidatorContext cxt) {
-        return password != null && !password.isBlank() &&(password.length() > 8) && (password.length() < 24);
+        if (password == null) {
+            return true;
+        }
+        return !password.isBlank() &&(password.length() > 8) && (password.length() < 24);
     }
 
 }
@@ -0,0 +1,24 @@
+package com.codesoom.assignment.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 정렬된 목록에서 이전 페이지의 마지막 행 위치
+ * <p>
+ * 정렬 키의 값과, 값이 같은 행 사이의 순서를 정하는 id로 이루어진다
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+public class Keyset {
+    /**
+     * 마지막 행의 정렬 키 값
+     */
+    private final Comparable<?> value;
+
+    /**
+     * 마지막 행의 id
+     */
+    private final Long id;
+}
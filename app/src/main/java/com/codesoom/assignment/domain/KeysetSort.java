@@ -0,0 +1,30 @@
+package com.codesoom.assignment.domain;
+
+/**
+ * 키셋 페이지네이션을 지원하는 정렬 순서
+ * <p>
+ * All Known Implementing Classes:
+ * ToySort, UserSort
+ * </p>
+ */
+public interface KeysetSort {
+    /**
+     * 요청 파라미터에서 이 정렬을 가리키는 이름을 반환한다
+     * <p>
+     *
+     * @return 정렬 이름
+     * </p>
+     */
+    String getParameter();
+
+    /**
+     * 문자열로 전달된 정렬 키 값을 정렬 키의 타입으로 변환한다
+     * <p>
+     *
+     * @param value 정렬 키 값의 문자열 표현
+     * @return 정렬 키 값
+     * @throws RuntimeException 정렬 키의 형식이 아닌 경우
+     * </p>
+     */
+    Comparable<?> parse(String value);
+}
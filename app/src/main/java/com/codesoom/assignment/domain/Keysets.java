@@ -0,0 +1,60 @@
+package com.codesoom.assignment.domain;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.Path;
+
+/**
+ * 정렬 키와 id로 이루어진 복합 인덱스를 따라 읽는 키셋 조회 조건과 정렬을 만든다
+ */
+final class Keysets {
+    private static final String ID = "id";
+
+    private Keysets() {
+    }
+
+    /**
+     * 정렬 키와 id 순서로 정렬한다
+     * <p>
+     *
+     * @param property   정렬 키 속성 경로, 내장 값은 . 으로 구분한다
+     * @param descending 내림차순 여부
+     * @return 정렬
+     * </p>
+     */
+    static Sort sort(String property, boolean descending) {
+        return Sort.by(descending ? Sort.Direction.DESC : Sort.Direction.ASC, property, ID);
+    }
+
+    /**
+     * 정렬 순서에서 키셋 이후의 행만 찾는 조회 조건을 반환한다
+     * <p>
+     * 키 >= 값 조건으로 인덱스 범위를 먼저 좁힌 뒤, 같은 값 안에서는 id로 이어서 읽는다
+     *
+     * @param property   정렬 키 속성 경로, 내장 값은 . 으로 구분한다
+     * @param descending 내림차순 여부
+     * @param keyset     이전 페이지의 마지막 행 위치
+     * @return 조회 조건
+     * </p>
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <T> Specification<T> after(String property, boolean descending, Keyset keyset) {
+        Comparable value = keyset.getValue();
+        Long id = keyset.getId();
+        return (root, query, builder) -> {
+            Path<?> path = root;
+            for (String attribute : property.split("\\.")) {
+                path = path.get(attribute);
+            }
+            Path<Comparable> key = (Path<Comparable>) path;
+            Path<Long> rowId = root.get(ID);
+            if (descending) {
+                return builder.and(builder.lessThanOrEqualTo(key, value),
+                        builder.or(builder.lessThan(key, value), builder.lessThan(rowId, id)));
+            }
+            return builder.and(builder.greaterThanOrEqualTo(key, value),
+                    builder.or(builder.greaterThan(key, value), builder.greaterThan(rowId, id)));
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package com.codesoom.assignment.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * '장난감' 목록을 거르는 조건
+ * <p>
+ * 값이 없는 조건은 적용하지 않는다
+ * </p>
+ */
+@Getter
+@Builder
+public class ToyFilter {
+    /**
+     * '원' 단위의 최소 가격, 이 가격을 포함한다
+     */
+    private final BigDecimal minPrice;
+
+    /**
+     * '원' 단위의 최대 가격, 이 가격을 포함한다
+     */
+    private final BigDecimal maxPrice;
+
+    /**
+     * 생산자 id
+     */
+    private final Long makerId;
+
+    /**
+     * 생산자 이름
+     */
+    private final String maker;
+
+    /**
+     * 상품 이름의 접두어, 대소문자를 구분한다
+     */
+    private final String namePrefix;
+
+    /**
+     * 적용할 조건이 하나도 없는지 반환한다
+     * <p>
+     *
+     * @return 모든 조건이 비어 있다면 true
+     * </p>
+     */
+    public boolean isEmpty() {
+        return minPrice == null && maxPrice == null && makerId == null && maker == null && namePrefix == null;
+    }
+}
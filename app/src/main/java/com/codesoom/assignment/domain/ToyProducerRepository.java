@@ -13,6 +13,8 @@ public interface ToyProducerRepository extends CrudRepository<ToyProducer, Long>
 
     Optional<ToyProducer> findById(Long id);
 
+    Optional<ToyProducer> findFirstByNameOrderByIdAsc(String name);
+
     ToyProducer save(ToyProducer producer);
 
     void delete(ToyProducer producer);
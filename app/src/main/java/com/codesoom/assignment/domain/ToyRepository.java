@@ -1,17 +1,37 @@
 package com.codesoom.assignment.domain;
 
 import com.codesoom.assignment.domain.entities.Toy;
+import com.codesoom.assignment.domain.projections.MakerCount;
+import com.codesoom.assignment.domain.projections.ToySummary;
+import com.codesoom.assignment.domain.projections.VersionSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 /**
  * '장난감' 저장소 인터페이스
  */
 @Repository
-public interface ToyRepository extends CrudRepository<Toy, Long> {
+public interface ToyRepository extends CrudRepository<Toy, Long>, ToyRepositoryCustom {
+    String SUMMARY_SELECT = "select t.id as id, t.name as name, t.price.value as price, "
+            + "p.name as maker, t.demo.url as url, t.createdAt as createdAt from Toy t left join t.producer p ";
+    String SUMMARY_CACHE_REGION = "toy-summaries";
+
     /**
      * 모든 장난감을 반환한다
      * <p>
@@ -21,6 +41,117 @@ public interface ToyRepository extends CrudRepository<Toy, Long> {
      */
     List<Toy> findAll();
 
+    /**
+     * 모든 장난감의 응답용 컬럼만 조회하여 반환한다
+     * <p>
+     *
+     * 결과는 쿼리 캐시에 저장되며, 상품 또는 생산자 테이블이 변경되면 무효화된다
+     *
+     * @return 장난감 Projection을 내부 요소로 하는 List 콜렉션
+     * </p>
+     */
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = SUMMARY_CACHE_REGION)})
+    @Query(SUMMARY_SELECT + "order by t.id")
+    List<ToySummary> findAllSummaries();
+
+    /**
+     * 모든 장난감의 응답용 컬럼을 id 오름차순으로 데이터베이스 커서에서 읽어 반환한다
+     * <p>
+     * 반환된 Stream은 트랜잭션 안에서 소비한 뒤 반드시 닫아야 한다
+     *
+     * @return 장난감 Projection의 Stream
+     * </p>
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(SUMMARY_SELECT + "order by t.id")
+    Stream<ToySummary> streamAllSummaries();
+
+    /**
+     * id가 커서보다 큰 장난감의 응답용 컬럼만 id 오름차순으로 최대 pageable의 크기만큼 반환한다
+     * <p>
+     * 결과는 커서와 페이지 크기별로 쿼리 캐시에 저장되며, 상품 또는 생산자 테이블이 변경되면 무효화된다
+     *
+     * @param cursor   이전 페이지의 마지막 장난감 id
+     * @param pageable 조회할 페이지 크기
+     * @return 장난감 Projection을 내부 요소로 하는 Slice, 다음 페이지 존재여부를 포함한다
+     * </p>
+     */
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = SUMMARY_CACHE_REGION)})
+    @Query(SUMMARY_SELECT + "where t.id > :cursor order by t.id")
+    Slice<ToySummary> findSummariesByIdGreaterThan(@Param("cursor") Long cursor, Pageable pageable);
+
+    /**
+     * id에 해당하는 장난감의 응답용 컬럼만 조회하여 반환한다
+     * <p>
+     *
+     * @param id 장난감의 id
+     * @return Optional<ToySummary> 장난감 Projection
+     * </p>
+     */
+    @Query(SUMMARY_SELECT + "where t.id = :id")
+    Optional<ToySummary> findSummaryById(@Param("id") Long id);
+
+    /**
+     * id 목록에 해당하는 장난감의 응답용 컬럼만 id 오름차순으로 조회하여 반환한다
+     * <p>
+     * 존재하지 않는 id는 결과에서 빠진다
+     *
+     * @param ids 장난감 id 목록
+     * @return 장난감 Projection List
+     * </p>
+     */
+    @Query(SUMMARY_SELECT + "where t.id in :ids order by t.id")
+    List<ToySummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * id에 해당하는 장난감의 버전만 조회하여 반환한다
+     * <p>
+     *
+     * @param id 장난감의 id
+     * @return Optional<Long> 장난감의 버전
+     * </p>
+     */
+    @Query("select t.version from Toy t where t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * id가 커서보다 큰 장난감들의 개수, 최대 id, 버전의 합을 반환한다
+     * <p>
+     * 장난감이 추가, 수정, 삭제되면 셋 중 하나 이상이 반드시 달라진다
+     *
+     * @param cursor 이전 페이지의 마지막 장난감 id
+     * @return 장난감 목록의 버전 요약
+     * </p>
+     */
+    @Query("select count(t) as count, max(t.id) as maxId, sum(t.version) as versionSum "
+            + "from Toy t where t.id > :cursor")
+    VersionSummary findVersionSummary(@Param("cursor") Long cursor);
+
+    /**
+     * 생산자 이름별로 장난감 수를 세어 반환한다
+     * <p>
+     * 생산자 이름으로 GROUP BY 하므로 결과의 크기는 장난감 수가 아닌 생산자 수에 비례한다
+     *
+     * @return 생산자별 장난감 수 Projection List
+     * </p>
+     */
+    @Query("select p.name as maker, count(t) as count from Toy t left join t.producer p group by p.name")
+    List<MakerCount> countByMaker();
+
+    /**
+     * id에 해당하는 장난감을 생산자와 함께 한 번의 조회로 반환한다
+     * <p>
+     * 부분 수정처럼 엔티티를 변경한 뒤 생산자까지 응답해야 하는 경우에 사용한다
+     *
+     * @param id 장난감의 id
+     * @return Optional<Toy> 생산자가 초기화된 장난감
+     * </p>
+     */
+    @EntityGraph(attributePaths = "producer")
+    Optional<Toy> findWithProducerById(Long id);
+
     /**
      * id에 해당하는 장난감을 반환한다
      * <p>
@@ -0,0 +1,89 @@
+package com.codesoom.assignment.domain;
+
+import com.codesoom.assignment.domain.entities.Toy;
+import com.codesoom.assignment.domain.projections.ToyFacet;
+import com.codesoom.assignment.domain.projections.ToySummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * '장난감' 저장소에서 Spring Data 쿼리 메소드로 표현하기 어려운 JDBC 작업을 정의한다
+ * <p>
+ * All Known Implementing Classes:
+ * ToyRepositoryCustomImpl
+ * </p>
+ */
+public interface ToyRepositoryCustom {
+    /**
+     * 장난감의 가격만 수정하고, 수정된 장난감의 수정 전 생산자와 가격을 반환한다
+     * <p>
+     * 엔티티를 조회하지 않으며, 설정된 크기의 묶음마다 행을 select ... for update로 잠가 수정 전 값을 읽고
+     * JDBC batch update를 전송한다. 잠근 행에서 읽으므로 동시에 수정되더라도 다른 트랜잭션의 값과 섞이지 않는다
+     *
+     * @param prices 장난감 id를 키로, '원' 단위의 새 가격을 값으로 하는 Map
+     * @return 실제로 수정된 장난감 id를 키로, 수정 전 값을 값으로 하는 Map, 존재하지 않는 id는 포함되지 않는다
+     * </p>
+     */
+    Map<Long, ToyFacet> updatePrices(Map<Long, BigDecimal> prices);
+
+    /**
+     * 조회 조건을 만족하는 장난감의 응답용 컬럼만 페이지의 정렬 순서로 한 페이지 조회하여 반환한다
+     * <p>
+     * 페이지에 정렬이 없다면 id 오름차순으로 조회한다.
+     * 엔티티를 영속성 컨텍스트에 올리지 않으며, 다음 페이지 존재여부를 알기 위해 페이지 크기보다 한 행 더 조회한다
+     *
+     * @param specification 조회 조건
+     * @param pageable      조회할 페이지 크기와 정렬
+     * @return 장난감 Projection을 내부 요소로 하는 Slice, 다음 페이지 존재여부를 포함한다
+     * </p>
+     */
+    Slice<ToySummary> findSummaries(Specification<Toy> specification, Pageable pageable);
+
+    /**
+     * 가격 구간별로 장난감 수를 세어 반환한다
+     * <p>
+     * 구간 번호를 계산하는 CASE 식으로 GROUP BY 하므로 결과의 크기는 구간 수에 비례한다.
+     * i번째 구간은 bounds[i - 1] 이상 bounds[i] 미만이며, 첫 구간은 하한이, 마지막 구간은 상한이 없다
+     *
+     * @param bounds 오름차순으로 정렬된 구간 경계 가격
+     * @return 구간 번호를 인덱스로 하는 장난감 수 배열, 길이는 경계 수보다 하나 많다
+     * </p>
+     */
+    long[] countByPriceBucket(List<BigDecimal> bounds);
+
+    /**
+     * id에 해당하는 장난감의 이름, 가격, 생산자, 시연 URL을 상품 테이블과 장난감 테이블 행마다 한 번의 update로 수정하고
+     * 버전을 증가시킨다
+     * <p>
+     * 엔티티를 조회하지 않으며, 호출하는 쪽의 트랜잭션 안에서 실행되어야 한다.
+     * 수정 전 값은 수정하기 전에 select ... for update로 잠근 행에서 읽는다.
+     * 2차 캐시에서는 해당 장난감과 요약 쿼리 캐시만 지운다
+     *
+     * @param id         장난감 id
+     * @param name       장난감 이름
+     * @param price      '원' 단위의 가격
+     * @param producerId 생산자 id
+     * @param url        이미지 시연 URL
+     * @return 수정 전 생산자와 가격, 장난감이 없다면 빈 Optional
+     * </p>
+     */
+    Optional<ToyFacet> updateColumns(Long id, String name, BigDecimal price, Long producerId, String url);
+
+    /**
+     * id에 해당하는 장난감 테이블 행과 상품 테이블 행을 각각 한 번의 delete로 삭제한다
+     * <p>
+     * 엔티티를 조회하지 않으며, 호출하는 쪽의 트랜잭션 안에서 실행되어야 한다.
+     * 삭제 전 값은 삭제하기 전에 select ... for update로 잠근 행에서 읽는다
+     *
+     * @param id 장난감 id
+     * @return 삭제 전 생산자와 가격, 장난감이 없다면 빈 Optional
+     * </p>
+     */
+    Optional<ToyFacet> deleteRows(Long id);
+}
@@ -0,0 +1,260 @@
+package com.codesoom.assignment.domain;
+
+import com.codesoom.assignment.domain.entities.Product;
+import com.codesoom.assignment.domain.entities.Toy;
+import com.codesoom.assignment.domain.entities.ToyProducer;
+import com.codesoom.assignment.domain.projections.ToyFacet;
+import com.codesoom.assignment.domain.projections.ToySummary;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public class ToyRepositoryCustomImpl implements ToyRepositoryCustom {
+    // 수정하거나 삭제할 행을 잠그면서 수정 전 생산자와 가격을 읽는다
+    private static final String LOCK_FACETS = "select p.id, p.value, tp.name from product p "
+            + "inner join toy t on t.id = p.id left join toy_producer tp on tp.id = t.toy_producer_id "
+            + "where p.id in (%s) for update";
+    private static final String UPDATE_PRICE = "update product set value = ?, version = version + 1 where id = ?";
+    private static final String UPDATE_PRODUCT = "update product set name = ?, value = ?, version = version + 1 where id = ?";
+    private static final String UPDATE_TOY = "update toy set toy_producer_id = ?, url = ? where id = ?";
+    private static final String DELETE_TOY = "delete from toy where id = ?";
+    private static final String DELETE_PRODUCT = "delete from product where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final int chunkSize;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ToyRepositoryCustomImpl(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory,
+                                   @Value("${products.reprice.chunk-size}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public Map<Long, ToyFacet> updatePrices(Map<Long, BigDecimal> prices) {
+        List<Long> ids = new ArrayList<>(prices.keySet());
+        Map<Long, ToyFacet> previous = new LinkedHashMap<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            Map<Long, ToyFacet> locked = lockFacets(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+            jdbcTemplate.batchUpdate(UPDATE_PRICE, new ArrayList<>(locked.keySet()), chunkSize, (statement, id) -> {
+                statement.setBigDecimal(1, prices.get(id));
+                statement.setLong(2, id);
+            });
+            previous.putAll(locked);
+        }
+        evictCachedRows(previous.keySet());
+        return previous;
+    }
+
+    @Override
+    public Optional<ToyFacet> updateColumns(Long id, String name, BigDecimal price, Long producerId, String url) {
+        entityManager.flush();
+        Optional<ToyFacet> previous = Optional.ofNullable(lockFacets(List.of(id)).get(id));
+        previous.ifPresent(facet -> {
+            jdbcTemplate.update(UPDATE_PRODUCT, name, price, id);
+            jdbcTemplate.update(UPDATE_TOY, producerId, url, id);
+            evictCachedRows(Set.of(id));
+        });
+        return previous;
+    }
+
+    @Override
+    public Optional<ToyFacet> deleteRows(Long id) {
+        entityManager.flush();
+        Optional<ToyFacet> previous = Optional.ofNullable(lockFacets(List.of(id)).get(id));
+        previous.ifPresent(facet -> {
+            jdbcTemplate.update(DELETE_TOY, id);
+            jdbcTemplate.update(DELETE_PRODUCT, id);
+            evictCachedRows(Set.of(id));
+        });
+        return previous;
+    }
+
+    @Override
+    public Slice<ToySummary> findSummaries(Specification<Toy> specification, Pageable pageable) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        // 장난감을 루트로 하면 toy 테이블부터 읽어 상품 테이블의 가격, 이름, 등록 시각 인덱스를 쓰지 못하므로 상품 테이블부터 조인한다
+        Root<Toy> toy = builder.treat(query.from(Product.class), Toy.class);
+        Join<Toy, ToyProducer> producer = toy.join("producer", JoinType.LEFT);
+        query.multiselect(
+                toy.get("id").alias("id"),
+                toy.get("name").alias("name"),
+                toy.get("price").get("value").alias("price"),
+                producer.get("name").alias("maker"),
+                toy.get("demo").get("url").alias("url"),
+                toy.get("createdAt").alias("createdAt"));
+        Predicate predicate = specification.toPredicate(toy, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(pageable.getSort().isSorted()
+                ? QueryUtils.toOrders(pageable.getSort(), toy, builder)
+                : List.of(builder.asc(toy.get("id"))));
+
+        List<ToySummary> summaries = new ArrayList<>();
+        entityManager.createQuery(query)
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList()
+                .forEach(tuple -> summaries.add(new TupleSummary(tuple)));
+        boolean hasNext = summaries.size() > pageable.getPageSize();
+        if (hasNext) {
+            summaries.remove(pageable.getPageSize());
+        }
+        return new SliceImpl<>(summaries, pageable, hasNext);
+    }
+
+    @Override
+    public long[] countByPriceBucket(List<BigDecimal> bounds) {
+        StringBuilder bucket = new StringBuilder("case");
+        for (int index = 0; index < bounds.size(); index++) {
+            bucket.append(" when p.value < ").append(bounds.get(index).toPlainString())
+                    .append(" then ").append(index);
+        }
+        bucket.append(" else ").append(bounds.size()).append(" end");
+
+        long[] counts = new long[bounds.size() + 1];
+        jdbcTemplate.query("select " + bucket + ", count(*) from toy t inner join product p on t.id = p.id "
+                        + "group by " + bucket,
+                (RowCallbackHandler) row -> counts[row.getInt(1)] = row.getLong(2));
+        return counts;
+    }
+
+    /**
+     * 수정하거나 삭제할 장난감 행을 select ... for update로 잠그고 수정 전 생산자와 가격을 읽는다
+     * <p>
+     * 잠근 행은 트랜잭션이 끝날 때까지 다른 트랜잭션이 수정할 수 없으므로, 읽은 값이 곧 이 트랜잭션이 바꾸는 값이다.
+     * 다른 트랜잭션이 먼저 잠갔다면 커밋을 기다린 뒤 커밋된 값을 읽는다
+     * </p>
+     */
+    private Map<Long, ToyFacet> lockFacets(List<Long> ids) {
+        Map<Long, ToyFacet> facets = new LinkedHashMap<>();
+        jdbcTemplate.query(String.format(LOCK_FACETS, String.join(", ", Collections.nCopies(ids.size(), "?"))),
+                (RowCallbackHandler) row -> facets.put(row.getLong(1),
+                        new RowFacet(row.getString(3), row.getBigDecimal(2))),
+                ids.toArray());
+        return facets;
+    }
+
+    /**
+     * JDBC로 직접 수정해 Hibernate가 알지 못하는 변경을 2차 캐시와 쿼리 캐시에서 지운다
+     * <p>
+     * Hibernate의 네이티브 쿼리로 수정하면 모든 2차 캐시 region이 비워지므로 JDBC로 직접 실행하고 수정한 행만 지운다.
+     * 커밋 전에 다른 트랜잭션이 이전 값을 다시 캐시에 넣을 수 있으므로, 트랜잭션 안이라면 커밋 후에 한 번 더 지운다
+     * </p>
+     */
+    private void evictCachedRows(Set<Long> ids) {
+        evict(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    evict(ids);
+                }
+            });
+        }
+    }
+
+    private void evict(Set<Long> ids) {
+        Cache cache = entityManagerFactory.getCache();
+        ids.forEach(id -> cache.evict(Product.class, id));
+        entityManagerFactory.unwrap(SessionFactory.class).getCache()
+                .evictQueryRegion(ToyRepository.SUMMARY_CACHE_REGION);
+    }
+
+    /**
+     * 수정하거나 삭제한 행의 수정 전 값
+     */
+    private static final class RowFacet implements ToyFacet {
+        private final String maker;
+        private final BigDecimal price;
+
+        RowFacet(String maker, BigDecimal price) {
+            this.maker = maker;
+            this.price = price;
+        }
+
+        @Override
+        public String getMaker() {
+            return maker;
+        }
+
+        @Override
+        public BigDecimal getPrice() {
+            return price;
+        }
+    }
+
+    /**
+     * Criteria 조회 결과 한 행을 Projection으로 읽는다
+     */
+    private static final class TupleSummary implements ToySummary {
+        private final Tuple tuple;
+
+        TupleSummary(Tuple tuple) {
+            this.tuple = tuple;
+        }
+
+        @Override
+        public Long getId() {
+            return tuple.get("id", Long.class);
+        }
+
+        @Override
+        public String getName() {
+            return tuple.get("name", String.class);
+        }
+
+        @Override
+        public BigDecimal getPrice() {
+            return tuple.get("price", BigDecimal.class);
+        }
+
+        @Override
+        public String getMaker() {
+            return tuple.get("maker", String.class);
+        }
+
+        @Override
+        public String getUrl() {
+            return tuple.get("url", String.class);
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return tuple.get("createdAt", LocalDateTime.class);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.codesoom.assignment.domain;
+
+import com.codesoom.assignment.domain.entities.Toy;
+import com.codesoom.assignment.domain.projections.ToySummary;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * '장난감' 목록의 정렬 순서
+ * <p>
+ * 정렬마다 방향이 정해져 있으며, 같은 방향의 (정렬 키, id) 복합 인덱스를 따라 읽으므로 메모리에서 정렬하지 않는다
+ * </p>
+ */
+public enum ToySort implements KeysetSort {
+    /**
+     * 가격이 낮은 순서, idx_product_value
+     */
+    PRICE("price", "price.value", false, BigDecimal::new, summary -> summary.getPrice().toPlainString()),
+
+    /**
+     * 이름 순서, idx_product_name
+     */
+    NAME("name", "name", false, value -> value, ToySummary::getName),
+
+    /**
+     * 최근에 등록된 순서, idx_product_created_at
+     */
+    NEWEST("newest", "createdAt", true, LocalDateTime::parse, summary -> summary.getCreatedAt().toString());
+
+    private final String parameter;
+    private final String property;
+    private final boolean descending;
+    private final Function<String, Comparable<?>> parser;
+    private final Function<ToySummary, String> formatter;
+
+    ToySort(String parameter, String property, boolean descending,
+            Function<String, Comparable<?>> parser, Function<ToySummary, String> formatter) {
+        this.parameter = parameter;
+        this.property = property;
+        this.descending = descending;
+        this.parser = parser;
+        this.formatter = formatter;
+    }
+
+    /**
+     * 파라미터 이름에 해당하는 정렬을 반환한다
+     * <p>
+     *
+     * @param parameter 정렬 이름
+     * @return 정렬, 없는 이름이라면 비어 있다
+     * </p>
+     */
+    public static Optional<ToySort> of(String parameter) {
+        return Arrays.stream(values())
+                .filter(sort -> sort.parameter.equals(parameter))
+                .findFirst();
+    }
+
+    @Override
+    public String getParameter() {
+        return parameter;
+    }
+
+    @Override
+    public Comparable<?> parse(String value) {
+        return parser.apply(value);
+    }
+
+    /**
+     * Projection의 정렬 키 값을 문자열로 반환한다
+     * <p>
+     *
+     * @param summary 장난감 Projection
+     * @return 정렬 키 값의 문자열 표현
+     * </p>
+     */
+    public String format(ToySummary summary) {
+        return formatter.apply(summary);
+    }
+
+    /**
+     * 정렬 키와 id 순서의 정렬을 반환한다
+     */
+    public Sort toSort() {
+        return Keysets.sort(property, descending);
+    }
+
+    /**
+     * 키셋 이후의 장난감만 찾는 조회 조건을 반환한다
+     * <p>
+     *
+     * @param keyset 이전 페이지의 마지막 행 위치, 첫 페이지라면 null
+     * @return 조회 조건, 첫 페이지라면 null
+     * </p>
+     */
+    public Specification<Toy> after(Keyset keyset) {
+        return keyset == null ? null : Keysets.after(property, descending, keyset);
+    }
+}
@@ -0,0 +1,98 @@
+package com.codesoom.assignment.domain;
+
+import com.codesoom.assignment.domain.entities.Toy;
+import com.codesoom.assignment.domain.entities.ToyProducer;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+import java.math.BigDecimal;
+
+/**
+ * '장난감' 동적 조회 조건을 만든다
+ * <p>
+ * 각 조건은 product.value, product.name, toy.toy_producer_id 인덱스로 찾을 수 있는 형태로 만든다.
+ * 값이 없는 조건은 null을 반환하며, Specification.where와 and는 null 조건을 무시한다.
+ * </p>
+ */
+public final class ToySpecifications {
+    private static final String PRODUCER = "producer";
+    private static final char LIKE_ESCAPE = '\\';
+
+    private ToySpecifications() {
+    }
+
+    /**
+     * 필터의 모든 조건을 만족하는 조회 조건을 반환한다
+     * <p>
+     *
+     * @param filter 목록 필터
+     * @return 조회 조건
+     * </p>
+     */
+    public static Specification<Toy> matching(ToyFilter filter) {
+        return Specification.where(priceAtLeast(filter.getMinPrice()))
+                .and(priceAtMost(filter.getMaxPrice()))
+                .and(producedById(filter.getMakerId()))
+                .and(producedByName(filter.getMaker()))
+                .and(nameStartsWith(filter.getNamePrefix()));
+    }
+
+    /**
+     * 커서 이후의 id만 찾는 조회 조건을 반환한다
+     * <p>
+     *
+     * @param cursor 이전 페이지의 마지막 장난감 id, 처음부터라면 null
+     * @return 조회 조건
+     * </p>
+     */
+    public static Specification<Toy> idGreaterThan(Long cursor) {
+        long from = cursor == null ? 0L : cursor;
+        return (root, query, builder) -> builder.greaterThan(root.get("id"), from);
+    }
+
+    static Specification<Toy> priceAtLeast(BigDecimal price) {
+        if (price == null) {
+            return null;
+        }
+        return (root, query, builder) -> builder.greaterThanOrEqualTo(root.get("price").get("value"), price);
+    }
+
+    static Specification<Toy> priceAtMost(BigDecimal price) {
+        if (price == null) {
+            return null;
+        }
+        return (root, query, builder) -> builder.lessThanOrEqualTo(root.get("price").get("value"), price);
+    }
+
+    static Specification<Toy> producedById(Long makerId) {
+        if (makerId == null) {
+            return null;
+        }
+        return (root, query, builder) -> builder.equal(root.get(PRODUCER).get("id"), makerId);
+    }
+
+    static Specification<Toy> producedByName(String maker) {
+        if (maker == null) {
+            return null;
+        }
+        // root.get(PRODUCER).get("name")은 목록의 LEFT 조인과 별개로 묵시적 inner 조인을 하나 더 만들고,
+        // 목록의 LEFT 조인으로 거르면 H2가 조인 순서를 바꾸지 못해 toy 테이블을 모두 읽으므로 생산자 id 부분 질의로 거른다
+        return (root, query, builder) -> {
+            Subquery<Long> producerIds = query.subquery(Long.class);
+            Root<ToyProducer> producer = producerIds.from(ToyProducer.class);
+            producerIds.select(producer.get("id")).where(builder.equal(producer.get("name"), maker));
+            return root.get(PRODUCER).get("id").in(producerIds);
+        };
+    }
+
+    static Specification<Toy> nameStartsWith(String prefix) {
+        if (prefix == null) {
+            return null;
+        }
+        String pattern = prefix.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+        return (root, query, builder) -> builder.like(root.get("name"), pattern, LIKE_ESCAPE);
+    }
+}
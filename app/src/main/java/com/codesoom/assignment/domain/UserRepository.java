@@ -1,9 +1,16 @@
 package com.codesoom.assignment.domain;
 
 import com.codesoom.assignment.domain.entities.User;
+import com.codesoom.assignment.domain.projections.VersionSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +28,46 @@ public interface UserRepository extends CrudRepository<User, Long> {
      */
     List<User> findAll();
 
+    /**
+     * 사용자를 페이지의 정렬 순서로 한 페이지 반환한다
+     * <p>
+     *
+     * @param pageable 조회할 페이지 크기와 정렬
+     * @return 사용자를 내부 요소로 하는 Slice, 다음 페이지 존재여부를 포함한다
+     * </p>
+     */
+    @Query("select u from User u")
+    Slice<User> findPage(Pageable pageable);
+
+    /**
+     * 이름, id 오름차순에서 키셋 이후의 사용자를 한 페이지 반환한다
+     * <p>
+     * name >= :name 조건으로 idx_user_name 범위를 먼저 좁힌다
+     *
+     * @param name     이전 페이지의 마지막 사용자 이름
+     * @param id       이전 페이지의 마지막 사용자 id
+     * @param pageable 조회할 페이지 크기와 이름, id 오름차순 정렬
+     * @return 사용자를 내부 요소로 하는 Slice, 다음 페이지 존재여부를 포함한다
+     * </p>
+     */
+    @Query("select u from User u where u.name >= :name and (u.name > :name or u.id > :id)")
+    Slice<User> findPageAfterName(@Param("name") String name, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 등록 시각, id 내림차순에서 키셋 이후의 사용자를 한 페이지 반환한다
+     * <p>
+     * created_at <= :createdAt 조건으로 idx_user_created_at 범위를 먼저 좁힌다
+     *
+     * @param createdAt 이전 페이지의 마지막 사용자 등록 시각
+     * @param id        이전 페이지의 마지막 사용자 id
+     * @param pageable  조회할 페이지 크기와 등록 시각, id 내림차순 정렬
+     * @return 사용자를 내부 요소로 하는 Slice, 다음 페이지 존재여부를 포함한다
+     * </p>
+     */
+    @Query("select u from User u where u.createdAt <= :createdAt and (u.createdAt < :createdAt or u.id < :id)")
+    Slice<User> findPageBeforeCreatedAt(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                        Pageable pageable);
+
     /**
      * id에 해당하는 사용자를 반환한다
      * <p>
@@ -31,6 +78,28 @@ public interface UserRepository extends CrudRepository<User, Long> {
      */
     Optional<User> findById(Long id);
 
+    /**
+     * id에 해당하는 사용자의 버전만 조회하여 반환한다
+     * <p>
+     *
+     * @param id 사용자 id
+     * @return Optional<Long> 사용자의 버전
+     * </p>
+     */
+    @Query("select u.version from User u where u.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * 모든 사용자의 개수, 최대 id, 버전의 합을 반환한다
+     * <p>
+     * 사용자가 추가, 수정, 삭제되면 셋 중 하나 이상이 반드시 달라진다
+     *
+     * @return 사용자 목록의 버전 요약
+     * </p>
+     */
+    @Query("select count(u) as count, max(u.id) as maxId, sum(u.version) as versionSum from User u")
+    VersionSummary findVersionSummary();
+
     /**
      * 사용자를 저장한다
      * <p>
@@ -68,4 +137,35 @@ public interface UserRepository extends CrudRepository<User, Long> {
      * </p>
      */
     boolean existsById(Long id);
+
+    /**
+     * id에 해당하는 사용자를 조회하지 않고 한 번의 update로 수정하고 버전을 증가시킨다
+     * <p>
+     * 호출하는 쪽의 트랜잭션 안에서 실행되어야 한다
+     *
+     * @param id       사용자 id
+     * @param name     사용자 이름
+     * @param email    사용자 이메일
+     * @param password 사용자 비밀번호
+     * @return 수정된 행의 수, 사용자가 없다면 0
+     * </p>
+     */
+    @Modifying
+    @Query("update User u set u.name = :name, u.email = :email, u.password = :password, "
+            + "u.version = u.version + 1 where u.id = :id")
+    int updateColumns(@Param("id") Long id, @Param("name") String name,
+                      @Param("email") String email, @Param("password") String password);
+
+    /**
+     * id에 해당하는 사용자를 조회하지 않고 한 번의 delete로 삭제한다
+     * <p>
+     * 호출하는 쪽의 트랜잭션 안에서 실행되어야 한다
+     *
+     * @param id 사용자 id
+     * @return 삭제된 행의 수, 사용자가 없다면 0
+     * </p>
+     */
+    @Modifying
+    @Query("delete from User u where u.id = :id")
+    int deleteRow(@Param("id") Long id);
 }
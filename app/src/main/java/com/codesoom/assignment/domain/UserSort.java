@@ -0,0 +1,85 @@
+package com.codesoom.assignment.domain;
+
+import com.codesoom.assignment.domain.entities.User;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * '사용자' 목록의 정렬 순서
+ * <p>
+ * 정렬마다 방향이 정해져 있으며, 같은 방향의 (정렬 키, id) 복합 인덱스를 따라 읽으므로 메모리에서 정렬하지 않는다
+ * </p>
+ */
+public enum UserSort implements KeysetSort {
+    /**
+     * 이름 순서, idx_user_name
+     */
+    NAME("name", "name", false, value -> value, User::getName),
+
+    /**
+     * 최근에 등록된 순서, idx_user_created_at
+     */
+    NEWEST("newest", "createdAt", true, LocalDateTime::parse, user -> user.getCreatedAt().toString());
+
+    private final String parameter;
+    private final String property;
+    private final boolean descending;
+    private final Function<String, Comparable<?>> parser;
+    private final Function<User, String> formatter;
+
+    UserSort(String parameter, String property, boolean descending,
+             Function<String, Comparable<?>> parser, Function<User, String> formatter) {
+        this.parameter = parameter;
+        this.property = property;
+        this.descending = descending;
+        this.parser = parser;
+        this.formatter = formatter;
+    }
+
+    /**
+     * 파라미터 이름에 해당하는 정렬을 반환한다
+     * <p>
+     *
+     * @param parameter 정렬 이름
+     * @return 정렬, 없는 이름이라면 비어 있다
+     * </p>
+     */
+    public static Optional<UserSort> of(String parameter) {
+        return Arrays.stream(values())
+                .filter(sort -> sort.parameter.equals(parameter))
+                .findFirst();
+    }
+
+    @Override
+    public String getParameter() {
+        return parameter;
+    }
+
+    @Override
+    public Comparable<?> parse(String value) {
+        return parser.apply(value);
+    }
+
+    /**
+     * 사용자의 정렬 키 값을 문자열로 반환한다
+     * <p>
+     *
+     * @param user 사용자
+     * @return 정렬 키 값의 문자열 표현
+     * </p>
+     */
+    public String format(User user) {
+        return formatter.apply(user);
+    }
+
+    /**
+     * 정렬 키와 id 순서의 정렬을 반환한다
+     */
+    public Sort toSort() {
+        return Keysets.sort(property, descending);
+    }
+}
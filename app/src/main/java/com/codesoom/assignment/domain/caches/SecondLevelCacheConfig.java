@@ -0,0 +1,55 @@
+package com.codesoom.assignment.domain.caches;
+
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시가 사용할 JCache(Ehcache) CacheManager를 구성한다
+ * <p>
+ * region마다 설정된 크기와 만료 시간으로 캐시를 미리 만들고, Hibernate에 CacheManager를 직접 전달한다.
+ * 쿼리 캐시의 무효화 기준이 되는 update timestamps region은 만료되지 않아야 하므로 만료 시간을 두지 않는다.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+    static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+        // 테스트처럼 한 JVM에 여러 컨텍스트가 뜨더라도 CacheManager를 공유해 닫히지 않도록 컨텍스트마다 URI를 분리한다.
+        // 기본 URI가 아니면 Ehcache가 URI를 XML 설정 위치로 읽으므로, 빈 설정을 직접 넘긴다
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+                EhcacheCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(URI.create("urn:codesoom:l2:" + UUID.randomUUID()),
+                new DefaultConfiguration(getClass().getClassLoader()));
+
+        properties.getRegions().forEach((name, region) ->
+                cacheManager.createCache(name, Eh107Configuration.fromEhcacheCacheConfiguration(
+                        CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class,
+                                ResourcePoolsBuilder.heap(region.getMaxEntries()))
+                                .withExpiry(UPDATE_TIMESTAMPS_REGION.equals(name)
+                                        ? ExpiryPolicyBuilder.noExpiration()
+                                        : ExpiryPolicyBuilder.timeToLiveExpiration(region.getTimeToLive())))));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+}
@@ -0,0 +1,36 @@
+package com.codesoom.assignment.domain.caches;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 region별 크기와 만료 시간 설정
+ * <p>
+ * region 이름은 엔티티의 @Cache, 쿼리의 캐시 region 힌트에 사용한 이름과 같아야 한다
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "codesoom.cache")
+public class SecondLevelCacheProperties {
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Region {
+        /**
+         * region이 힙에 보관하는 최대 항목 수
+         */
+        private long maxEntries = 1_000;
+
+        /**
+         * 항목이 저장된 뒤 만료되기까지의 시간
+         */
+        private Duration timeToLive = Duration.ofMinutes(10);
+    }
+}
@@ -1,10 +1,19 @@
 package com.codesoom.assignment.domain.entities;
 
+import com.codesoom.assignment.domain.ids.PooledSequenceGenerator;
 import com.codesoom.assignment.domain.vos.Won;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 
 /**
  * '상품' Root Entity
@@ -14,13 +23,23 @@ import javax.persistence.*;
  * </p>
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product")
 @Getter
 @NoArgsConstructor
+@DynamicUpdate
 @Inheritance(strategy = InheritanceType.JOINED)
 @DiscriminatorColumn
+@Table(indexes = {
+        @Index(name = "idx_product_value", columnList = "value, id"),
+        @Index(name = "idx_product_name", columnList = "name, id"),
+        @Index(name = "idx_product_created_at", columnList = "createdAt desc, id desc")
+})
 public abstract class Product {
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @GenericGenerator(name = "product_seq", strategy = PooledSequenceGenerator.STRATEGY,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "product_seq"))
     private Long id;
 
     private String name;
@@ -29,6 +48,20 @@ public abstract class Product {
     @Embedded
     private Won price;
 
+    /**
+     * 상품이 수정될 때마다 증가하는 버전, 조건부 조회의 ETag로 사용한다
+     */
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private Long version;
+
+    /**
+     * 상품이 등록된 시각, 최신순 정렬에 사용한다
+     */
+    @CreationTimestamp
+    @Column(updatable = false, columnDefinition = "timestamp default current_timestamp not null")
+    private LocalDateTime createdAt;
+
     public Product(Long id, String name, Won price) {
         this.id = id;
         this.name = name;
@@ -40,4 +73,25 @@ public abstract class Product {
         this.price = price;
     }
 
+    /**
+     * 상품의 이름을 변경한다
+     * <p>
+     *
+     * @param name 변경할 이름
+     * </p>
+     */
+    public void changeName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 상품의 가격을 변경한다
+     * <p>
+     *
+     * @param price 변경할 가격
+     * </p>
+     */
+    public void changePrice(Won price) {
+        this.price = price;
+    }
 }
@@ -6,13 +6,16 @@ import com.codesoom.assignment.domain.vos.Won;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
 
 @Entity
 @Getter
 @NoArgsConstructor
+@DynamicUpdate
 @DiscriminatorValue("Toy")
+@Table(indexes = @Index(name = "idx_toy_toy_producer_id", columnList = "toy_producer_id"))
 public class Toy extends Product {
     @Embedded
     private ImageDemo demo;
@@ -34,4 +37,26 @@ public class Toy extends Product {
         this.producer = producer;
         this.demo = demo;
     }
+
+    /**
+     * 장난감의 생산자를 변경한다
+     * <p>
+     *
+     * @param producer 변경할 생산자
+     * </p>
+     */
+    public void changeProducer(ToyProducer producer) {
+        this.producer = producer;
+    }
+
+    /**
+     * 장난감의 시연 정보를 변경한다
+     * <p>
+     *
+     * @param demo 변경할 시연 정보
+     * </p>
+     */
+    public void changeDemo(ImageDemo demo) {
+        this.demo = demo;
+    }
 }
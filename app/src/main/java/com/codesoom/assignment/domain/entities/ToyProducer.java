@@ -1,22 +1,33 @@
 package com.codesoom.assignment.domain.entities;
 
 
+import com.codesoom.assignment.domain.ids.PooledSequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import javax.persistence.*;
 import java.util.Objects;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "toy-producer")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_toy_producer_name", columnNames = "name"))
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class ToyProducer {
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "toy_producer_seq")
+    @GenericGenerator(name = "toy_producer_seq", strategy = PooledSequenceGenerator.STRATEGY,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "toy_producer_seq"))
     private Long id;
 
     private String name;
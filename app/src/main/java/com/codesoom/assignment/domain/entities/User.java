@@ -1,22 +1,46 @@
 package com.codesoom.assignment.domain.entities;
 
+import com.codesoom.assignment.domain.ids.PooledSequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
+import javax.persistence.Cacheable;
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@DynamicUpdate
+@Table(indexes = {
+        @Index(name = "idx_user_name", columnList = "name, id"),
+        @Index(name = "idx_user_created_at", columnList = "createdAt desc, id desc")
+})
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class User {
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @GenericGenerator(name = "user_seq", strategy = PooledSequenceGenerator.STRATEGY,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "user_seq"))
     private Long id;
 
     private String name;
@@ -24,4 +48,51 @@ public class User {
     private String email;
 
     private String password;
+
+    /**
+     * 사용자가 수정될 때마다 증가하는 버전, 조건부 조회의 ETag로 사용한다
+     */
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private Long version;
+
+    /**
+     * 사용자가 등록된 시각, 최신순 정렬에 사용한다
+     */
+    @CreationTimestamp
+    @Column(updatable = false, columnDefinition = "timestamp default current_timestamp not null")
+    private LocalDateTime createdAt;
+
+    /**
+     * 사용자의 이름을 변경한다
+     * <p>
+     *
+     * @param name 변경할 이름
+     * </p>
+     */
+    public void changeName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 사용자의 이메일을 변경한다
+     * <p>
+     *
+     * @param email 변경할 이메일
+     * </p>
+     */
+    public void changeEmail(String email) {
+        this.email = email;
+    }
+
+    /**
+     * 사용자의 비밀번호를 변경한다
+     * <p>
+     *
+     * @param password 변경할 비밀번호
+     * </p>
+     */
+    public void changePassword(String password) {
+        this.password = password;
+    }
 }
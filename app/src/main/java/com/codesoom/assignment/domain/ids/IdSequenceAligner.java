@@ -0,0 +1,53 @@
+package com.codesoom.assignment.domain.ids;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 엔티티별 시퀀스가 이미 사용된 id와 겹치지 않도록 맞춘다
+ * <p>
+ * 공유 hibernate_sequence로 id를 발급받던 데이터베이스에 새 시퀀스가 1부터 생성되면 기존 id와 충돌한다.
+ * 스키마 갱신 직후, 웹 서버가 요청을 받기 전에 각 시퀀스의 다음 값이 테이블의 최대 id보다 크도록 재시작한다.
+ * 기존 행의 id는 바뀌지 않는다.
+ * </p>
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class IdSequenceAligner implements InitializingBean {
+    private static final Map<String, String> SEQUENCES_BY_TABLE = Map.of(
+            "product", "PRODUCT_SEQ",
+            "toy_producer", "TOY_PRODUCER_SEQ",
+            "user", "USER_SEQ");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceAligner(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        SEQUENCES_BY_TABLE.forEach(this::align);
+    }
+
+    private void align(String table, String sequence) {
+        List<Map<String, Object>> sequences = jdbcTemplate.queryForList(
+                "select current_value, increment from information_schema.sequences where sequence_name = ?",
+                sequence);
+        if (sequences.isEmpty()) {
+            return;
+        }
+
+        long currentValue = ((Number) sequences.get(0).get("current_value")).longValue();
+        long increment = ((Number) sequences.get(0).get("increment")).longValue();
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+        if (maxId != null && currentValue + increment <= maxId) {
+            jdbcTemplate.execute("alter sequence " + sequence + " restart with " + (maxId + 1));
+        }
+    }
+}
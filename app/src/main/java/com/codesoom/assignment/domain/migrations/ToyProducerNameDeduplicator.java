@@ -0,0 +1,54 @@
+package com.codesoom.assignment.domain.migrations;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 이름이 같은 생산자를 하나로 합치고 생산자 이름의 유니크 제약을 만든다
+ * <p>
+ * 유니크 제약이 생기기 전의 데이터베이스에는 이름이 같은 생산자가 여럿 있을 수 있고,
+ * 그 경우 스키마 갱신은 제약을 만들지 못한다.
+ * 스키마 갱신 직후, 웹 서버가 요청을 받기 전에 같은 이름 중 id가 가장 작은 생산자만 남기고
+ * 나머지를 가리키던 장난감을 남은 생산자로 옮긴 뒤, 제약이 없다면 만든다.
+ * </p>
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class ToyProducerNameDeduplicator implements InitializingBean {
+    static final String CONSTRAINT_NAME = "UK_TOY_PRODUCER_NAME";
+
+    private static final String DUPLICATE = "exists (select 1 from toy_producer kept "
+            + "where kept.name = toy_producer.name and kept.id < toy_producer.id)";
+    private static final String REPOINT_TOYS = "update toy set toy_producer_id = ("
+            + "select min(kept.id) from toy_producer kept join toy_producer duplicate on duplicate.name = kept.name "
+            + "where duplicate.id = toy.toy_producer_id) "
+            + "where toy_producer_id in (select id from toy_producer where " + DUPLICATE + ")";
+    private static final String DELETE_DUPLICATES = "delete from toy_producer where " + DUPLICATE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ToyProducerNameDeduplicator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(REPOINT_TOYS);
+            jdbcTemplate.update(DELETE_DUPLICATES);
+        });
+
+        Integer constraints = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.constraints where constraint_name = ?",
+                Integer.class, CONSTRAINT_NAME);
+        if (constraints != null && constraints == 0) {
+            jdbcTemplate.execute("alter table toy_producer add constraint " + CONSTRAINT_NAME + " unique (name)");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.codesoom.assignment.domain.projections;
+
+/**
+ * 생산자별 장난감 수 Projection
+ */
+public interface MakerCount {
+    /**
+     * 생산자 이름, 생산자가 없는 장난감이라면 null
+     */
+    String getMaker();
+
+    /**
+     * 생산자의 장난감 수
+     */
+    Long getCount();
+}
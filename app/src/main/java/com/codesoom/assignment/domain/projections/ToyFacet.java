@@ -0,0 +1,21 @@
+package com.codesoom.assignment.domain.projections;
+
+import java.math.BigDecimal;
+
+/**
+ * 생산자별, 가격 구간별 장난감 수를 세는 데 쓰는 값 Projection
+ * <p>
+ * 수정하거나 삭제하기 전에 잠근 행에서 읽은 값을 담는다
+ * </p>
+ */
+public interface ToyFacet {
+    /**
+     * 생산자 이름, 생산자가 없는 장난감이라면 null
+     */
+    String getMaker();
+
+    /**
+     * '원' 단위의 가격
+     */
+    BigDecimal getPrice();
+}
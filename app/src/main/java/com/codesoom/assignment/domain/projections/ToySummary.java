@@ -0,0 +1,42 @@
+package com.codesoom.assignment.domain.projections;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * '장난감' 조회 전용 Projection
+ * <p>
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 응답에 필요한 컬럼만 담는다
+ * </p>
+ */
+public interface ToySummary {
+    /**
+     * 장난감 id
+     */
+    Long getId();
+
+    /**
+     * 장난감 이름
+     */
+    String getName();
+
+    /**
+     * '원' 단위의 가격
+     */
+    BigDecimal getPrice();
+
+    /**
+     * 생산자 이름
+     */
+    String getMaker();
+
+    /**
+     * 이미지 시연 URL
+     */
+    String getUrl();
+
+    /**
+     * 등록 시각
+     */
+    LocalDateTime getCreatedAt();
+}
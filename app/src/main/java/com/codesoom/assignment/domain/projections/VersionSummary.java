@@ -0,0 +1,24 @@
+package com.codesoom.assignment.domain.projections;
+
+/**
+ * 목록의 버전 요약 Projection
+ * <p>
+ * 목록을 조회하지 않고도 목록이 바뀌었는지 판단할 수 있도록 집계 값만 담는다
+ * </p>
+ */
+public interface VersionSummary {
+    /**
+     * 행의 수
+     */
+    Long getCount();
+
+    /**
+     * 가장 큰 id, 행이 없다면 null
+     */
+    Long getMaxId();
+
+    /**
+     * 버전의 합, 행이 없다면 null
+     */
+    Long getVersionSum();
+}
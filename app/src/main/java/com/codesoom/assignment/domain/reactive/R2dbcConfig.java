@@ -0,0 +1,42 @@
+package com.codesoom.assignment.domain.reactive;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 반응형 조회에서 사용할 R2DBC 커넥션 풀을 구성한다
+ * <p>
+ * JDBC 데이터소스와 같은 H2 데이터베이스를 같은 설정으로 열도록 spring.datasource.url에서 R2DBC 설정을 만든다.
+ * 풀은 ReactiveConnectionPool로 감싸 등록하므로 JDBC 데이터소스와 JPA 자동 구성은 그대로 동작한다.
+ * </p>
+ */
+@Configuration
+public class R2dbcConfig {
+    private static final String H2_JDBC_PREFIX = "jdbc:h2:";
+
+    @Bean(destroyMethod = "dispose")
+    public ReactiveConnectionPool reactiveConnectionPool(
+            DataSourceProperties properties,
+            @Value("${codesoom.reactive.r2dbc.max-size}") int maxSize) {
+        String url = properties.determineUrl();
+        if (url == null || !url.startsWith(H2_JDBC_PREFIX)) {
+            throw new IllegalStateException("Reactive reads need an H2 datasource, but got " + url);
+        }
+
+        H2ConnectionFactory connectionFactory = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .url(url.substring(H2_JDBC_PREFIX.length()))
+                .username(properties.determineUsername())
+                .password(properties.determinePassword())
+                .build());
+        return new ReactiveConnectionPool(new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(1)
+                .maxSize(maxSize)
+                .build()));
+    }
+}
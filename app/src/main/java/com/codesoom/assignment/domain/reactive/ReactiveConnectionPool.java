@@ -0,0 +1,38 @@
+package com.codesoom.assignment.domain.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import reactor.core.publisher.Mono;
+
+/**
+ * 반응형 조회에서 사용하는 R2DBC 커넥션 풀
+ * <p>
+ * io.r2dbc.spi.ConnectionFactory 빈이 있으면 Spring Boot가 JDBC 데이터소스와 JPA를 구성하지 않으므로,
+ * 풀을 ConnectionFactory가 아닌 이 타입으로 감싸 빈으로 등록한다.
+ * </p>
+ */
+public class ReactiveConnectionPool {
+    private final ConnectionPool pool;
+
+    public ReactiveConnectionPool(ConnectionPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * 풀에서 커넥션을 빌려온다
+     * <p>
+     *
+     * @return 커넥션을 발행하는 Mono, 커넥션을 닫으면 풀에 돌아간다
+     * </p>
+     */
+    public Mono<Connection> create() {
+        return pool.create();
+    }
+
+    /**
+     * 풀의 모든 커넥션을 닫는다
+     */
+    public void dispose() {
+        pool.dispose();
+    }
+}
@@ -0,0 +1,74 @@
+package com.codesoom.assignment.domain.reactive;
+
+import com.codesoom.assignment.domain.projections.ToySummary;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Row;
+import lombok.Value;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * '장난감' 반응형 조회 저장소
+ * <p>
+ * R2DBC 커넥션에서 응답용 컬럼만 읽어, 구독자가 요청하는 만큼씩 Projection으로 흘려보낸다.
+ * 구독이 끝나거나 취소되면 커넥션을 풀에 돌려준다.
+ * r2dbc-h2는 구독하거나 더 요청한 스레드에서 H2를 동기로 호출하므로, 이벤트 루프를 막지 않도록
+ * boundedElastic 스케줄러에서 구독하고 읽는다.
+ * </p>
+ */
+@Repository
+public class ReactiveToyRepository {
+    static final String SUMMARY_SELECT = "select p.id, p.name, p.value, tp.name, t.url, p.created_at from toy t "
+            + "join product p on p.id = t.id left join toy_producer tp on tp.id = t.toy_producer_id "
+            + "where t.id > $1 order by t.id limit $2";
+
+    private final ReactiveConnectionPool connectionPool;
+
+    public ReactiveToyRepository(ReactiveConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    /**
+     * id가 커서보다 큰 장난감의 응답용 컬럼만 id 오름차순으로 최대 limit 개 흘려보낸다
+     * <p>
+     *
+     * @param cursor 이전 페이지의 마지막 장난감 id
+     * @param limit  최대 개수
+     * @return 장난감 Projection의 Flux
+     * </p>
+     */
+    public Flux<ToySummary> findSummariesByIdGreaterThan(long cursor, int limit) {
+        return Flux.usingWhen(connectionPool.create(),
+                connection -> Flux.from(connection.createStatement(SUMMARY_SELECT)
+                        .bind("$1", cursor)
+                        .bind("$2", limit)
+                        .execute())
+                        .concatMap(result -> result.map((row, metadata) -> summary(row))),
+                Connection::close)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private ToySummary summary(Row row) {
+        return new RowSummary(
+                row.get(0, Long.class),
+                row.get(1, String.class),
+                row.get(2, BigDecimal.class),
+                row.get(3, String.class),
+                row.get(4, String.class),
+                row.get(5, LocalDateTime.class));
+    }
+
+    @Value
+    private static class RowSummary implements ToySummary {
+        Long id;
+        String name;
+        BigDecimal price;
+        String maker;
+        String url;
+        LocalDateTime createdAt;
+    }
+}
@@ -0,0 +1,52 @@
+package com.codesoom.assignment.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.function.ToLongFunction;
+
+/**
+ * Hibernate 2차 캐시의 region별 적중, 실패, 저장 수를 Micrometer 지표로 등록한다
+ * <p>
+ * 전체 적중 수는 스프링 부트가 등록하는 hibernate.* 지표로 충분하지만 region 태그가 없으므로,
+ * region별 수는 codesoom.cache.region.* 지표로 따로 제공한다. actuator의 metrics 엔드포인트로 조회한다.
+ * </p>
+ */
+@Component
+public class CacheRegionMetrics implements MeterBinder {
+    static final String REQUESTS = "codesoom.cache.region.requests";
+    static final String PUTS = "codesoom.cache.region.puts";
+
+    private final Statistics statistics;
+
+    public CacheRegionMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            counter(registry, REQUESTS, region, Tags.of("result", "hit"), CacheRegionStatistics::getHitCount);
+            counter(registry, REQUESTS, region, Tags.of("result", "miss"), CacheRegionStatistics::getMissCount);
+            counter(registry, PUTS, region, Tags.empty(), CacheRegionStatistics::getPutCount);
+        }
+    }
+
+    private void counter(MeterRegistry registry, String name, String region, Tags tags,
+                         ToLongFunction<CacheRegionStatistics> count) {
+        FunctionCounter.builder(name, statistics, stats -> {
+            CacheRegionStatistics regionStatistics = stats.getCacheRegionStatistics(region);
+            return regionStatistics == null ? 0 : count.applyAsLong(regionStatistics);
+        })
+                .tag("region", region)
+                .tags(tags)
+                .register(registry);
+    }
+}
@@ -0,0 +1,83 @@
+package com.codesoom.assignment.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 컨트롤러와 서비스의 public 메소드 실행 시간을 Micrometer Timer로 기록한다
+ * <p>
+ * operation 태그는 메소드를 선언한 인터페이스 기준으로 'ToyListController.list'처럼 붙이고,
+ * 인터페이스가 없다면 클래스 이름을 쓴다. 예외로 끝난 호출은 exception 태그에 예외 이름을 남긴다.
+ * </p>
+ */
+@Aspect
+@Component
+public class MethodTimingAspect {
+    static final String CONTROLLER_TIMER = "codesoom.controller";
+    static final String SERVICE_TIMER = "codesoom.service";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry registry;
+    private final Map<Method, Map<String, Timer>> timers = new ConcurrentHashMap<>();
+
+    public MethodTimingAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * com.codesoom.assignment.controllers.*Controller.*(..))")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(CONTROLLER_TIMER, joinPoint);
+    }
+
+    @Around("execution(public * com.codesoom.assignment.application.*Service.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_TIMER, joinPoint);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(registry);
+        String exception = NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(timerOf(name, joinPoint, exception));
+        }
+    }
+
+    /**
+     * 메소드와 예외 이름별로 한 번만 Timer를 등록하고 이후 호출에서는 등록한 Timer를 재사용한다
+     */
+    private Timer timerOf(String name, ProceedingJoinPoint joinPoint, String exception) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return timers.computeIfAbsent(method, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(exception, key -> Timer.builder(name)
+                        .tag("operation", operationOf(method, joinPoint.getTarget()))
+                        .tag("exception", key)
+                        .publishPercentileHistogram()
+                        .register(registry));
+    }
+
+    private String operationOf(Method method, Object target) {
+        Class<?> type = AopUtils.getTargetClass(target);
+        for (Class<?> contract : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+            if (ClassUtils.hasMethod(contract, method.getName(), method.getParameterTypes())) {
+                return contract.getSimpleName() + "." + method.getName();
+            }
+        }
+        return type.getSimpleName() + "." + method.getName();
+    }
+}
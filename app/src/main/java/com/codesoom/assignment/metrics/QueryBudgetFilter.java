@@ -0,0 +1,113 @@
+package com.codesoom.assignment.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행된 SQL 문 수, JDBC 실행 시간, 읽은 행 수를 엔드포인트별 지표로 기록한다
+ * <p>
+ * SQL 문 수가 설정된 예산을 넘은 요청은 경고 로그를 남겨 N+1 조회가 늘어난 것을 알 수 있게 한다.
+ * 비동기로 처리되는 요청은 기록을 요청 속성에 보관했다가 비동기 디스패치가 끝날 때 한 번만 기록한다.
+ * </p>
+ */
+@Component
+public class QueryBudgetFilter extends OncePerRequestFilter {
+    static final String STATEMENTS = "codesoom.request.statements";
+    static final String ROWS = "codesoom.request.rows";
+    static final String JDBC_TIME = "codesoom.request.jdbc.time";
+    private static final String UNKNOWN_ENDPOINT = "UNKNOWN";
+    private static final String STATISTICS_ATTRIBUTE = QueryBudgetFilter.class.getName() + ".statistics";
+    private static final Logger logger = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    private final MeterRegistry registry;
+    private final int budget;
+    private final Map<String, Map<String, RequestMeters>> meters = new ConcurrentHashMap<>();
+
+    public QueryBudgetFilter(MeterRegistry registry, @Value("${codesoom.queries.budget}") int budget) {
+        this.registry = registry;
+        this.budget = budget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        QueryStatistics started = (QueryStatistics) request.getAttribute(STATISTICS_ATTRIBUTE);
+        if (started == null) {
+            QueryStatistics.start();
+        } else {
+            request.removeAttribute(STATISTICS_ATTRIBUTE);
+            QueryStatistics.bind(started);
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryStatistics statistics = QueryStatistics.finish();
+            if (request.isAsyncStarted()) {
+                request.setAttribute(STATISTICS_ATTRIBUTE, statistics);
+            } else {
+                record(request, statistics);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    private void record(HttpServletRequest request, QueryStatistics statistics) {
+        String endpoint = endpointOf(request);
+        RequestMeters requestMeters = meters.computeIfAbsent(endpoint, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(request.getMethod(), method -> new RequestMeters(registry,
+                        Tags.of("method", method, "uri", endpoint)));
+        requestMeters.statements.record(statistics.getStatements());
+        requestMeters.rows.record(statistics.getRows());
+        requestMeters.jdbcTime.record(statistics.getElapsedMillis(), TimeUnit.MILLISECONDS);
+
+        if (statistics.getStatements() > budget) {
+            logger.warn("{} {} issued {} SQL statements (budget {}), jdbc {} ms, {} rows",
+                    request.getMethod(), endpoint, statistics.getStatements(), budget,
+                    statistics.getElapsedMillis(), statistics.getRows());
+        }
+    }
+
+    private String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNKNOWN_ENDPOINT : pattern.toString();
+    }
+
+    /**
+     * 한 엔드포인트와 HTTP 메소드 조합의 지표
+     * <p>
+     * 요청마다 MeterRegistry에서 태그로 지표를 찾지 않도록 처음 기록할 때 만들어 보관한다
+     * </p>
+     */
+    private static final class RequestMeters {
+        private final DistributionSummary statements;
+        private final DistributionSummary rows;
+        private final Timer jdbcTime;
+
+        private RequestMeters(MeterRegistry registry, Tags tags) {
+            this.statements = registry.summary(STATEMENTS, tags);
+            this.rows = registry.summary(ROWS, tags);
+            this.jdbcTime = registry.timer(JDBC_TIME, tags);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.codesoom.assignment.metrics;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 데이터소스를 SQL 실행과 ResultSet 읽기를 기록하는 프록시로 감싼다
+ * <p>
+ * 감싼 데이터소스는 unwrap으로 원래 커넥션 풀에 접근할 수 있으므로 Hikari 지표는 그대로 수집된다
+ * </p>
+ */
+@Component
+public class QueryCountingDataSourcePostProcessor implements BeanPostProcessor {
+    private final QueryCountingListener listener = new QueryCountingListener();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+
+        return ProxyDataSourceBuilder.create((DataSource) bean)
+                .name(beanName)
+                .listener(listener)
+                .methodListener(listener)
+                .proxyResultSet()
+                .build();
+    }
+}
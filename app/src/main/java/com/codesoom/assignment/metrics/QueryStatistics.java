@@ -0,0 +1,90 @@
+package com.codesoom.assignment.metrics;
+
+/**
+ * 한 HTTP 요청 동안 실행된 SQL 문 수, JDBC 실행 시간, 읽은 행 수를 모은다
+ * <p>
+ * 요청을 처리하는 스레드에 묶이며, start와 finish 사이에서만 기록된다.
+ * 제한된 스레드 풀에서 실행되는 핸들러에는 QueryStatisticsPropagation이 같은 기록을 묶어 준다.
+ * 그 밖의 요청 밖(애플리케이션 시작, 스트리밍 응답의 비동기 스레드 등)에서 실행된 SQL은 기록하지 않는다.
+ * </p>
+ */
+final class QueryStatistics {
+    private static final ThreadLocal<QueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long elapsedMillis;
+    private long rows;
+
+    /**
+     * 현재 스레드에서 새로 기록을 시작한다
+     * <p>
+     *
+     * @return 현재 스레드의 기록
+     * </p>
+     */
+    static QueryStatistics start() {
+        QueryStatistics statistics = new QueryStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * 현재 스레드의 기록을 반환한다
+     * <p>
+     *
+     * @return 현재 스레드의 기록, 기록 중이 아니라면 null
+     * </p>
+     */
+    static QueryStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 다른 스레드에서 시작된 기록을 현재 스레드에 묶는다
+     * <p>
+     *
+     * @param statistics 묶을 기록, null이라면 현재 스레드의 기록을 떼어낸다
+     * </p>
+     */
+    static void bind(QueryStatistics statistics) {
+        if (statistics == null) {
+            CURRENT.remove();
+            return;
+        }
+        CURRENT.set(statistics);
+    }
+
+    /**
+     * 현재 스레드의 기록을 끝내고 반환한다
+     * <p>
+     *
+     * @return 끝난 기록
+     * </p>
+     */
+    static QueryStatistics finish() {
+        QueryStatistics statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics;
+    }
+
+    void addStatement(long elapsedMillis) {
+        this.statements++;
+        this.elapsedMillis += elapsedMillis;
+    }
+
+    void addRow() {
+        this.rows++;
+    }
+
+    int getStatements() {
+        return statements;
+    }
+
+    long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    long getRows() {
+        return rows;
+    }
+}
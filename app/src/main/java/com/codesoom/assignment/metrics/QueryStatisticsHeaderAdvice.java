@@ -0,0 +1,49 @@
+package com.codesoom.assignment.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 디버그 모드에서 응답 본문을 쓰기 직전까지 실행된 SQL 통계를 응답 헤더로 알린다
+ * <p>
+ * 본문을 쓰기 시작하면 헤더를 바꿀 수 없으므로 필터가 아닌 본문 쓰기 직전에 추가한다
+ * </p>
+ */
+@ControllerAdvice
+public class QueryStatisticsHeaderAdvice implements ResponseBodyAdvice<Object> {
+    static final String COUNT_HEADER = "X-Query-Count";
+    static final String TIME_HEADER = "X-Query-Time-Millis";
+    static final String ROWS_HEADER = "X-Query-Rows";
+
+    private final boolean enabled;
+
+    public QueryStatisticsHeaderAdvice(@Value("${codesoom.queries.debug-headers}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return enabled;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        QueryStatistics statistics = QueryStatistics.current();
+        if (statistics != null) {
+            HttpHeaders headers = response.getHeaders();
+            headers.set(COUNT_HEADER, String.valueOf(statistics.getStatements()));
+            headers.set(TIME_HEADER, String.valueOf(statistics.getElapsedMillis()));
+            headers.set(ROWS_HEADER, String.valueOf(statistics.getRows()));
+        }
+        return body;
+    }
+}
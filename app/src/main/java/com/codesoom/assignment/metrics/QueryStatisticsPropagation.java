@@ -0,0 +1,40 @@
+package com.codesoom.assignment.metrics;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 요청 스레드의 QueryStatistics를 다른 스레드에서 실행되는 작업에 전달한다
+ * <p>
+ * 작업을 감싸는 시점의 기록을 작업을 실행하는 스레드에 묶고, 작업이 끝나면 그 스레드의 이전 상태로 되돌린다.
+ * 요청 스레드와 작업 스레드가 같은 기록에 동시에 쓰지 않도록, 요청 스레드가 작업을 넘기고 기다리는 경우에만 사용한다.
+ * </p>
+ */
+public final class QueryStatisticsPropagation {
+    private QueryStatisticsPropagation() {
+    }
+
+    /**
+     * 현재 스레드의 기록을 실행 스레드에 묶는 작업을 반환한다
+     * <p>
+     *
+     * @param callable 다른 스레드에서 실행할 작업
+     * @param <T>      작업 결과 타입
+     * @return 기록을 묶어 실행하는 작업, 기록 중이 아니라면 callable 그대로
+     * </p>
+     */
+    public static <T> Callable<T> wrap(Callable<T> callable) {
+        QueryStatistics statistics = QueryStatistics.current();
+        if (statistics == null) {
+            return callable;
+        }
+        return () -> {
+            QueryStatistics previous = QueryStatistics.current();
+            QueryStatistics.bind(statistics);
+            try {
+                return callable.call();
+            } finally {
+                QueryStatistics.bind(previous);
+            }
+        };
+    }
+}
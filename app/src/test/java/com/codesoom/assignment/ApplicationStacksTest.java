@@ -0,0 +1,86 @@
+package com.codesoom.assignment;
+
+import com.codesoom.assignment.controllers.ReactiveProductServer;
+import com.codesoom.assignment.domain.ToyProducerRepository;
+import com.codesoom.assignment.domain.ToyRepository;
+import com.codesoom.assignment.domain.entities.Toy;
+import com.codesoom.assignment.domain.entities.ToyProducer;
+import com.codesoom.assignment.domain.vos.ImageDemo;
+import com.codesoom.assignment.domain.vos.Won;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import javax.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "codesoom.reactive.port=0")
+@DisplayName("App")
+class ApplicationStacksTest {
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private ReactiveProductServer reactiveServer;
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private ToyRepository toyRepository;
+    @Autowired
+    private ToyProducerRepository producerRepository;
+
+    private Toy saved;
+
+    @BeforeEach
+    void setUp() {
+        ToyProducer producer = producerRepository.save(ToyProducer.builder()
+                .name("Stacks Producer")
+                .build());
+        saved = toyRepository.save(Toy.builder()
+                .name("Stacks Product")
+                .price(new Won(new BigDecimal(1000)))
+                .producer(producer)
+                .demo(new ImageDemo("https://metacode.biz/@test/avatar.jpg"))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        toyRepository.deleteAll();
+        producerRepository.deleteAll();
+    }
+
+    @Nested
+    @DisplayName("애플리케이션이 시작되면")
+    class Describe_started {
+        @Test
+        @DisplayName("JPA 기반의 서블릿 API와 R2DBC 기반의 반응형 API가 같은 데이터베이스에서 함께 응답한다")
+        void it_serves_both_stacks() {
+            assertThat(entityManagerFactory.isOpen()).isTrue();
+            assertThat(reactiveServer.isRunning()).isTrue();
+
+            ResponseEntity<String> servlet = restTemplate.getForEntity("/products/" + saved.getId(), String.class);
+            assertThat(servlet.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+            WebTestClient.bindToServer()
+                    .baseUrl("http://localhost:" + reactiveServer.getPort())
+                    .build()
+                    .get().uri("/products?cursor={cursor}&size=1", saved.getId() - 1)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody().jsonPath("$[0].id").isEqualTo(saved.getId().intValue());
+        }
+    }
+}
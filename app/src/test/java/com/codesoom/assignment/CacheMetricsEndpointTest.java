@@ -0,0 +1,70 @@
+package com.codesoom.assignment;
+
+import com.codesoom.assignment.domain.ToyProducerRepository;
+import com.codesoom.assignment.domain.ToyRepository;
+import com.codesoom.assignment.domain.entities.Toy;
+import com.codesoom.assignment.domain.entities.ToyProducer;
+import com.codesoom.assignment.domain.vos.ImageDemo;
+import com.codesoom.assignment.domain.vos.Won;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("캐시 지표 엔드포인트")
+class CacheMetricsEndpointTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ToyRepository repository;
+    @Autowired
+    private ToyProducerRepository producerRepository;
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+        producerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("2차 캐시의 region별 적중, 실패 수와 쿼리 캐시의 적중, 실패, 저장 수를 응답한다")
+    void it_exposes_hibernate_cache_metrics() throws Exception {
+        ToyProducer producer = producerRepository.save(
+                ToyProducer.builder().name("Cache Metrics Producer").build());
+        Toy saved = repository.save(Toy.builder()
+                .name("Cache Metrics Toy")
+                .price(new Won(new BigDecimal(1000)))
+                .producer(producer)
+                .demo(new ImageDemo("https://metacode.biz/@test/avatar.jpg"))
+                .build());
+        for (int count = 0; count < 2; count++) {
+            mockMvc.perform(get("/products/" + saved.getId()))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/actuator/metrics/codesoom.cache.region.requests")
+                .param("tag", "region:product", "result:hit"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value").value(greaterThan(0.0)));
+        for (String metric : List.of("hibernate.second.level.cache.requests",
+                "hibernate.cache.query.requests", "hibernate.cache.query.puts", "codesoom.cache.region.puts")) {
+            mockMvc.perform(get("/actuator/metrics/" + metric))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.name").value(metric))
+                    .andExpect(jsonPath("$.measurements").isNotEmpty());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.codesoom.assignment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("커넥션 풀 지표 엔드포인트")
+class PoolMetricsEndpointTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("활성, 유휴, 대기 커넥션 수와 커넥션 획득 시간을 응답한다")
+    void it_exposes_hikari_pool_metrics() throws Exception {
+        for (String metric : List.of("hikaricp.connections.active", "hikaricp.connections.idle",
+                "hikaricp.connections.pending", "hikaricp.connections.acquire")) {
+            mockMvc.perform(get("/actuator/metrics/" + metric))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.name").value(metric))
+                    .andExpect(jsonPath("$.measurements").isNotEmpty());
+        }
+    }
+}
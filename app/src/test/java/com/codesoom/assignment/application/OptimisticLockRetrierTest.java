@@ -0,0 +1,95 @@
+package com.codesoom.assignment.application;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OptimisticLockRetrier")
+class OptimisticLockRetrierTest {
+    private final int MAX_ATTEMPTS = 3;
+    private OptimisticLockRetrier retrier;
+    private AtomicInteger attempts;
+
+    @BeforeEach
+    void setUp() {
+        retrier = new OptimisticLockRetrier(MAX_ATTEMPTS, Duration.ZERO);
+        attempts = new AtomicInteger();
+    }
+
+    private String conflictingUntil(int failures) {
+        if (attempts.incrementAndGet() <= failures) {
+            throw new ObjectOptimisticLockingFailureException(Object.class, 1L);
+        }
+        return "patched";
+    }
+
+    @Nested
+    @DisplayName("run 메소드는")
+    class Describe_run {
+        @Test
+        @DisplayName("충돌하지 않으면 작업을 한 번만 실행하고 결과를 반환한다")
+        void it_runs_once_without_conflict() {
+            assertThat(retrier.run(() -> conflictingUntil(0))).isEqualTo("patched");
+            assertThat(attempts).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수 안에서 충돌이 해소되면 결과를 반환한다")
+        void it_retries_until_success() {
+            assertThat(retrier.run(() -> conflictingUntil(MAX_ATTEMPTS - 1))).isEqualTo("patched");
+            assertThat(attempts).hasValue(MAX_ATTEMPTS);
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수까지 충돌하면 마지막 예외를 던진다")
+        void it_gives_up_after_max_attempts() {
+            assertThatThrownBy(() -> retrier.run(() -> conflictingUntil(MAX_ATTEMPTS)))
+                    .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+            assertThat(attempts).hasValue(MAX_ATTEMPTS);
+        }
+
+        @Test
+        @DisplayName("기다리는 중에 인터럽트되면 다시 시도하지 않고 예외를 던진다")
+        void it_stops_when_interrupted() {
+            OptimisticLockRetrier waitingRetrier = new OptimisticLockRetrier(MAX_ATTEMPTS, Duration.ofSeconds(10));
+            Thread.currentThread().interrupt();
+
+            assertThatThrownBy(() -> waitingRetrier.run(() -> conflictingUntil(MAX_ATTEMPTS)))
+                    .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+            assertThat(attempts).hasValue(1);
+            assertThat(Thread.interrupted()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("트랜잭션 안에서 run 메소드는")
+    class Describe_run_in_transaction {
+        @BeforeEach
+        void setUp() {
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+        }
+
+        @AfterEach
+        void tearDown() {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        @Test
+        @DisplayName("작업을 실행하지 않고 예외를 던진다")
+        void it_throws_exception() {
+            assertThatThrownBy(() -> retrier.run(() -> conflictingUntil(0)))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(attempts).hasValue(0);
+        }
+    }
+}
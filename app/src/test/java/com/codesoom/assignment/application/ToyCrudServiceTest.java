@@ -1,9 +1,15 @@
 package com.codesoom.assignment.application;
 
 import com.codesoom.assignment.application.exceptions.ProductNotFoundException;
+import com.codesoom.assignment.application.exceptions.ProductVersionMismatchException;
+import com.codesoom.assignment.application.facets.ToyFacetCounter;
+import com.codesoom.assignment.application.search.ToySearchIndex;
 import com.codesoom.assignment.domain.*;
 import com.codesoom.assignment.domain.entities.Toy;
 import com.codesoom.assignment.domain.entities.ToyProducer;
+import com.codesoom.assignment.domain.projections.ToyFacet;
+import com.codesoom.assignment.domain.projections.ToySummary;
+import com.codesoom.assignment.domain.projections.VersionSummary;
 import com.codesoom.assignment.domain.vos.ImageDemo;
 import com.codesoom.assignment.domain.vos.Won;
 import com.codesoom.assignment.fixtures.ToyFixture;
@@ -14,15 +20,27 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @DisplayName("ToyCrudService")
 @SpringBootTest(classes = {ToyFixture.class, ToyProducerFixture.class})
@@ -34,9 +52,14 @@ class ToyCrudServiceTest {
 
     private ToyCrudService service;
     private final ToyRepository repository = mock(ToyRepository.class);
-    private final ToyProducerRepository producerRepository = mock(ToyProducerRepository.class);
+    private final ToyProducerResolver producerResolver = mock(ToyProducerResolver.class);
+    private final ToyDetailCache detailCache = mock(ToyDetailCache.class);
+    private final ToySearchIndex searchIndex = mock(ToySearchIndex.class);
+    private final ToyFacetCounter facetCounter = mock(ToyFacetCounter.class);
 
     private Toy toy;
+    private ToySummary toySummary;
+    private ToyFacet previous;
     private Toy toyWithoutId;
     private ToyProducer producer;
     private ImageDemo demo;
@@ -44,57 +67,130 @@ class ToyCrudServiceTest {
     private final Long TOY_ID = 1L;
     private final Long TOY_ID_NOT_EXISTING = 10L;
     private final String PRODUCT_NAME = "Test Product";
+    private final int MAX_PAGE_SIZE = 100;
+    private final String PREVIOUS_MAKER = "Previous Producer";
+    private final BigDecimal PREVIOUS_PRICE = new BigDecimal(500);
 
 
     @BeforeEach
     void setUp() {
-        service = new ToyCrudService(repository, producerRepository);
+        service = new ToyCrudService(repository, producerResolver, detailCache, searchIndex, facetCounter,
+                MAX_PAGE_SIZE);
 
         producer = toyProducerFixture.toyProducer();
         toyWithoutId = toyFixture.toyWithoutId();
         toy = toyFixture.toy();
+        toySummary = toyFixture.toySummary();
+        previous = mock(ToyFacet.class);
+        given(previous.getMaker()).willReturn(PREVIOUS_MAKER);
+        given(previous.getPrice()).willReturn(PREVIOUS_PRICE);
         demo = toy.getDemo();
         price = toy.getPrice();
     }
 
     @Nested
-    @DisplayName("showAll 메소드는")
-    class Describe_showAll {
-        private List<Toy> subject() {
-            return service.showAll();
+    @DisplayName("showAllSummaries 메소드는")
+    class Describe_showAllSummaries {
+        @Test
+        @DisplayName("저장소가 조회한 모든 장난감의 Projection을 반환한다")
+        void it_returns_all_summaries() {
+            given(repository.findAllSummaries()).willReturn(List.of(toySummary));
+
+            assertThat(service.showAllSummaries()).containsExactly(toySummary);
         }
+    }
 
-        @Nested
-        @DisplayName("만약 존재하는 장난감이 없다면")
-        class Context_without_existing_toy {
-            @BeforeEach
-            void setUp() {
-                given(repository.findAll()).willReturn(List.of());
-            }
+    @Nested
+    @DisplayName("showPage 메소드는")
+    class Describe_showPage {
+        @BeforeEach
+        void setUp() {
+            given(repository.findSummariesByIdGreaterThan(any(Long.class), any(PageRequest.class)))
+                    .willReturn(new SliceImpl<>(List.of(toySummary)));
+        }
 
+        @Nested
+        @DisplayName("만약 커서 없이 조회한다면")
+        class Context_without_cursor {
             @Test
-            @DisplayName("빈 리스트를 반환한다")
-            void it_returns_empty_list() {
-                assertThat(subject()).isEmpty();
+            @DisplayName("첫 번째 id부터 조회한다")
+            void it_reads_from_first_id() {
+                Slice<ToySummary> actual = service.showPage(null, 20);
+
+                assertThat(actual.getContent()).containsExactly(toySummary);
+                verify(repository).findSummariesByIdGreaterThan(0L, PageRequest.of(0, 20));
             }
         }
 
         @Nested
-        @DisplayName("만약 존재하는 장난감이 있다면")
-        class Context_with_existing_toy {
-            @BeforeEach
-            void setUp() {
-                given(repository.findAll()).willReturn(List.of(toy));
+        @DisplayName("만약 최대 페이지 크기보다 큰 크기를 요청한다면")
+        class Context_with_size_over_max {
+            @Test
+            @DisplayName("최대 페이지 크기만큼만 조회한다")
+            void it_reads_at_most_max_page_size() {
+                service.showPage(TOY_ID, MAX_PAGE_SIZE + 1);
+
+                verify(repository).findSummariesByIdGreaterThan(TOY_ID, PageRequest.of(0, MAX_PAGE_SIZE));
             }
+        }
 
+        @Nested
+        @DisplayName("만약 1보다 작은 크기를 요청한다면")
+        class Context_with_size_under_one {
             @Test
-            @DisplayName("비어 있지 않은 리스트를 반환한다")
-            void it_returns_not_empty_list() {
-                assertThat(subject()).isNotEmpty();
+            @DisplayName("한 건을 조회한다")
+            void it_reads_one() {
+                service.showPage(TOY_ID, 0);
+
+                verify(repository).findSummariesByIdGreaterThan(TOY_ID, PageRequest.of(0, 1));
             }
         }
     }
 
+    @Nested
+    @DisplayName("showFilteredPage 메소드는")
+    class Describe_showFilteredPage {
+        @BeforeEach
+        void setUp() {
+            given(repository.findSummaries(any(), any(PageRequest.class)))
+                    .willReturn(new SliceImpl<>(List.of(toySummary)));
+        }
+
+        @Test
+        @DisplayName("필터 조건으로 최대 페이지 크기 이하의 한 페이지를 조회한다")
+        void it_reads_filtered_page() {
+            ToyFilter filter = ToyFilter.builder()
+                    .minPrice(new BigDecimal(500))
+                    .maker(producer.getName())
+                    .build();
+
+            Slice<ToySummary> actual = service.showFilteredPage(filter, TOY_ID, MAX_PAGE_SIZE + 1);
+
+            assertThat(actual.getContent()).containsExactly(toySummary);
+            verify(repository).findSummaries(any(), eq(PageRequest.of(0, MAX_PAGE_SIZE)));
+        }
+    }
+
+    @Nested
+    @DisplayName("showSortedPage 메소드는")
+    class Describe_showSortedPage {
+        @BeforeEach
+        void setUp() {
+            given(repository.findSummaries(any(), any(PageRequest.class)))
+                    .willReturn(new SliceImpl<>(List.of(toySummary)));
+        }
+
+        @Test
+        @DisplayName("정렬 순서로 최대 페이지 크기 이하의 한 페이지를 조회한다")
+        void it_reads_sorted_page() {
+            Slice<ToySummary> actual = service.showSortedPage(ToyFilter.builder().build(), ToySort.PRICE,
+                    new Keyset(price.getValue(), TOY_ID), 0);
+
+            assertThat(actual.getContent()).containsExactly(toySummary);
+            verify(repository).findSummaries(any(), eq(PageRequest.of(0, 1, ToySort.PRICE.toSort())));
+        }
+    }
+
     @Nested
     @DisplayName("showById 메소드는")
     class Describe_showById {
@@ -138,6 +234,88 @@ class ToyCrudServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("showSummaryById 메소드는")
+    class Describe_showSummaryById {
+        @Nested
+        @DisplayName("만약 존재하는 Toy를 조회한다면")
+        class Context_with_existing_toy {
+            @BeforeEach
+            void setUp() {
+                given(repository.findSummaryById(TOY_ID)).willReturn(Optional.of(toySummary));
+            }
+
+            @Test
+            @DisplayName("매개변수로 전달한 값을 Id로 가지고 있는 Projection을 반환한다")
+            void it_returns_summary_having_id_equal_to_param() {
+                assertThat(service.showSummaryById(TOY_ID).getId()).isEqualTo(TOY_ID);
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 존재하지 않는 Toy를 조회한다면")
+        class Context_with_not_existing_toy {
+            @Test
+            @DisplayName("예외를 발생시킨다")
+            void it_throws_exception() {
+                assertThatThrownBy(() -> service.showSummaryById(TOY_ID_NOT_EXISTING))
+                        .isInstanceOf(ProductNotFoundException.class);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("showVersionById 메소드는")
+    class Describe_showVersionById {
+        @Nested
+        @DisplayName("만약 존재하는 Toy의 버전을 조회한다면")
+        class Context_with_existing_toy {
+            @BeforeEach
+            void setUp() {
+                given(repository.findVersionById(TOY_ID)).willReturn(Optional.of(3L));
+            }
+
+            @Test
+            @DisplayName("Toy의 버전을 반환한다")
+            void it_returns_version() {
+                assertThat(service.showVersionById(TOY_ID)).isEqualTo(3L);
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 존재하지 않는 Toy의 버전을 조회한다면")
+        class Context_with_not_existing_toy {
+            @Test
+            @DisplayName("예외를 발생시킨다")
+            void it_throws_exception() {
+                assertThatThrownBy(() -> service.showVersionById(TOY_ID_NOT_EXISTING))
+                        .isInstanceOf(ProductNotFoundException.class);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("showVersionSummary 메소드는")
+    class Describe_showVersionSummary {
+        private final VersionSummary versionSummary = mock(VersionSummary.class);
+
+        @Test
+        @DisplayName("커서가 없다면 처음부터 요약한 버전을 반환한다")
+        void it_summarizes_from_first_without_cursor() {
+            given(repository.findVersionSummary(0L)).willReturn(versionSummary);
+
+            assertThat(service.showVersionSummary(null)).isSameAs(versionSummary);
+        }
+
+        @Test
+        @DisplayName("커서가 있다면 커서 이후를 요약한 버전을 반환한다")
+        void it_summarizes_after_cursor() {
+            given(repository.findVersionSummary(TOY_ID)).willReturn(versionSummary);
+
+            assertThat(service.showVersionSummary(TOY_ID)).isSameAs(versionSummary);
+        }
+    }
+
     @Nested
     @DisplayName("create 메소드는")
     class Describe_create {
@@ -147,7 +325,7 @@ class ToyCrudServiceTest {
 
         @BeforeEach
         void setUp() {
-            given(producerRepository.save(any(ToyProducer.class))).willReturn(producer);
+            given(producerResolver.resolve(producer.getName())).willReturn(producer);
             given(repository.save(any(Toy.class))).willReturn(toy);
         }
 
@@ -159,9 +337,49 @@ class ToyCrudServiceTest {
             assertThat(subject().getDemo()).isEqualTo(demo);
             assertThat(subject().getPrice()).isEqualTo(price);
         }
+
+        @Test
+        @DisplayName("생성한 Toy를 검색 색인에 추가한다")
+        void it_indexes_created_toy() {
+            subject();
+
+            verify(searchIndex).put(toy.getId(), PRODUCT_NAME, producer.getName());
+        }
+
+        @Test
+        @DisplayName("생성한 Toy를 생산자와 가격 구간의 수에 더한다")
+        void it_counts_created_toy() {
+            subject();
+
+            verify(facetCounter).add(producer.getName(), price.getValue());
+        }
     }
 
 
+    @Nested
+    @DisplayName("createAll 메소드는")
+    class Describe_createAll {
+        @BeforeEach
+        void setUp() {
+            given(producerResolver.resolve(producer.getName())).willReturn(producer);
+            given(repository.save(any(Toy.class))).will(invocation -> invocation.getArgument(0));
+        }
+
+        @Test
+        @DisplayName("요청 순서대로 생성한 Toy 목록을 반환한다")
+        void it_returns_created_toys_in_order() {
+            List<Toy> actual = service.createAll(List.of(toyWithoutId, toyFixture.toyUpdating()));
+
+            assertThat(actual).extracting(Toy::getName)
+                    .containsExactly(PRODUCT_NAME, PRODUCT_NAME + "UPDATED");
+            assertThat(actual).extracting(Toy::getProducer)
+                    .containsOnly(producer);
+            verify(searchIndex).put(null, PRODUCT_NAME, producer.getName());
+            verify(searchIndex).put(null, PRODUCT_NAME + "UPDATED", producer.getName());
+            verify(facetCounter, times(2)).add(producer.getName(), price.getValue());
+        }
+    }
+
     @Nested
     @DisplayName("update 메소드는")
     class Describe_update {
@@ -182,17 +400,9 @@ class ToyCrudServiceTest {
         class Context_with_existing_toy extends ContextUpdatingExisting {
             @BeforeEach
             void setUp() {
-                given(repository.existsById(TOY_ID)).willReturn(Boolean.TRUE);
-                given(repository.save(any(Toy.class))).will(invocation -> {
-                    Toy source = invocation.getArgument(0);
-                    return Toy.builder()
-                            .id(TOY_ID)
-                            .name(source.getName())
-                            .producer(source.getProducer())
-                            .price(source.getPrice())
-                            .demo(source.getDemo())
-                            .build();
-                });
+                given(producerResolver.resolve(producer.getName())).willReturn(producer);
+                given(repository.updateColumns(eq(TOY_ID), any(), any(), any(), any()))
+                        .willReturn(Optional.of(previous));
             }
 
             @Test
@@ -209,18 +419,217 @@ class ToyCrudServiceTest {
                 assertThat(withExistingToy().getDemo()).isEqualTo(demo);
                 assertThat(withExistingToy().getPrice()).isEqualTo(price);
             }
+
+            @Test
+            @DisplayName("캐시된 상세 응답을 지운다")
+            void it_invalidates_cached_detail() {
+                withExistingToy();
+
+                verify(detailCache).invalidate(TOY_ID);
+            }
+
+            @Test
+            @DisplayName("수정한 이름과 생산자 이름으로 다시 색인한다")
+            void it_reindexes_toy() {
+                withExistingToy();
+
+                verify(searchIndex).put(TOY_ID, PRODUCT_NAME, producer.getName());
+            }
+
+            @Test
+            @DisplayName("update 문이 반환한 수정 전 생산자와 가격을 빼고 수정한 생산자와 가격을 더한다")
+            void it_moves_toy_between_facets() {
+                withExistingToy();
+
+                verify(facetCounter).remove(PREVIOUS_MAKER, PREVIOUS_PRICE);
+                verify(facetCounter).add(producer.getName(), price.getValue());
+            }
+
+            @Test
+            @DisplayName("엔티티나 수정 전 값을 따로 조회하거나 병합하지 않는다")
+            void it_does_not_read_or_merge_entity() {
+                withExistingToy();
+
+                verify(repository, never()).existsById(any());
+                verify(repository, never()).findSummaryById(any());
+                verify(repository, never()).save(any(Toy.class));
+            }
         }
 
         @Nested
         @DisplayName("만약 존재하지 않는 Toy를 수정한다면")
         class Context_with_not_existing_toy extends ContextUpdatingNotExisting {
+            @BeforeEach
+            void setUp() {
+                given(producerResolver.resolve(producer.getName())).willReturn(producer);
+            }
+
             @Test
             @DisplayName("예외를 발생시킨다")
             void it_throws_exception() {
                 assertThatThrownBy(this::withoutExistingToy)
                         .isInstanceOf(ProductNotFoundException.class);
+                verify(facetCounter, never()).remove(any(), any());
+                verify(facetCounter, never()).add(any(), any());
+            }
+
+        }
+    }
+
+    @Nested
+    @DisplayName("patch 메소드는")
+    class Describe_patch {
+        private final Won newPrice = new Won(new BigDecimal(5000));
+
+        @Nested
+        @DisplayName("만약 존재하는 Toy의 가격만 수정한다면")
+        class Context_with_price_only {
+            @BeforeEach
+            void setUp() {
+                given(repository.findWithProducerById(TOY_ID)).willReturn(Optional.of(toy));
+            }
+
+            @Test
+            @DisplayName("가격만 반영하고 나머지 필드는 유지한 Toy를 반환한다")
+            void it_changes_only_price() {
+                Toy actual = service.patch(TOY_ID, Toy.builder().price(newPrice).build(), null);
+
+                assertThat(actual.getPrice()).isEqualTo(newPrice);
+                assertThat(actual.getName()).isEqualTo(PRODUCT_NAME);
+                assertThat(actual.getProducer()).isEqualTo(producer);
+                assertThat(actual.getDemo()).isEqualTo(demo);
+                verify(producerResolver, never()).resolve(any());
+                verify(detailCache).invalidate(TOY_ID);
+                verify(searchIndex).put(TOY_ID, PRODUCT_NAME, producer.getName());
+                verify(facetCounter).remove(producer.getName(), price.getValue());
+                verify(facetCounter).add(producer.getName(), newPrice.getValue());
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 생산자가 없는 Toy를 수정한다면")
+        class Context_without_producer {
+            @BeforeEach
+            void setUp() {
+                given(repository.findWithProducerById(TOY_ID)).willReturn(Optional.of(Toy.builder()
+                        .id(TOY_ID)
+                        .name(PRODUCT_NAME)
+                        .price(price)
+                        .build()));
+            }
+
+            @Test
+            @DisplayName("상품 이름만으로 다시 색인한다")
+            void it_reindexes_only_name() {
+                service.patch(TOY_ID, Toy.builder().price(newPrice).build(), null);
+
+                verify(searchIndex).put(TOY_ID, PRODUCT_NAME, null);
+                verify(facetCounter).add(null, newPrice.getValue());
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 존재하는 Toy의 생산자를 다른 이름으로 수정한다면")
+        class Context_with_other_maker {
+            private final ToyProducer otherProducer = new ToyProducer(2L, "Other Producer");
+
+            @BeforeEach
+            void setUp() {
+                given(repository.findWithProducerById(TOY_ID)).willReturn(Optional.of(toy));
+                given(producerResolver.resolve(otherProducer.getName())).willReturn(otherProducer);
+            }
+
+            @Test
+            @DisplayName("이름으로 찾은 생산자를 반영한 Toy를 반환한다")
+            void it_changes_producer() {
+                Toy patch = Toy.builder()
+                        .producer(ToyProducer.builder().name(otherProducer.getName()).build())
+                        .build();
+
+                assertThat(service.patch(TOY_ID, patch, null).getProducer()).isEqualTo(otherProducer);
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 기대한 버전으로 수정한다면")
+        class Context_with_expected_version {
+            @BeforeEach
+            void setUp() {
+                ReflectionTestUtils.setField(toy, "version", 3L);
+                given(repository.findWithProducerById(TOY_ID)).willReturn(Optional.of(toy));
+            }
+
+            @Test
+            @DisplayName("버전이 같다면 수정한 Toy를 반환한다")
+            void it_changes_toy_of_same_version() {
+                Toy actual = service.patch(TOY_ID, Toy.builder().price(newPrice).build(), 3L);
+
+                assertThat(actual.getPrice()).isEqualTo(newPrice);
+            }
+
+            @Test
+            @DisplayName("버전이 다르다면 수정하지 않고 예외를 발생시킨다")
+            void it_throws_exception_for_other_version() {
+                assertThatThrownBy(() -> service.patch(TOY_ID, Toy.builder().price(newPrice).build(), 2L))
+                        .isInstanceOf(ProductVersionMismatchException.class);
+                assertThat(toy.getPrice()).isNotEqualTo(newPrice);
+                verify(detailCache, never()).invalidate(any());
+                verify(facetCounter, never()).remove(any(), any());
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 존재하지 않는 Toy를 수정한다면")
+        class Context_with_not_existing_toy {
+            @Test
+            @DisplayName("예외를 발생시킨다")
+            void it_throws_exception() {
+                assertThatThrownBy(() -> service.patch(TOY_ID_NOT_EXISTING, Toy.builder().price(newPrice).build(), null))
+                        .isInstanceOf(ProductNotFoundException.class);
             }
+        }
+    }
+
+    @Nested
+    @DisplayName("updatePrices 메소드는")
+    class Describe_updatePrices {
+        @BeforeEach
+        void setUp() {
+            given(repository.updatePrices(any())).willReturn(Map.of(TOY_ID, previous));
+        }
+
+        @Test
+        @DisplayName("요청한 순서대로 상품별 수정 여부를 반환한다")
+        void it_returns_results_per_id() {
+            Map<Long, Won> prices = new LinkedHashMap<>();
+            prices.put(TOY_ID_NOT_EXISTING, price);
+            prices.put(TOY_ID, price);
+
+            Map<Long, Boolean> actual = service.updatePrices(prices);
+
+            assertThat(actual).containsExactly(
+                    Map.entry(TOY_ID_NOT_EXISTING, false),
+                    Map.entry(TOY_ID, true));
+            verify(repository).updatePrices(Map.of(
+                    TOY_ID_NOT_EXISTING, price.getValue(),
+                    TOY_ID, price.getValue()));
+            verify(detailCache).invalidateAll(Set.of(TOY_ID));
+        }
 
+        @Test
+        @DisplayName("수정된 상품만 update 문이 반환한 이전 가격 구간에서 빼고 새 가격 구간에 더한다")
+        void it_moves_repriced_toys_between_buckets() {
+            Won newPrice = new Won(new BigDecimal(70_000));
+            Map<Long, Won> prices = new LinkedHashMap<>();
+            prices.put(TOY_ID_NOT_EXISTING, newPrice);
+            prices.put(TOY_ID, newPrice);
+
+            service.updatePrices(prices);
+
+            verify(facetCounter).remove(PREVIOUS_MAKER, PREVIOUS_PRICE);
+            verify(facetCounter).add(PREVIOUS_MAKER, newPrice.getValue());
+            verify(facetCounter, times(1)).add(any(), any());
+            verify(repository, never()).findSummariesByIdIn(any());
         }
     }
 
@@ -244,13 +653,19 @@ class ToyCrudServiceTest {
         class Context_with_existing_toy extends ContextDeletingExisting {
             @BeforeEach
             void setUp() {
-                given(repository.existsById(TOY_ID)).willReturn(Boolean.TRUE);
+                given(repository.deleteRows(TOY_ID)).willReturn(Optional.of(previous));
             }
 
             @Test
-            @DisplayName("값을 반환하지 않는다")
-            void it_returns_nothing() {
+            @DisplayName("장난감과 상품 테이블의 행을 삭제하고 delete 문이 반환한 삭제 전 생산자와 가격을 뺀다")
+            void it_deletes_rows() {
                 withExistingToy();
+
+                verify(repository).deleteRows(TOY_ID);
+                verify(repository, never()).findSummaryById(any());
+                verify(detailCache).invalidate(TOY_ID);
+                verify(searchIndex).remove(TOY_ID);
+                verify(facetCounter).remove(PREVIOUS_MAKER, PREVIOUS_PRICE);
             }
         }
 
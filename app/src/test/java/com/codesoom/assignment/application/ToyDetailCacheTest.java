@@ -0,0 +1,125 @@
+package com.codesoom.assignment.application;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ToyDetailCache")
+class ToyDetailCacheTest {
+    private ToyDetailCache cache;
+    private final Long TOY_ID = 1L;
+    private final Long OTHER_TOY_ID = 2L;
+    private final Long VERSION = 0L;
+    private final Long UPDATED_VERSION = 1L;
+    private final byte[] DETAIL = "{\"id\":1}".getBytes();
+    private final byte[] UPDATED_DETAIL = "{\"id\":1,\"name\":\"updated\"}".getBytes();
+
+    @BeforeEach
+    void setUp() {
+        cache = new ToyDetailCache(1_024, Duration.ofMinutes(10));
+    }
+
+    @Nested
+    @DisplayName("get 메소드는")
+    class Describe_get {
+        @Test
+        @DisplayName("처음 요청한 id만 loader로 만들고 이후에는 보관된 바이트를 반환한다")
+        void it_loads_once() {
+            AtomicInteger loads = new AtomicInteger();
+
+            cache.get(TOY_ID, VERSION, () -> {
+                loads.incrementAndGet();
+                return DETAIL;
+            });
+            byte[] actual = cache.get(TOY_ID, VERSION, () -> {
+                loads.incrementAndGet();
+                return UPDATED_DETAIL;
+            });
+
+            assertThat(actual).isSameAs(DETAIL);
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("보관된 바이트와 다른 버전을 요청하면 loader로 다시 만든다")
+        void it_reloads_other_version() {
+            cache.get(TOY_ID, VERSION, () -> DETAIL);
+
+            assertThat(cache.get(TOY_ID, UPDATED_VERSION, () -> UPDATED_DETAIL)).isSameAs(UPDATED_DETAIL);
+            assertThat(cache.get(TOY_ID, UPDATED_VERSION, () -> DETAIL)).isSameAs(UPDATED_DETAIL);
+        }
+
+        @Test
+        @DisplayName("수정 전의 행을 읽던 요청이 지운 뒤에 넣은 바이트는 수정된 버전의 요청에 응답하지 않는다")
+        void it_ignores_bytes_loaded_before_update() {
+            cache.get(TOY_ID, VERSION, () -> {
+                // 이전 행을 직렬화하는 동안 수정이 커밋되어 즉시, 그리고 커밋 후에 지운다
+                cache.invalidate(TOY_ID);
+                cache.invalidate(TOY_ID);
+                return DETAIL;
+            });
+
+            assertThat(cache.get(TOY_ID, UPDATED_VERSION, () -> UPDATED_DETAIL)).isSameAs(UPDATED_DETAIL);
+        }
+
+        @Test
+        @DisplayName("보관된 바이트의 총합이 최대 크기를 넘으면 항목을 제거한다")
+        void it_evicts_by_size() {
+            ToyDetailCache smallCache = new ToyDetailCache(DETAIL.length, Duration.ofMinutes(10));
+            smallCache.get(TOY_ID, VERSION, () -> DETAIL);
+            smallCache.get(OTHER_TOY_ID, VERSION, () -> DETAIL);
+
+            assertThat(smallCache.get(TOY_ID, VERSION, () -> UPDATED_DETAIL)).isSameAs(UPDATED_DETAIL);
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidate 메소드는")
+    class Describe_invalidate {
+        @Test
+        @DisplayName("보관된 바이트를 지워 다음 요청에서 다시 만들게 한다")
+        void it_removes_detail() {
+            cache.get(TOY_ID, VERSION, () -> DETAIL);
+
+            cache.invalidate(TOY_ID);
+
+            assertThat(cache.get(TOY_ID, VERSION, () -> UPDATED_DETAIL)).isSameAs(UPDATED_DETAIL);
+        }
+    }
+
+    @Nested
+    @DisplayName("트랜잭션 안에서 invalidateAll 메소드는")
+    class Describe_invalidateAll_in_transaction {
+        @BeforeEach
+        void setUp() {
+            TransactionSynchronizationManager.initSynchronization();
+        }
+
+        @AfterEach
+        void tearDown() {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        @Test
+        @DisplayName("커밋 전에 다시 보관된 바이트도 커밋 후에 지운다")
+        void it_removes_detail_again_after_commit() {
+            cache.invalidateAll(List.of(TOY_ID));
+            cache.get(TOY_ID, VERSION, () -> DETAIL);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+
+            assertThat(cache.get(TOY_ID, VERSION, () -> UPDATED_DETAIL)).isSameAs(UPDATED_DETAIL);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.codesoom.assignment.application;
+
+import com.codesoom.assignment.application.facets.ToyFacetCounter;
+import com.codesoom.assignment.application.facets.ToyFacets;
+import com.codesoom.assignment.domain.ToyRepository;
+import com.codesoom.assignment.domain.projections.MakerCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ToyFacetCountingService")
+class ToyFacetCountingServiceTest {
+    private final ToyFacetCounter counter = mock(ToyFacetCounter.class);
+    private final ToyRepository repository = mock(ToyRepository.class);
+    private final ToyFacets facets = new ToyFacets(List.of(), List.of());
+    private final List<BigDecimal> BOUNDS = List.of(new BigDecimal(10_000));
+    private ToyFacetCountingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ToyFacetCountingService(counter, repository, true);
+        given(counter.snapshot()).willReturn(facets);
+        given(counter.getPriceBounds()).willReturn(BOUNDS);
+    }
+
+    @Nested
+    @DisplayName("showFacets 메소드는")
+    class Describe_showFacets {
+        @Test
+        @DisplayName("카운터에 보관된 수를 반환한다")
+        void it_returns_snapshot() {
+            assertThat(service.showFacets()).isSameAs(facets);
+        }
+    }
+
+    @Nested
+    @DisplayName("recountFacets 메소드는")
+    class Describe_recountFacets {
+        @Test
+        @DisplayName("생산자별, 가격 구간별로 다시 센 수로 카운터를 바꾼다")
+        void it_resets_counter_from_group_by_queries() {
+            List<MakerCount> makers = List.of(mock(MakerCount.class));
+            long[] prices = {2L, 3L};
+            given(repository.countByMaker()).willReturn(makers);
+            given(repository.countByPriceBucket(BOUNDS)).willReturn(prices);
+
+            assertThat(service.recountFacets()).isSameAs(facets);
+            verify(counter).reset(makers, prices);
+        }
+    }
+
+    @Nested
+    @DisplayName("recountFacetsOnStartup 메소드는")
+    class Describe_recountFacetsOnStartup {
+        @Test
+        @DisplayName("설정에 따라 다시 센다")
+        void it_recounts_when_enabled() {
+            given(repository.countByPriceBucket(BOUNDS)).willReturn(new long[2]);
+
+            service.recountFacetsOnStartup();
+            new ToyFacetCountingService(counter, repository, false).recountFacetsOnStartup();
+
+            verify(repository).countByMaker();
+        }
+    }
+}
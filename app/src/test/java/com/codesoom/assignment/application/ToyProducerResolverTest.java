@@ -0,0 +1,107 @@
+package com.codesoom.assignment.application;
+
+import com.codesoom.assignment.domain.ToyProducerRepository;
+import com.codesoom.assignment.domain.entities.ToyProducer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ToyProducerResolver")
+class ToyProducerResolverTest {
+    private ToyProducerResolver resolver;
+    private final ToyProducerRepository repository = mock(ToyProducerRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final Long PRODUCER_ID = 1L;
+    private final String PRODUCER_NAME = "Test Producer";
+    private final ToyProducer producer = ToyProducer.builder()
+            .id(PRODUCER_ID)
+            .name(PRODUCER_NAME)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        resolver = new ToyProducerResolver(repository, transactionManager, 100);
+    }
+
+    @Nested
+    @DisplayName("resolve 메소드는")
+    class Describe_resolve {
+        @Nested
+        @DisplayName("만약 같은 이름의 생산자가 이미 존재한다면")
+        class Context_with_existing_producer {
+            @BeforeEach
+            void setUp() {
+                given(repository.findFirstByNameOrderByIdAsc(PRODUCER_NAME)).willReturn(Optional.of(producer));
+            }
+
+            @Test
+            @DisplayName("생산자를 저장하지 않고 기존 생산자를 반환한다")
+            void it_returns_existing_producer_without_saving() {
+                assertThat(resolver.resolve(PRODUCER_NAME).getId()).isEqualTo(PRODUCER_ID);
+
+                verify(repository, never()).save(any(ToyProducer.class));
+            }
+
+            @Test
+            @DisplayName("두 번째 요청부터는 저장소를 조회하지 않는다")
+            void it_caches_producer_id() {
+                resolver.resolve(PRODUCER_NAME);
+                ToyProducer actual = resolver.resolve(PRODUCER_NAME);
+
+                assertThat(actual.getId()).isEqualTo(PRODUCER_ID);
+                assertThat(actual.getName()).isEqualTo(PRODUCER_NAME);
+                verify(repository, times(1)).findFirstByNameOrderByIdAsc(PRODUCER_NAME);
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 같은 이름의 생산자가 존재하지 않는다면")
+        class Context_without_existing_producer {
+            @BeforeEach
+            void setUp() {
+                given(repository.findFirstByNameOrderByIdAsc(PRODUCER_NAME)).willReturn(Optional.empty());
+                given(repository.save(any(ToyProducer.class))).willReturn(producer);
+            }
+
+            @Test
+            @DisplayName("생산자를 저장하고 반환한다")
+            void it_saves_producer() {
+                assertThat(resolver.resolve(PRODUCER_NAME).getId()).isEqualTo(PRODUCER_ID);
+
+                verify(repository).save(any(ToyProducer.class));
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 다른 요청이 같은 이름의 생산자를 먼저 저장했다면")
+        class Context_with_concurrent_creation {
+            @BeforeEach
+            void setUp() {
+                given(repository.findFirstByNameOrderByIdAsc(PRODUCER_NAME))
+                        .willReturn(Optional.empty())
+                        .willReturn(Optional.of(producer));
+                given(repository.save(any(ToyProducer.class)))
+                        .willThrow(new DataIntegrityViolationException("uk_toy_producer_name"));
+            }
+
+            @Test
+            @DisplayName("먼저 저장된 생산자를 반환한다")
+            void it_returns_producer_saved_first() {
+                assertThat(resolver.resolve(PRODUCER_NAME).getId()).isEqualTo(PRODUCER_ID);
+            }
+        }
+    }
+}
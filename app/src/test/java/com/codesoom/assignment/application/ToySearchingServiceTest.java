@@ -0,0 +1,121 @@
+package com.codesoom.assignment.application;
+
+import com.codesoom.assignment.application.interfaces.ToyExportService;
+import com.codesoom.assignment.application.search.ToySearchIndex;
+import com.codesoom.assignment.domain.ToyRepository;
+import com.codesoom.assignment.domain.projections.ToySummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ToySearchingService")
+class ToySearchingServiceTest {
+    private final ToySearchIndex index = mock(ToySearchIndex.class);
+    private final ToyRepository repository = mock(ToyRepository.class);
+    private final ToyExportService exportService = mock(ToyExportService.class);
+    private final ToySummary summary = mock(ToySummary.class);
+    private final int MAX_PAGE_SIZE = 100;
+    private ToySearchingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ToySearchingService(index, repository, exportService, MAX_PAGE_SIZE, true);
+    }
+
+    @Nested
+    @DisplayName("search 메소드는")
+    class Describe_search {
+        @Test
+        @DisplayName("한 개 더 찾은 id로 다음 페이지 여부를 정하고 페이지 크기만큼의 Projection을 반환한다")
+        void it_returns_slice_with_next_page() {
+            given(index.search("toy", true, 3L, 3)).willReturn(List.of(4L, 5L, 6L));
+            given(repository.findSummariesByIdIn(List.of(4L, 5L))).willReturn(List.of(summary, summary));
+
+            Slice<ToySummary> actual = service.search("toy", true, 3L, 2);
+
+            assertThat(actual.getContent()).hasSize(2);
+            assertThat(actual.hasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("커서가 없다면 처음부터 찾고, 페이지 크기는 최대 크기로 제한한다")
+        void it_bounds_size_and_reads_from_first_id() {
+            given(index.search("toy", false, 0L, MAX_PAGE_SIZE + 1)).willReturn(List.of(1L));
+            given(repository.findSummariesByIdIn(List.of(1L))).willReturn(List.of(summary));
+
+            Slice<ToySummary> actual = service.search("toy", false, null, MAX_PAGE_SIZE + 50);
+
+            assertThat(actual.getContent()).containsExactly(summary);
+            assertThat(actual.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("찾은 id가 없다면 저장소를 조회하지 않고 빈 Slice를 반환한다")
+        void it_returns_empty_slice_without_query() {
+            given(index.search(anyString(), anyBoolean(), anyLong(), anyInt())).willReturn(List.of());
+
+            assertThat(service.search("robot", false, null, 0).getContent()).isEmpty();
+            verify(index).search("robot", false, 0L, 2);
+            verify(repository, never()).findSummariesByIdIn(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuildIndex 메소드는")
+    class Describe_rebuildIndex {
+        @Test
+        @DisplayName("내보내는 모든 Projection으로 색인을 다시 만들고 색인된 수를 반환한다")
+        @SuppressWarnings("unchecked")
+        void it_rebuilds_from_export() {
+            given(index.rebuild(any())).will(invocation -> {
+                invocation.<Consumer<Consumer<ToySummary>>>getArgument(0).accept(item -> {
+                });
+                return 7;
+            });
+
+            assertThat(service.rebuildIndex()).isEqualTo(7);
+            verify(exportService).exportAll(any(Consumer.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("indexedCount 메소드는")
+    class Describe_indexedCount {
+        @Test
+        @DisplayName("색인된 상품 수를 반환한다")
+        void it_returns_index_size() {
+            given(index.size()).willReturn(3);
+
+            assertThat(service.indexedCount()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuildIndexOnStartup 메소드는")
+    class Describe_rebuildIndexOnStartup {
+        @Test
+        @DisplayName("설정에 따라 색인을 다시 만든다")
+        void it_rebuilds_when_enabled() {
+            service.rebuildIndexOnStartup();
+            new ToySearchingService(index, repository, exportService, MAX_PAGE_SIZE, false).rebuildIndexOnStartup();
+
+            verify(index).rebuild(any());
+        }
+    }
+}
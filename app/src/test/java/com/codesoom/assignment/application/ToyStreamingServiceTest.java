@@ -0,0 +1,59 @@
+package com.codesoom.assignment.application;
+
+import com.codesoom.assignment.domain.projections.ToySummary;
+import com.codesoom.assignment.domain.reactive.ReactiveToyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ToyStreamingService")
+class ToyStreamingServiceTest {
+    private final ReactiveToyRepository repository = mock(ReactiveToyRepository.class);
+    private final ToySummary summary = mock(ToySummary.class);
+    private ToyStreamingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ToyStreamingService(repository);
+        given(repository.findSummariesByIdGreaterThan(anyLong(), anyInt())).willReturn(Flux.just(summary));
+    }
+
+    @Nested
+    @DisplayName("streamSummaries 메소드는")
+    class Describe_streamSummaries {
+        @Test
+        @DisplayName("저장소가 흘려보내는 Projection을 그대로 흘려보낸다")
+        void it_streams_summaries() {
+            StepVerifier.create(service.streamSummaries(3L, 10))
+                    .expectNext(summary)
+                    .verifyComplete();
+
+            verify(repository).findSummariesByIdGreaterThan(3L, 10);
+        }
+
+        @Test
+        @DisplayName("커서와 크기가 없다면 처음부터 남은 장난감을 모두 조회한다")
+        void it_streams_all_without_cursor_and_size() {
+            service.streamSummaries(null, null).blockLast();
+
+            verify(repository).findSummariesByIdGreaterThan(0L, Integer.MAX_VALUE);
+        }
+
+        @Test
+        @DisplayName("크기가 1보다 작다면 1로 보정한다")
+        void it_bounds_size() {
+            service.streamSummaries(null, 0).blockLast();
+
+            verify(repository).findSummariesByIdGreaterThan(0L, 1);
+        }
+    }
+}
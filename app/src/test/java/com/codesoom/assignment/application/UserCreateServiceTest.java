@@ -16,6 +16,7 @@ import static org.mockito.Mockito.mock;
 class UserCreateServiceTest {
     private UserCrudService service;
     private final UserRepository repository = mock(UserRepository.class);
+    private final int MAX_PAGE_SIZE = 100;
     private final Long USER_ID = 1L;
     private final String USER_NAME = "Test User";
     private final String USER_EMAIL = "hello@gmail.com";
@@ -26,7 +27,7 @@ class UserCreateServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new UserCrudService(repository);
+        service = new UserCrudService(repository, MAX_PAGE_SIZE);
         user = User.builder()
                 .id(USER_ID)
                 .name(USER_NAME)
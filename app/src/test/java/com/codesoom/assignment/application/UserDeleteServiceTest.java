@@ -15,12 +15,13 @@ import static org.mockito.Mockito.mock;
 class UserDeleteServiceTest {
     private UserCrudService service;
     private final UserRepository repository = mock(UserRepository.class);
+    private final int MAX_PAGE_SIZE = 100;
     private final Long USER_ID = 1L;
     private final Long USER_ID_NOT_EXISTING = 10L;
 
     @BeforeEach
     void setUp() {
-        service = new UserCrudService(repository);
+        service = new UserCrudService(repository, MAX_PAGE_SIZE);
     }
 
     @Nested
@@ -43,7 +44,7 @@ class UserDeleteServiceTest {
         class Context_with_existing_user extends ContextDeletingExisting {
             @BeforeEach
             void setUp() {
-                given(repository.existsById(USER_ID)).willReturn(Boolean.TRUE);
+                given(repository.deleteRow(USER_ID)).willReturn(1);
             }
 
             @Test
@@ -58,7 +59,7 @@ class UserDeleteServiceTest {
         class Context_with_not_existing_user extends ContextDeletingNotExisting {
             @BeforeEach
             void setUp() {
-                given(repository.existsById(USER_ID_NOT_EXISTING)).willReturn(Boolean.FALSE);
+                given(repository.deleteRow(USER_ID_NOT_EXISTING)).willReturn(0);
             }
 
             @Test
@@ -1,25 +1,34 @@
 package com.codesoom.assignment.application;
 
 import com.codesoom.assignment.application.exceptions.UserNotFoundException;
+import com.codesoom.assignment.domain.Keyset;
 import com.codesoom.assignment.domain.UserRepository;
+import com.codesoom.assignment.domain.UserSort;
 import com.codesoom.assignment.domain.entities.User;
+import com.codesoom.assignment.domain.projections.VersionSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 @DisplayName("UserShowService")
 class UserShowServiceTest {
     private UserCrudService service;
     private final UserRepository repository = mock(UserRepository.class);
+    private final int MAX_PAGE_SIZE = 100;
     private final Long USER_ID = 1L;
     private final Long USER_ID_NOT_EXISTING = 10L;
     private final String USER_NAME = "Test User";
@@ -30,7 +39,7 @@ class UserShowServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new UserCrudService(repository);
+        service = new UserCrudService(repository, MAX_PAGE_SIZE);
         user = User.builder()
                 .id(USER_ID)
                 .name(USER_NAME)
@@ -39,6 +48,38 @@ class UserShowServiceTest {
                 .build();
     }
 
+    @Nested
+    @DisplayName("showPage 메소드는")
+    class Describe_showPage {
+        private final LocalDateTime CREATED_AT = LocalDateTime.of(2020, 11, 1, 12, 0);
+
+        @Test
+        @DisplayName("키셋이 없다면 정렬 순서의 첫 페이지를 조회한다")
+        void it_reads_first_page() {
+            given(repository.findPage(any())).willReturn(new SliceImpl<>(List.of(user)));
+
+            assertThat(service.showPage(UserSort.NAME, null, MAX_PAGE_SIZE + 1).getContent()).containsExactly(user);
+            verify(repository).findPage(PageRequest.of(0, MAX_PAGE_SIZE, UserSort.NAME.toSort()));
+        }
+
+        @Test
+        @DisplayName("이름 순서라면 키셋의 이름과 id 이후부터 조회한다")
+        void it_reads_after_name() {
+            service.showPage(UserSort.NAME, new Keyset(USER_NAME, USER_ID), 0);
+
+            verify(repository).findPageAfterName(USER_NAME, USER_ID, PageRequest.of(0, 1, UserSort.NAME.toSort()));
+        }
+
+        @Test
+        @DisplayName("최신순이라면 키셋의 등록 시각과 id 이전부터 조회한다")
+        void it_reads_before_created_at() {
+            service.showPage(UserSort.NEWEST, new Keyset(CREATED_AT, USER_ID), 20);
+
+            verify(repository).findPageBeforeCreatedAt(
+                    CREATED_AT, USER_ID, PageRequest.of(0, 20, UserSort.NEWEST.toSort()));
+        }
+    }
+
     @Nested
     @DisplayName("showAll 메소드는")
     class Describe_showAll {
@@ -118,4 +159,47 @@ class UserShowServiceTest {
             }
         }
     }
+
+    @Nested
+    @DisplayName("showVersionById 메소드는")
+    class Describe_showVersionById {
+        @Nested
+        @DisplayName("만약 존재하는 User의 버전을 조회한다면")
+        class Context_with_existing_user {
+            @BeforeEach
+            void setUp() {
+                given(repository.findVersionById(USER_ID)).willReturn(Optional.of(2L));
+            }
+
+            @Test
+            @DisplayName("User의 버전을 반환한다")
+            void it_returns_version() {
+                assertThat(service.showVersionById(USER_ID)).isEqualTo(2L);
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 존재하지 않는 User의 버전을 조회한다면")
+        class Context_with_not_existing_user {
+            @Test
+            @DisplayName("예외를 발생시킨다")
+            void it_throws_exception() {
+                assertThatThrownBy(() -> service.showVersionById(USER_ID_NOT_EXISTING))
+                        .isInstanceOf(UserNotFoundException.class);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("showVersionSummary 메소드는")
+    class Describe_showVersionSummary {
+        @Test
+        @DisplayName("모든 User 목록의 버전 요약을 반환한다")
+        void it_returns_version_summary() {
+            VersionSummary versionSummary = mock(VersionSummary.class);
+            given(repository.findVersionSummary()).willReturn(versionSummary);
+
+            assertThat(service.showVersionSummary()).isSameAs(versionSummary);
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.codesoom.assignment.application;
 
 import com.codesoom.assignment.application.exceptions.UserNotFoundException;
+import com.codesoom.assignment.application.exceptions.UserVersionMismatchException;
 import com.codesoom.assignment.domain.UserRepository;
 import com.codesoom.assignment.domain.entities.User;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,9 +9,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
@@ -18,6 +22,7 @@ import static org.mockito.Mockito.mock;
 class UserUpdateServiceTest {
     private UserCrudService service;
     private final UserRepository repository = mock(UserRepository.class);
+    private final int MAX_PAGE_SIZE = 100;
     private final Long USER_ID = 1L;
     private final Long USER_ID_NOT_EXISTING = 10L;
     private final String USER_NAME = "Test User";
@@ -29,7 +34,7 @@ class UserUpdateServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new UserCrudService(repository);
+        service = new UserCrudService(repository, MAX_PAGE_SIZE);
         user = User.builder()
                 .id(USER_ID)
                 .name(USER_NAME)
@@ -63,16 +68,7 @@ class UserUpdateServiceTest {
         class Context_with_existing extends ContextUpdatingExisting {
             @BeforeEach
             void setUp() {
-                given(repository.existsById(USER_ID)).willReturn(Boolean.TRUE);
-                given(repository.save(any(User.class))).will(invocation -> {
-                    User source = invocation.getArgument(0);
-                    return User.builder()
-                            .id(USER_ID)
-                            .name(source.getName())
-                            .email(source.getEmail())
-                            .password(source.getPassword())
-                            .build();
-                });
+                given(repository.updateColumns(eq(USER_ID), any(), any(), any())).willReturn(1);
             }
 
             @Test
@@ -95,7 +91,7 @@ class UserUpdateServiceTest {
         class Context_with_not_existing_user extends ContextUpdatingNotExisting {
             @BeforeEach
             void setUp() {
-                given(repository.existsById(USER_ID_NOT_EXISTING)).willReturn(Boolean.FALSE);
+                given(repository.updateColumns(eq(USER_ID_NOT_EXISTING), any(), any(), any())).willReturn(0);
             }
             @Test
             @DisplayName("예외를 발생시킨다")
@@ -106,4 +102,73 @@ class UserUpdateServiceTest {
 
         }
     }
+
+    @Nested
+    @DisplayName("patch 메소드는")
+    class Describe_patch {
+        @Nested
+        @DisplayName("만약 존재하는 User의 이름만 수정한다면")
+        class Context_with_name_only {
+            @BeforeEach
+            void setUp() {
+                given(repository.findById(USER_ID)).willReturn(Optional.of(user));
+            }
+
+            @Test
+            @DisplayName("이름만 반영하고 나머지 필드는 유지한 User를 반환한다")
+            void it_changes_only_name() {
+                User actual = service.patch(USER_ID, User.builder().name(USER_NAME + "UPDATED").build(), null);
+
+                assertThat(actual.getName()).isEqualTo(USER_NAME + "UPDATED");
+                assertThat(actual.getEmail()).isEqualTo(USER_EMAIL);
+                assertThat(actual.getPassword()).isEqualTo(USER_PASSWORD);
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 기대한 버전으로 수정한다면")
+        class Context_with_expected_version {
+            @BeforeEach
+            void setUp() {
+                given(repository.findById(USER_ID)).willReturn(Optional.of(User.builder()
+                        .id(USER_ID)
+                        .name(USER_NAME)
+                        .email(USER_EMAIL)
+                        .password(USER_PASSWORD)
+                        .version(3L)
+                        .build()));
+            }
+
+            @Test
+            @DisplayName("버전이 같다면 수정한 User를 반환한다")
+            void it_changes_user_of_same_version() {
+                User actual = service.patch(USER_ID, User.builder().name(USER_NAME + "UPDATED").build(), 3L);
+
+                assertThat(actual.getName()).isEqualTo(USER_NAME + "UPDATED");
+            }
+
+            @Test
+            @DisplayName("버전이 다르다면 예외를 발생시킨다")
+            void it_throws_exception_for_other_version() {
+                assertThatThrownBy(() -> service.patch(USER_ID, userWithoutId, 2L))
+                        .isInstanceOf(UserVersionMismatchException.class);
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 존재하지 않는 User를 수정한다면")
+        class Context_with_not_existing_user {
+            @BeforeEach
+            void setUp() {
+                given(repository.findById(USER_ID_NOT_EXISTING)).willReturn(Optional.empty());
+            }
+
+            @Test
+            @DisplayName("예외를 발생시킨다")
+            void it_throws_exception() {
+                assertThatThrownBy(() -> service.patch(USER_ID_NOT_EXISTING, userWithoutId, null))
+                        .isInstanceOf(UserNotFoundException.class);
+            }
+        }
+    }
 }
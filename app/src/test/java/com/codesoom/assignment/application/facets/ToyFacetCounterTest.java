@@ -0,0 +1,141 @@
+package com.codesoom.assignment.application.facets;
+
+import com.codesoom.assignment.domain.projections.MakerCount;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ToyFacetCounter")
+class ToyFacetCounterTest {
+    private ToyFacetCounter counter;
+
+    private static BigDecimal won(int value) {
+        return new BigDecimal(value);
+    }
+
+    @BeforeEach
+    void setUp() {
+        counter = new ToyFacetCounter(new BigDecimal[]{won(10_000), won(30_000)});
+        counter.add("Lego", won(5_000));
+        counter.add("Lego", won(30_000));
+        counter.add("Brio", won(12_000));
+    }
+
+    private long[] priceCounts() {
+        return counter.snapshot().getPrices().stream()
+                .mapToLong(PriceFacet::getCount)
+                .toArray();
+    }
+
+    @Nested
+    @DisplayName("생성자는")
+    class Describe_constructor {
+        @Test
+        @DisplayName("구간 경계가 없거나 오름차순이 아니라면 예외를 발생시킨다")
+        void it_throws_exception_for_invalid_bounds() {
+            assertThatThrownBy(() -> new ToyFacetCounter(new BigDecimal[0]))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new ToyFacetCounter(new BigDecimal[]{won(30_000), won(10_000)}))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("snapshot 메소드는")
+    class Describe_snapshot {
+        @Test
+        @DisplayName("장난감이 많은 생산자부터 생산자별 장난감 수를 반환한다")
+        void it_returns_maker_counts() {
+            assertThat(counter.snapshot().getMakers())
+                    .extracting(MakerFacet::getMaker, MakerFacet::getCount)
+                    .containsExactly(tuple("Lego", 2L), tuple("Brio", 1L));
+        }
+
+        @Test
+        @DisplayName("경계 가격은 위 구간에 넣고 모든 구간의 수를 낮은 가격 순서로 반환한다")
+        void it_returns_price_buckets() {
+            assertThat(counter.snapshot().getPrices())
+                    .extracting(PriceFacet::getMin, PriceFacet::getMax, PriceFacet::getCount)
+                    .containsExactly(
+                            tuple(null, won(10_000), 1L),
+                            tuple(won(10_000), won(30_000), 1L),
+                            tuple(won(30_000), null, 1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("remove 메소드는")
+    class Describe_remove {
+        @Test
+        @DisplayName("생산자와 가격 구간의 수를 빼고, 장난감이 없는 생산자는 지운다")
+        void it_decrements_counts() {
+            counter.remove("Brio", won(12_000));
+            counter.remove("Lego", won(5_000));
+
+            assertThat(counter.snapshot().getMakers())
+                    .extracting(MakerFacet::getMaker, MakerFacet::getCount)
+                    .containsExactly(tuple("Lego", 1L));
+            assertThat(priceCounts()).containsExactly(0L, 0L, 1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("트랜잭션 안에서 변경한다면")
+    class Describe_change_in_transaction {
+        @BeforeEach
+        void setUp() {
+            TransactionSynchronizationManager.initSynchronization();
+        }
+
+        @AfterEach
+        void tearDown() {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        @Test
+        @DisplayName("커밋된 뒤에 수에 반영한다")
+        void it_applies_after_commit() {
+            counter.add("Steiff", won(50_000));
+
+            assertThat(priceCounts()).containsExactly(1L, 1L, 1L);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+
+            assertThat(priceCounts()).containsExactly(1L, 1L, 2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("reset 메소드는")
+    class Describe_reset {
+        @Test
+        @DisplayName("데이터베이스에서 센 수로 모든 수를 바꾼다")
+        void it_replaces_counts() {
+            MakerCount steiff = mock(MakerCount.class);
+            given(steiff.getMaker()).willReturn("Steiff");
+            given(steiff.getCount()).willReturn(4L);
+
+            counter.reset(List.of(steiff), new long[]{0L, 3L, 1L});
+
+            assertThat(counter.snapshot().getMakers())
+                    .extracting(MakerFacet::getMaker, MakerFacet::getCount)
+                    .containsExactly(tuple("Steiff", 4L));
+            assertThat(priceCounts()).containsExactly(0L, 3L, 1L);
+            assertThat(counter.getPriceBounds()).containsExactly(won(10_000), won(30_000));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.codesoom.assignment.application.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PostingList")
+class PostingListTest {
+    private PostingList list;
+
+    @BeforeEach
+    void setUp() {
+        list = new PostingList();
+        list.add(5L);
+        list.add(1L);
+        list.add(3L);
+    }
+
+    @Nested
+    @DisplayName("add 메소드는")
+    class Describe_add {
+        @Test
+        @DisplayName("id를 오름차순 위치에 추가하고 이미 있는 id는 무시한다")
+        void it_adds_in_order() {
+            list.add(3L);
+            list.add(2L);
+            list.add(9L);
+
+            assertThat(list.size()).isEqualTo(5);
+            assertThat(list.idAt(0)).isEqualTo(1L);
+            assertThat(list.idAt(1)).isEqualTo(2L);
+            assertThat(list.idAt(4)).isEqualTo(9L);
+            assertThat(list.idAt(5)).isEqualTo(PostingList.NO_MORE);
+        }
+    }
+
+    @Nested
+    @DisplayName("remove 메소드는")
+    class Describe_remove {
+        @Test
+        @DisplayName("id를 제거하고 없는 id는 무시한다")
+        void it_removes_id() {
+            list.remove(3L);
+            list.remove(4L);
+
+            assertThat(list.size()).isEqualTo(2);
+            assertThat(list.idAt(1)).isEqualTo(5L);
+
+            list.remove(1L);
+            list.remove(5L);
+
+            assertThat(list.isEmpty()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("ceiling 메소드는")
+    class Describe_ceiling {
+        @Test
+        @DisplayName("시작 위치부터 target 이상인 첫 id의 위치를 반환한다")
+        void it_returns_position_of_ceiling() {
+            assertThat(list.ceiling(3L, 0)).isEqualTo(1);
+            assertThat(list.ceiling(4L, 0)).isEqualTo(2);
+            assertThat(list.ceiling(1L, 2)).isEqualTo(2);
+            assertThat(list.ceiling(6L, 0)).isEqualTo(3);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.codesoom.assignment.application.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SearchTerms")
+class SearchTermsTest {
+    @Nested
+    @DisplayName("of 메소드는")
+    class Describe_of {
+        @Test
+        @DisplayName("글자와 숫자가 아닌 문자로 나눈 소문자 검색어를 중복 없이 반환한다")
+        void it_splits_into_lower_case_terms() {
+            assertThat(SearchTerms.of("Wooden-Train 2000", null, "  train  장난감"))
+                    .containsExactly("wooden", "train", "2000", "장난감");
+        }
+    }
+
+    @Nested
+    @DisplayName("withinDistance 메소드는")
+    class Describe_withinDistance {
+        @Test
+        @DisplayName("편집 거리가 최대 거리 이하라면 true를 반환한다")
+        void it_returns_true_within_distance() {
+            assertThat(SearchTerms.withinDistance("train", "train", 0)).isTrue();
+            assertThat(SearchTerms.withinDistance("trian", "train", 2)).isTrue();
+            assertThat(SearchTerms.withinDistance("tran", "train", 1)).isTrue();
+        }
+
+        @Test
+        @DisplayName("편집 거리가 최대 거리보다 크다면 false를 반환한다")
+        void it_returns_false_over_distance() {
+            assertThat(SearchTerms.withinDistance("trian", "train", 1)).isFalse();
+            assertThat(SearchTerms.withinDistance("tr", "train", 2)).isFalse();
+            assertThat(SearchTerms.withinDistance("abcde", "vwxyz", 2)).isFalse();
+        }
+    }
+}
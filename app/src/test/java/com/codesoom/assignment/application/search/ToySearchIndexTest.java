@@ -0,0 +1,232 @@
+package com.codesoom.assignment.application.search;
+
+import com.codesoom.assignment.domain.projections.ToySummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ToySearchIndex")
+class ToySearchIndexTest {
+    private ToySearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ToySearchIndex();
+        index.put(1L, "Wooden Train", "Brio");
+        index.put(2L, "Plastic Train", "Lego");
+        index.put(3L, "Wooden Blocks", "Lego");
+        index.put(4L, "Teddy Bear", "Steiff");
+    }
+
+    @Nested
+    @DisplayName("search 메소드는")
+    class Describe_search {
+        @Test
+        @DisplayName("모든 검색어가 이름 또는 생산자 이름과 일치하는 id를 오름차순으로 반환한다")
+        void it_returns_ids_matching_all_terms() {
+            assertThat(index.search("train", false, 0L, 10)).containsExactly(1L, 2L);
+            assertThat(index.search("Wooden LEGO", false, 0L, 10)).containsExactly(3L);
+            assertThat(index.search("lego train", false, 0L, 10)).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("검색어로 시작하는 검색어에도 일치한다")
+        void it_matches_prefix() {
+            assertThat(index.search("woo", false, 0L, 10)).containsExactly(1L, 3L);
+            assertThat(index.search("t", false, 0L, 10)).containsExactly(1L, 2L, 4L);
+        }
+
+        @Test
+        @DisplayName("커서 이후부터 최대 size 개만 반환한다")
+        void it_returns_page_after_cursor() {
+            assertThat(index.search("t", false, 0L, 2)).containsExactly(1L, 2L);
+            assertThat(index.search("t", false, 2L, 2)).containsExactly(4L);
+            assertThat(index.search("t", false, 4L, 2)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("일치하지 않는 검색어가 있거나 검색어가 없다면 빈 List를 반환한다")
+        void it_returns_empty_list() {
+            assertThat(index.search("wooden robot", false, 0L, 10)).isEmpty();
+            assertThat(index.search(" - ", false, 0L, 10)).isEmpty();
+            assertThat(index.search(null, false, 0L, 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("fuzzy라면 첫 글자가 같고 편집 거리가 가까운 검색어에도 일치한다")
+        void it_matches_similar_terms_when_fuzzy() {
+            assertThat(index.search("trian", false, 0L, 10)).isEmpty();
+            assertThat(index.search("traim", true, 0L, 10)).containsExactly(1L, 2L);
+            assertThat(index.search("trai", true, 0L, 10)).containsExactly(1L, 2L);
+            assertThat(index.search("plastik traim", true, 0L, 10)).containsExactly(2L);
+            assertThat(index.search("rain", true, 0L, 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("fuzzy라도 3글자 미만의 검색어는 접두어로만 일치한다")
+        void it_does_not_fuzz_short_terms() {
+            assertThat(index.search("bx", true, 0L, 10)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("put 메소드는")
+    class Describe_put {
+        @Test
+        @DisplayName("이미 색인된 상품이라면 이전 검색어를 지우고 새로 색인한다")
+        void it_reindexes_existing_toy() {
+            index.put(1L, "Wooden Car", null);
+
+            assertThat(index.search("train", false, 0L, 10)).containsExactly(2L);
+            assertThat(index.search("brio", false, 0L, 10)).isEmpty();
+            assertThat(index.search("car", false, 0L, 10)).containsExactly(1L);
+            assertThat(index.size()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("여러 상품을 추가해도 id 순서를 유지한다")
+        void it_keeps_ids_sorted() {
+            LongStream.of(9, 7, 5, 8, 6).forEach(id -> index.put(id, "Robot", null));
+
+            assertThat(index.search("robot", false, 6L, 10)).containsExactly(7L, 8L, 9L);
+        }
+    }
+
+    @Nested
+    @DisplayName("remove 메소드는")
+    class Describe_remove {
+        @Test
+        @DisplayName("상품을 색인에서 지운다")
+        void it_removes_toy() {
+            index.remove(2L);
+            index.remove(10L);
+
+            assertThat(index.search("train", false, 0L, 10)).containsExactly(1L);
+            assertThat(index.search("plastic", false, 0L, 10)).isEmpty();
+            assertThat(index.size()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("트랜잭션 안에서 put 메소드는")
+    class Describe_put_in_transaction {
+        @BeforeEach
+        void setUp() {
+            TransactionSynchronizationManager.initSynchronization();
+        }
+
+        @AfterEach
+        void tearDown() {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        @Test
+        @DisplayName("커밋된 뒤에 색인에 반영한다")
+        void it_applies_after_commit() {
+            index.put(5L, "Robot", null);
+
+            assertThat(index.search("robot", false, 0L, 10)).isEmpty();
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+
+            assertThat(index.search("robot", false, 0L, 10)).containsExactly(5L);
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuild 메소드는")
+    class Describe_rebuild {
+        @Test
+        @DisplayName("전달받은 상품만으로 새 색인을 만들고 상품 수를 반환한다")
+        void it_replaces_index() {
+            int actual = index.rebuild(consumer -> {
+                consumer.accept(summary(7L, "Robot", "Tomy"));
+                consumer.accept(summary(8L, "Robot Dog", null));
+            });
+
+            assertThat(actual).isEqualTo(2);
+            assertThat(index.size()).isEqualTo(2);
+            assertThat(index.search("train", false, 0L, 10)).isEmpty();
+            assertThat(index.search("robot", false, 0L, 10)).containsExactly(7L, 8L);
+        }
+
+        @Test
+        @DisplayName("다시 만드는 동안 반영된 변경을 새 색인에도 반영한다")
+        void it_replays_changes_during_rebuild() {
+            index.rebuild(consumer -> {
+                consumer.accept(summary(7L, "Robot", "Tomy"));
+                index.put(8L, "Robot Dog", null);
+                index.remove(7L);
+            });
+
+            assertThat(index.search("robot", false, 0L, 10)).containsExactly(8L);
+        }
+
+        @Test
+        @DisplayName("이미 다시 만드는 중이라면 예외를 발생시킨다")
+        void it_throws_exception_when_rebuilding() {
+            index.rebuild(consumer -> assertThatThrownBy(() -> index.rebuild(other -> {
+            })).isInstanceOf(IllegalStateException.class));
+        }
+
+        @Test
+        @DisplayName("상품을 읽다 실패하면 기존 색인을 유지하고 다시 만들 수 있게 한다")
+        void it_keeps_index_on_failure() {
+            Consumer<Consumer<ToySummary>> failing = consumer -> {
+                throw new IllegalArgumentException("failed");
+            };
+
+            assertThatThrownBy(() -> index.rebuild(failing)).isInstanceOf(IllegalArgumentException.class);
+            assertThat(index.search("train", false, 0L, 10)).containsExactly(1L, 2L);
+            assertThat(index.rebuild(consumer -> {
+            })).isZero();
+        }
+    }
+
+    private ToySummary summary(Long id, String name, String maker) {
+        return new ToySummary() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public BigDecimal getPrice() {
+                return BigDecimal.ZERO;
+            }
+
+            @Override
+            public String getMaker() {
+                return maker;
+            }
+
+            @Override
+            public String getUrl() {
+                return null;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,202 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.application.ToyCrudService;
+import com.codesoom.assignment.domain.UserRepository;
+import com.codesoom.assignment.domain.projections.VersionSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "codesoom.execution.mode=bounded",
+        "codesoom.execution.bounded.threads=1",
+        "codesoom.execution.bounded.queue-capacity=0",
+        "codesoom.execution.bounded.timeout=2s",
+        "codesoom.queries.debug-headers=true"})
+@AutoConfigureMockMvc
+@DisplayName("BoundedExecution")
+class BoundedExecutionTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private BoundedHandlerExecutor executor;
+    @Autowired
+    private UserRepository userRepository;
+    @MockBean
+    private ToyCrudService service;
+
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.availablePermits() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        reset(service);
+        release = new CountDownLatch(1);
+        VersionSummary summary = mock(VersionSummary.class);
+        given(service.showVersionSummary(any())).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return summary;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        userRepository.deleteAll();
+    }
+
+    private MvcResult startProducts() throws Exception {
+        return mockMvc.perform(get("/products?all=true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    @Nested
+    @DisplayName("@BoundedExecution 컨트롤러의 핸들러는")
+    class Describe_bounded_handler {
+        @Test
+        @DisplayName("전용 스레드 풀에서 실행된 뒤 응답한다")
+        void it_runs_on_bounded_executor() throws Exception {
+            MvcResult result = startProducts();
+            release.countDown();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().json("[]"));
+        }
+
+        @Test
+        @DisplayName("ResponseEntity가 아닌 응답과 응답 상태도 그대로 유지한다")
+        void it_keeps_response_status() throws Exception {
+            release.countDown();
+            MvcResult result = mockMvc.perform(post("/users")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"name\":\"Bounded User\",\"email\":\"bounded@codesoom.com\","
+                            + "\"password\":\"yahOo~!@12345\"}"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.email").value("bounded@codesoom.com"));
+        }
+
+        @Test
+        @DisplayName("전용 스레드 풀에서 실행한 SQL도 요청의 SQL 통계에 기록한다")
+        void it_records_queries_of_bounded_handler() throws Exception {
+            MvcResult result = mockMvc.perform(post("/users")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"name\":\"Counted User\",\"email\":\"counted@codesoom.com\","
+                            + "\"password\":\"yahOo~!@12345\"}"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            String count = mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getHeader("X-Query-Count");
+
+            assertThat(count).isNotNull();
+            assertThat(Integer.parseInt(count)).isPositive();
+        }
+
+        @Test
+        @DisplayName("설정된 타임아웃이 지나면 핸들러가 끝나기 전에 요청을 타임아웃으로 끝내고 허가를 반환한다")
+        void it_times_out_with_configured_timeout() throws Exception {
+            VersionSummary summary = mock(VersionSummary.class);
+            given(service.showVersionSummary(any())).willAnswer(invocation -> {
+                while (true) {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                        return summary;
+                    } catch (InterruptedException ignored) {
+                        // 인터럽트에 응답하지 않는 JDBC 호출처럼 취소된 뒤에도 스레드를 붙잡는다
+                    }
+                }
+            });
+            MvcResult result = startProducts();
+            MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+            assertThat(asyncContext.getTimeout()).isEqualTo(2000L);
+            assertThat(executor.availablePermits()).isZero();
+
+            for (AsyncListener listener : asyncContext.getListeners()) {
+                listener.onTimeout(new AsyncEvent(asyncContext));
+            }
+
+            assertThat(executor.availablePermits()).isEqualTo(1);
+            assertThat(WebAsyncUtils.getAsyncManager(result.getRequest()).getConcurrentResult())
+                    .isInstanceOf(AsyncRequestTimeoutException.class);
+        }
+
+        @Test
+        @DisplayName("스레드와 대기열이 모두 찼다면 HTTP Status Code 429 Too Many Requests 응답한다")
+        void it_responds_too_many_requests_when_full() throws Exception {
+            startProducts();
+
+            mockMvc.perform(get("/users"))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        }
+    }
+
+    @Nested
+    @DisplayName("그 밖의 핸들러는")
+    class Describe_other_handlers {
+        @Test
+        @DisplayName("스레드 풀이 가득 차도 요청 스레드에서 실행된다")
+        void it_runs_on_request_thread() throws Exception {
+            startProducts();
+
+            mockMvc.perform(get("/"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string("Hello, world!"));
+        }
+
+        @Test
+        @DisplayName("이미 비동기로 응답하는 핸들러는 감싸지 않는다")
+        void it_keeps_streaming_handlers() throws Exception {
+            release.countDown();
+            MvcResult result = mockMvc.perform(get("/products/export"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().json("[]"));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.controllers.exceptions.HandlerOverloadedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedHandlerExecutor")
+class BoundedHandlerExecutorTest {
+    private BoundedHandlerExecutor executor;
+    private CountDownLatch release;
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(3);
+
+    @BeforeEach
+    void setUp() {
+        executor = new BoundedHandlerExecutor(1, 1, TIMEOUT);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.destroy();
+    }
+
+    private Future<?> start(WebAsyncTask<Object> task) throws Exception {
+        Callable<?> callable = task.getCallable();
+        return task.getExecutor().submit(() -> {
+            try {
+                callable.call();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private Object blocking() throws InterruptedException {
+        return release.await(5, TimeUnit.SECONDS);
+    }
+
+    @Nested
+    @DisplayName("submit 메소드는")
+    class Describe_submit {
+        @Test
+        @DisplayName("설정된 타임아웃을 가진 비동기 작업을 반환한다")
+        void it_returns_task_with_configured_timeout() {
+            assertThat(executor.submit(BoundedHandlerExecutorTest.this::blocking).getTimeout())
+                    .isEqualTo(TIMEOUT.toMillis());
+        }
+
+        @Nested
+        @DisplayName("만약 스레드와 대기열이 모두 찼다면")
+        class Context_with_full_capacity {
+            @Test
+            @DisplayName("예외를 발생시킨다")
+            void it_throws_exception() throws Exception {
+                start(executor.submit(BoundedHandlerExecutorTest.this::blocking));
+                start(executor.submit(BoundedHandlerExecutorTest.this::blocking));
+
+                assertThatThrownBy(() -> executor.submit(BoundedHandlerExecutorTest.this::blocking))
+                        .isInstanceOf(HandlerOverloadedException.class);
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 실행 중인 핸들러가 끝난다면")
+        class Context_with_finished_handler {
+            @Test
+            @DisplayName("허가를 반환해 다음 핸들러를 받는다")
+            void it_releases_permit() throws Exception {
+                Future<?> first = start(executor.submit(BoundedHandlerExecutorTest.this::blocking));
+                assertThat(executor.availablePermits()).isEqualTo(1);
+
+                release.countDown();
+                first.get(5, TimeUnit.SECONDS);
+
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (executor.availablePermits() < 2 && System.nanoTime() < deadline) {
+                    Thread.onSpinWait();
+                }
+                assertThat(executor.availablePermits()).isEqualTo(2);
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 실행 중인 핸들러가 타임아웃으로 취소된다면")
+        class Context_with_timed_out_handler {
+            @Test
+            @DisplayName("핸들러 스레드가 끝나기를 기다리지 않고 허가를 반환한다")
+            void it_releases_permit_on_cancel() throws Exception {
+                CountDownLatch started = new CountDownLatch(1);
+                Future<?> running = start(executor.submit(() -> {
+                    started.countDown();
+                    return blocking();
+                }));
+                assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+                assertThat(executor.availablePermits()).isEqualTo(1);
+
+                running.cancel(true);
+
+                assertThat(executor.availablePermits()).isEqualTo(2);
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 대기 중인 핸들러가 실행 전에 취소된다면")
+        class Context_with_cancelled_handler {
+            @Test
+            @DisplayName("스레드 풀에서 빠져나갈 때 허가를 반환한다")
+            void it_releases_permit_of_cancelled_task() throws Exception {
+                start(executor.submit(BoundedHandlerExecutorTest.this::blocking));
+                Future<?> queued = start(executor.submit(BoundedHandlerExecutorTest.this::blocking));
+                assertThat(executor.availablePermits()).isZero();
+
+                queued.cancel(true);
+                release.countDown();
+
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (executor.availablePermits() < 2 && System.nanoTime() < deadline) {
+                    Thread.onSpinWait();
+                }
+                assertThat(executor.availablePermits()).isEqualTo(2);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.application.facets.MakerFacet;
+import com.codesoom.assignment.application.facets.ToyFacets;
+import com.codesoom.assignment.application.interfaces.ToyFacetService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("FacetsEndpoint")
+class FacetsEndpointTest {
+    private final ToyFacetService service = mock(ToyFacetService.class);
+    private final FacetsEndpoint endpoint = new FacetsEndpoint(service);
+
+    @Nested
+    @DisplayName("recount 메소드는")
+    class Describe_recount {
+        @Test
+        @DisplayName("데이터베이스에서 다시 센 장난감 수를 반환한다")
+        void it_returns_recounted_facets() {
+            given(service.recountFacets()).willReturn(new ToyFacets(List.of(new MakerFacet("Lego", 3L)), List.of()));
+
+            assertThat(endpoint.recount().getMakers())
+                    .extracting(MakerFacet::getCount)
+                    .containsExactly(3L);
+        }
+    }
+}
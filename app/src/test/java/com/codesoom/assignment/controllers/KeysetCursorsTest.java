@@ -0,0 +1,85 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.controllers.exceptions.InvalidPageRequestException;
+import com.codesoom.assignment.domain.Keyset;
+import com.codesoom.assignment.domain.ToySort;
+import com.codesoom.assignment.domain.UserSort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeysetCursors")
+class KeysetCursorsTest {
+    private final Long TOY_ID = 7L;
+
+    private String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Nested
+    @DisplayName("parse 메소드는")
+    class Describe_parse {
+        @Test
+        @DisplayName("of 메소드로 만든 커서를 마지막 행 위치로 되돌린다")
+        void it_returns_keyset_of_cursor() {
+            Keyset price = KeysetCursors.parse(ToySort.PRICE, KeysetCursors.of(ToySort.PRICE, TOY_ID, "12500.50"));
+            Keyset newest = KeysetCursors.parse(UserSort.NEWEST,
+                    KeysetCursors.of(UserSort.NEWEST, TOY_ID, "2020-11-01T12:00"));
+
+            assertThat(price.getId()).isEqualTo(TOY_ID);
+            assertThat(price.getValue()).isEqualTo(new BigDecimal("12500.50"));
+            assertThat(newest.getValue()).isEqualTo(LocalDateTime.of(2020, 11, 1, 12, 0));
+        }
+
+        @Test
+        @DisplayName("구분자가 들어 있는 이름도 그대로 되돌린다")
+        void it_keeps_separator_in_value() {
+            Keyset name = KeysetCursors.parse(ToySort.NAME, KeysetCursors.of(ToySort.NAME, TOY_ID, "Cat: Mouse"));
+
+            assertThat(name.getValue()).isEqualTo("Cat: Mouse");
+        }
+
+        @Test
+        @DisplayName("커서가 없다면 null을 반환한다")
+        void it_returns_null_without_cursor() {
+            assertThat(KeysetCursors.parse(ToySort.NAME, null)).isNull();
+        }
+
+        @Test
+        @DisplayName("다른 정렬의 커서라면 예외를 발생시킨다")
+        void it_throws_exception_for_other_sort() {
+            String cursor = KeysetCursors.of(ToySort.NAME, TOY_ID, "Mouse");
+
+            assertThatThrownBy(() -> KeysetCursors.parse(ToySort.PRICE, cursor))
+                    .isInstanceOf(InvalidPageRequestException.class);
+        }
+
+        @Test
+        @DisplayName("형식이 맞지 않는 커서라면 예외를 발생시킨다")
+        void it_throws_exception_for_malformed_cursor() {
+            assertThatThrownBy(() -> KeysetCursors.parse(ToySort.NAME, encode("name:7")))
+                    .isInstanceOf(InvalidPageRequestException.class);
+            assertThatThrownBy(() -> KeysetCursors.parse(ToySort.NAME, "!not-base64!"))
+                    .isInstanceOf(InvalidPageRequestException.class);
+            assertThatThrownBy(() -> KeysetCursors.parse(ToySort.NAME, encode("name:seven:Mouse")))
+                    .isInstanceOf(InvalidPageRequestException.class);
+        }
+
+        @Test
+        @DisplayName("정렬 키 값을 해석할 수 없다면 예외를 발생시킨다")
+        void it_throws_exception_for_invalid_value() {
+            assertThatThrownBy(() -> KeysetCursors.parse(ToySort.PRICE, encode("price:7:cheap")))
+                    .isInstanceOf(InvalidPageRequestException.class);
+            assertThatThrownBy(() -> KeysetCursors.parse(ToySort.NEWEST, encode("newest:7:yesterday")))
+                    .isInstanceOf(InvalidPageRequestException.class);
+        }
+    }
+}
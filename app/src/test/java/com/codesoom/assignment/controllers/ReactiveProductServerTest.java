@@ -0,0 +1,61 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.application.interfaces.ToyStreamService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest(properties = "codesoom.reactive.port=0")
+@DisplayName("ReactiveProductServer")
+class ReactiveProductServerTest {
+    @Autowired
+    private ReactiveProductServer server;
+    @MockBean
+    private ToyStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        given(service.streamSummaries(null, null)).willReturn(Flux.empty());
+    }
+
+    @Nested
+    @DisplayName("애플리케이션이 시작되면")
+    class Describe_started {
+        @Test
+        @DisplayName("별도의 포트에서 반응형 상품 조회 요청에 응답한다")
+        void it_serves_products() {
+            assertThat(server.isRunning()).isTrue();
+
+            WebTestClient.bindToServer()
+                    .baseUrl("http://localhost:" + server.getPort())
+                    .build()
+                    .get().uri("/products")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody().json("[]");
+        }
+    }
+
+    @Nested
+    @DisplayName("stop 메소드는")
+    class Describe_stop {
+        @Test
+        @DisplayName("서버를 멈추고, start 메소드로 다시 시작할 수 있다")
+        void it_stops_server() {
+            server.stop();
+            assertThat(server.isRunning()).isFalse();
+
+            server.start();
+            assertThat(server.isRunning()).isTrue();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.application.interfaces.ToySearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("SearchIndexEndpoint")
+class SearchIndexEndpointTest {
+    private final ToySearchService service = mock(ToySearchService.class);
+    private SearchIndexEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new SearchIndexEndpoint(service);
+    }
+
+    @Nested
+    @DisplayName("count 메소드는")
+    class Describe_count {
+        @Test
+        @DisplayName("색인된 상품 수를 반환한다")
+        void it_returns_indexed_count() {
+            given(service.indexedCount()).willReturn(3);
+
+            assertThat(endpoint.count()).containsEntry("indexed", 3);
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuild 메소드는")
+    class Describe_rebuild {
+        @Test
+        @DisplayName("색인을 다시 만든 뒤의 상품 수를 반환한다")
+        void it_returns_rebuilt_count() {
+            given(service.rebuildIndex()).willReturn(5);
+
+            assertThat(endpoint.rebuild()).containsEntry("indexed", 5);
+        }
+    }
+}
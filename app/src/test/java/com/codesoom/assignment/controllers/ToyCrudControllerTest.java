@@ -1,9 +1,19 @@
 package com.codesoom.assignment.controllers;
 
 import com.codesoom.assignment.application.exceptions.ProductNotFoundException;
+import com.codesoom.assignment.application.exceptions.ProductVersionMismatchException;
 import com.codesoom.assignment.application.ToyCrudService;
+import com.codesoom.assignment.application.ToyDetailCache;
+import com.codesoom.assignment.application.facets.MakerFacet;
+import com.codesoom.assignment.application.facets.PriceFacet;
+import com.codesoom.assignment.application.facets.ToyFacets;
+import com.codesoom.assignment.application.interfaces.ToyFacetService;
+import com.codesoom.assignment.application.interfaces.ToySearchService;
 import com.codesoom.assignment.controllers.dtos.ToyRequestData;
+import com.codesoom.assignment.domain.ToySort;
 import com.codesoom.assignment.domain.entities.Toy;
+import com.codesoom.assignment.domain.projections.ToySummary;
+import com.codesoom.assignment.domain.projections.VersionSummary;
 import com.codesoom.assignment.fixtures.ToyFixture;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -12,19 +22,45 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.core.StringContains.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -37,10 +73,17 @@ class ToyCrudControllerTest {
     private ObjectMapper objectMapper;
     @MockBean
     private ToyCrudService service;
+    @MockBean
+    private ToySearchService searchService;
+    @MockBean
+    private ToyFacetService facetService;
     @Autowired
     private ToyFixture fixture;
+    @Autowired
+    private ToyDetailCache detailCache;
 
     private Toy toy;
+    private ToySummary toySummary;
     private Toy toyWithEmptyName;
     private Toy toyWithoutId;
     private Toy toyUpdating;
@@ -48,10 +91,22 @@ class ToyCrudControllerTest {
     private final Long TOY_ID = 1L;
     private final Long TOY_ID_NOT_EXISTING = 10L;
     private final String PRODUCT_NAME = "Test Product";
+    private final Long TOY_VERSION = 2L;
+    private final String LIST_ETAG = "\"1-1-2\"";
+    private final String DETAIL_ETAG = "\"1-2\"";
 
     @BeforeEach
     void setUp() {
+        reset(service, searchService, facetService);
+        detailCache.invalidate(TOY_ID);
+        VersionSummary versionSummary = mock(VersionSummary.class);
+        given(versionSummary.getCount()).willReturn(1L);
+        given(versionSummary.getMaxId()).willReturn(TOY_ID);
+        given(versionSummary.getVersionSum()).willReturn(TOY_VERSION);
+        given(service.showVersionSummary(any())).willReturn(versionSummary);
+        given(service.showVersionById(TOY_ID)).willReturn(TOY_VERSION);
         toy = fixture.toy();
+        toySummary = fixture.toySummary();
         toyWithEmptyName = fixture.toyWithEmptyName();
         toyWithoutId = fixture.toyWithoutId();
         toyUpdating = fixture.toyUpdating();
@@ -61,17 +116,323 @@ class ToyCrudControllerTest {
     @Nested
     @DisplayName("list 메소드는")
     class Describe_list {
+        @Nested
+        @DisplayName("만약 다음 페이지가 없다면")
+        class Context_without_next_page {
+            @BeforeEach
+            void setUp() {
+                given(service.showPage(isNull(), anyInt())).willReturn(new SliceImpl<>(List.of(toySummary)));
+            }
+
+            @Test
+            @DisplayName("Link 헤더 없이 HTTP Status Code 200 OK 응답한다")
+            void it_responds_with_200_ok_without_link() throws Exception {
+                mockMvc.perform(get("/products"))
+                        .andExpect(status().isOk())
+                        .andExpect(content().string(containsString(PRODUCT_NAME)))
+                        .andExpect(header().doesNotExist(HttpHeaders.LINK));
+            }
+
+            @Test
+            @DisplayName("목록의 버전 요약으로 만든 ETag를 응답한다")
+            void it_responds_with_etag() throws Exception {
+                mockMvc.perform(get("/products"))
+                        .andExpect(header().string(HttpHeaders.ETAG, LIST_ETAG));
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 If-None-Match가 현재 목록의 ETag와 같다면")
+        class Context_with_matching_etag {
+            @Test
+            @DisplayName("목록을 조회하지 않고 HTTP Status Code 304 NOT MODIFIED 응답한다")
+            void it_responds_with_304() throws Exception {
+                mockMvc.perform(get("/products").header(HttpHeaders.IF_NONE_MATCH, LIST_ETAG))
+                        .andExpect(status().isNotModified())
+                        .andExpect(content().string(""));
+
+                verify(service).showVersionSummary(null);
+                verify(service, never()).showPage(any(), anyInt());
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 다음 페이지가 있다면")
+        class Context_with_next_page {
+            @BeforeEach
+            void setUp() {
+                given(service.showPage(eq(TOY_ID_NOT_EXISTING), eq(1)))
+                        .willReturn(new SliceImpl<>(List.of(toySummary), PageRequest.of(0, 1), true));
+            }
+
+            @Test
+            @DisplayName("다음 커서를 Link 헤더로 응답한다")
+            void it_responds_with_next_link() throws Exception {
+                mockMvc.perform(get("/products?cursor=" + TOY_ID_NOT_EXISTING + "&size=1"))
+                        .andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.LINK, containsString("cursor=" + TOY_ID)))
+                        .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")));
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 가격 범위와 생산자로 거른다면")
+        class Context_with_filter {
+            @BeforeEach
+            void setUp() {
+                given(service.showFilteredPage(any(), isNull(), anyInt()))
+                        .willReturn(new SliceImpl<>(List.of(toySummary)));
+            }
+
+            @Test
+            @DisplayName("필터 조건으로 조회한 페이지를 응답한다")
+            void it_responds_with_filtered_page() throws Exception {
+                mockMvc.perform(get("/products?minPrice=10000&maxPrice=50000&maker=Lego&makerId=3&name=Wood"))
+                        .andExpect(status().isOk())
+                        .andExpect(content().string(containsString(PRODUCT_NAME)));
+
+                verify(service).showFilteredPage(argThat(filter ->
+                        filter.getMinPrice().intValue() == 10000
+                                && filter.getMaxPrice().intValue() == 50000
+                                && "Lego".equals(filter.getMaker())
+                                && filter.getMakerId() == 3L
+                                && "Wood".equals(filter.getNamePrefix())), isNull(), anyInt());
+                verify(service, never()).showPage(any(), anyInt());
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 음수 가격으로 거른다면")
+        class Context_with_negative_price {
+            @Test
+            @DisplayName("HTTP Status Code 400 BAD REQUEST 응답한다")
+            void it_responds_with_400() throws Exception {
+                mockMvc.perform(get("/products?minPrice=-1"))
+                        .andExpect(status().isBadRequest());
+
+                verify(service, never()).showFilteredPage(any(), any(), anyInt());
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 정렬된 목록의 다음 페이지가 있다면")
+        class Context_with_sorted_next_page {
+            @BeforeEach
+            void setUp() {
+                given(service.showSortedPage(any(), eq(ToySort.NEWEST), isNull(), eq(1)))
+                        .willReturn(new SliceImpl<>(List.of(toySummary), PageRequest.of(0, 1), true));
+            }
+
+            @Test
+            @DisplayName("마지막 행의 정렬 키로 만든 after 커서를 Link 헤더로 응답한다")
+            void it_responds_with_after_link() throws Exception {
+                String after = KeysetCursors.of(ToySort.NEWEST, TOY_ID, toySummary.getCreatedAt().toString());
+
+                mockMvc.perform(get("/products?sort=newest&size=1"))
+                        .andExpect(status().isOk())
+                        .andExpect(content().string(containsString(PRODUCT_NAME)))
+                        .andExpect(header().string(HttpHeaders.LINK, containsString("sort=newest")))
+                        .andExpect(header().string(HttpHeaders.LINK, containsString("after=" + after)));
+
+                verify(service).showVersionSummary(null);
+                verify(service, never()).showPage(any(), anyInt());
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 after 커서로 정렬된 목록을 요청한다면")
+        class Context_with_after {
+            @BeforeEach
+            void setUp() {
+                given(service.showSortedPage(any(), eq(ToySort.PRICE), any(), anyInt()))
+                        .willReturn(new SliceImpl<>(List.of(toySummary)));
+            }
+
+            @Test
+            @DisplayName("커서가 가리키는 위치 이후의 페이지를 Link 헤더 없이 응답한다")
+            void it_responds_with_page_after_keyset() throws Exception {
+                String after = KeysetCursors.of(ToySort.PRICE, TOY_ID, "5000");
+
+                mockMvc.perform(get("/products?sort=price&after=" + after + "&maker=Lego"))
+                        .andExpect(status().isOk())
+                        .andExpect(header().doesNotExist(HttpHeaders.LINK));
+
+                verify(service).showSortedPage(argThat(filter -> "Lego".equals(filter.getMaker())),
+                        eq(ToySort.PRICE),
+                        argThat(keyset -> keyset.getId().equals(TOY_ID)
+                                && new BigDecimal("5000").equals(keyset.getValue())),
+                        anyInt());
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 없는 정렬을 요청한다면")
+        class Context_with_unknown_sort {
+            @Test
+            @DisplayName("HTTP Status Code 400 BAD REQUEST 응답한다")
+            void it_responds_with_400() throws Exception {
+                mockMvc.perform(get("/products?sort=popularity"))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(content().string(containsString("Unknown sort: popularity")));
+
+                verify(service, never()).showVersionSummary(any());
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 다른 정렬의 after 커서를 보낸다면")
+        class Context_with_cursor_of_other_sort {
+            @Test
+            @DisplayName("HTTP Status Code 400 BAD REQUEST 응답한다")
+            void it_responds_with_400() throws Exception {
+                String after = KeysetCursors.of(ToySort.NAME, TOY_ID, PRODUCT_NAME);
+
+                mockMvc.perform(get("/products?sort=price&after=" + after))
+                        .andExpect(status().isBadRequest());
+
+                verify(service, never()).showSortedPage(any(), any(), any(), anyInt());
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 전체 목록을 요청한다면")
+        class Context_with_all {
+            @BeforeEach
+            void setUp() {
+                given(service.showAllSummaries()).willReturn(List.of(toySummary));
+            }
+
+            @Test
+            @DisplayName("전체 목록을 HTTP Status Code 200 OK로 응답한다")
+            void it_responds_with_200_ok() throws Exception {
+                mockMvc.perform(get("/products?all=true"))
+                        .andExpect(status().isOk())
+                        .andExpect(content().string(containsString(PRODUCT_NAME)));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("search 메소드는")
+    class Describe_search {
+        @Nested
+        @DisplayName("만약 다음 페이지가 없다면")
+        class Context_without_next_page {
+            @BeforeEach
+            void setUp() {
+                given(searchService.search(eq("test"), eq(false), isNull(), anyInt()))
+                        .willReturn(new SliceImpl<>(List.of(toySummary)));
+            }
+
+            @Test
+            @DisplayName("검색된 목록을 Link 헤더 없이 HTTP Status Code 200 OK 응답한다")
+            void it_responds_with_200_ok_without_link() throws Exception {
+                mockMvc.perform(get("/products/search?q=test"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$", hasSize(1)))
+                        .andExpect(jsonPath("$[0].name").value(PRODUCT_NAME))
+                        .andExpect(header().doesNotExist(HttpHeaders.LINK));
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 다음 페이지가 있다면")
+        class Context_with_next_page {
+            @BeforeEach
+            void setUp() {
+                given(searchService.search("tset", true, TOY_ID_NOT_EXISTING, 1))
+                        .willReturn(new SliceImpl<>(List.of(toySummary), PageRequest.of(0, 1), true));
+            }
+
+            @Test
+            @DisplayName("질의를 유지한 다음 커서를 Link 헤더로 응답한다")
+            void it_responds_with_next_link() throws Exception {
+                mockMvc.perform(get("/products/search?q=tset&fuzzy=true&cursor=" + TOY_ID_NOT_EXISTING + "&size=1"))
+                        .andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.LINK, containsString("q=tset")))
+                        .andExpect(header().string(HttpHeaders.LINK, containsString("cursor=" + TOY_ID)))
+                        .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")));
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 질의 없이 요청한다면")
+        class Context_without_query {
+            @Test
+            @DisplayName("HTTP Status Code 400 BAD REQUEST 응답한다")
+            void it_responds_with_400() throws Exception {
+                mockMvc.perform(get("/products/search"))
+                        .andExpect(status().isBadRequest());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("facets 메소드는")
+    class Describe_facets {
+        @BeforeEach
+        void setUp() {
+            given(facetService.showFacets()).willReturn(new ToyFacets(
+                    List.of(new MakerFacet("Lego", 2L)),
+                    List.of(new PriceFacet(null, new BigDecimal(10_000), 1L),
+                            new PriceFacet(new BigDecimal(10_000), null, 1L))));
+        }
+
+        @Test
+        @DisplayName("생산자별, 가격 구간별 장난감 수를 HTTP Status Code 200 OK로 응답한다")
+        void it_responds_with_facet_counts() throws Exception {
+            mockMvc.perform(get("/products/facets"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.makers[0].maker").value("Lego"))
+                    .andExpect(jsonPath("$.makers[0].count").value(2))
+                    .andExpect(jsonPath("$.prices", hasSize(2)))
+                    .andExpect(jsonPath("$.prices[0].max").value(10_000))
+                    .andExpect(jsonPath("$.prices[1].min").value(10_000));
+
+            verify(service, never()).showAllSummaries();
+        }
+    }
+
+    @Nested
+    @DisplayName("export 메소드는")
+    class Describe_export {
         @BeforeEach
         void setUp() {
-            given(service.showAll()).willReturn(List.of(toy));
+            willAnswer(invocation -> {
+                Consumer<ToySummary> consumer = invocation.getArgument(0);
+                consumer.accept(toySummary);
+                consumer.accept(toySummary);
+                return null;
+            }).given(service).exportAll(any());
+        }
+
+        @Test
+        @DisplayName("모든 상품을 JSON 배열로 스트리밍한다")
+        void it_streams_json_array() throws Exception {
+            MvcResult result = mockMvc.perform(get("/products/export"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andExpect(jsonPath("$[0].name").value(PRODUCT_NAME));
         }
 
         @Test
-        @DisplayName("HTTP Status Code 200 OK 응답한다")
-        void it_responds_with_200_ok() throws Exception {
-            mockMvc.perform(get("/products"))
+        @DisplayName("ndjson 형식을 요청하면 한 줄에 한 상품씩 스트리밍한다")
+        void it_streams_ndjson() throws Exception {
+            MvcResult result = mockMvc.perform(get("/products/export?format=ndjson"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
                     .andExpect(status().isOk())
-                    .andExpect(content().string(containsString(PRODUCT_NAME)));
+                    .andExpect(content().contentType("application/x-ndjson"))
+                    .andExpect(response -> assertThat(response.getResponse().getContentAsString().split("\n"))
+                            .hasSize(2)
+                            .allSatisfy(line -> assertThat(line).contains(PRODUCT_NAME)));
         }
     }
 
@@ -90,7 +451,75 @@ class ToyCrudControllerTest {
             @DisplayName("HTTP Status Code 200 OK 응답한다")
             void it_responds_with_200_ok() throws Exception {
                 mockMvc.perform(get("/products/" + TOY_ID))
-                        .andExpect(status().isOk());
+                        .andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.ETAG, DETAIL_ETAG))
+                        .andExpect(jsonPath("$.name").value(PRODUCT_NAME));
+            }
+
+            @Test
+            @DisplayName("If-None-Match가 현재 ETag와 같다면 본문을 만들지 않고 304 NOT MODIFIED 응답한다")
+            void it_responds_with_304_for_matching_etag() throws Exception {
+                mockMvc.perform(get("/products/" + TOY_ID).header(HttpHeaders.IF_NONE_MATCH, DETAIL_ETAG))
+                        .andExpect(status().isNotModified())
+                        .andExpect(content().string(""));
+
+                verify(service, never()).showById(any());
+            }
+
+            @Test
+            @DisplayName("If-None-Match가 이전 버전의 ETag라면 HTTP Status Code 200 OK 응답한다")
+            void it_responds_with_200_ok_for_stale_etag() throws Exception {
+                mockMvc.perform(get("/products/" + TOY_ID).header(HttpHeaders.IF_NONE_MATCH, "\"1-1\""))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.name").value(PRODUCT_NAME));
+            }
+
+            @Test
+            @DisplayName("두 번째 요청부터는 캐시된 응답을 반환한다")
+            void it_responds_from_cache() throws Exception {
+                mockMvc.perform(get("/products/" + TOY_ID));
+                mockMvc.perform(get("/products/" + TOY_ID))
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("$.name").value(PRODUCT_NAME));
+
+                verify(service, times(1)).showById(TOY_ID);
+            }
+
+            @Test
+            @DisplayName("캐시된 응답과 버전이 다르다면 새 버전의 ETag와 함께 다시 만든 응답을 반환한다")
+            void it_reloads_when_version_changed() throws Exception {
+                mockMvc.perform(get("/products/" + TOY_ID));
+                given(service.showVersionById(TOY_ID)).willReturn(TOY_VERSION + 1);
+                given(service.showById(TOY_ID)).willReturn(toyUpdated);
+
+                mockMvc.perform(get("/products/" + TOY_ID))
+                        .andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.ETAG, "\"1-3\""))
+                        .andExpect(jsonPath("$.name").value(toyUpdated.getName()));
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 이미지 URL이 없는 Toy라면")
+        class Context_without_demo {
+            @BeforeEach
+            void setUp() {
+                Toy toyWithoutDemo = Toy.builder()
+                        .id(TOY_ID)
+                        .name(PRODUCT_NAME)
+                        .price(toy.getPrice())
+                        .producer(toy.getProducer())
+                        .build();
+                given(service.showById(TOY_ID)).willReturn(toyWithoutDemo);
+            }
+
+            @Test
+            @DisplayName("url 없이 HTTP Status Code 200 OK 응답한다")
+            void it_responds_without_url() throws Exception {
+                mockMvc.perform(get("/products/" + TOY_ID))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.url").doesNotExist());
             }
         }
 
@@ -99,7 +528,7 @@ class ToyCrudControllerTest {
         class Context_without_existing_toy {
             @BeforeEach
             void setUp() {
-                given(service.showById(TOY_ID_NOT_EXISTING))
+                given(service.showVersionById(TOY_ID_NOT_EXISTING))
                         .willThrow(new ProductNotFoundException(TOY_ID_NOT_EXISTING));
             }
 
@@ -156,8 +585,49 @@ class ToyCrudControllerTest {
     }
 
     @Nested
-    @DisplayName("patch 메소드는")
-    class Describe_patch {
+    @DisplayName("createAll 메소드는")
+    class Describe_createAll {
+        @Nested
+        @DisplayName("모든 항목이 유효하다면")
+        class Context_with_valid_items {
+            @BeforeEach
+            void setUp() {
+                given(service.createAll(any())).willReturn(List.of(toy, toy));
+            }
+
+            @Test
+            @DisplayName("생성된 상품 목록과 HTTP Status Code 201 CREATED 응답한다")
+            void it_responds_with_201() throws Exception {
+                mockMvc.perform(post("/products/bulk")
+                                .content(jsonArrayFrom(toyWithoutId, toyWithoutId))
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isCreated())
+                        .andExpect(jsonPath("$", hasSize(2)));
+            }
+        }
+
+        @Nested
+        @DisplayName("유효하지 않은 항목이 있다면")
+        class Context_with_invalid_item {
+            @Test
+            @DisplayName("항목별 오류와 HTTP Status Code 400 BAD REQUEST 응답한다")
+            void it_responds_with_400_and_item_errors() throws Exception {
+                mockMvc.perform(post("/products/bulk")
+                                .content(jsonArrayFrom(toyWithoutId, toyWithEmptyName))
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(jsonPath("$.errors", hasSize(1)))
+                        .andExpect(jsonPath("$.errors[0].index").value(1))
+                        .andExpect(jsonPath("$.errors[0].field").value("name"));
+
+                verify(service, never()).createAll(any());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("update 메소드는")
+    class Describe_update {
         @Nested
         @DisplayName("유효한 매개변수를 전달 받는다면")
         class Context_with_valid_param {
@@ -169,7 +639,7 @@ class ToyCrudControllerTest {
             @Test
             @DisplayName("HTTP Status Code 200 OK 응답한다")
             void it_responds_with_200_ok() throws Exception {
-                mockMvc.perform(patch("/products/" + TOY_ID)
+                mockMvc.perform(put("/products/" + TOY_ID)
                                 .content(jsonFrom(toyUpdating))
                                 .contentType(MediaType.APPLICATION_JSON))
                         .andExpect(status().isOk());
@@ -188,7 +658,7 @@ class ToyCrudControllerTest {
             @Test
             @DisplayName("HTTP Status Code 404 NOT FOUND 응답한다")
             void it_responds_with_404() throws Exception {
-                mockMvc.perform(patch("/products/" + TOY_ID_NOT_EXISTING)
+                mockMvc.perform(put("/products/" + TOY_ID_NOT_EXISTING)
                                 .content(jsonFrom(toyUpdating))
                                 .contentType(MediaType.APPLICATION_JSON))
                         .andExpect(status().isNotFound());
@@ -206,7 +676,7 @@ class ToyCrudControllerTest {
             @Test
             @DisplayName("HTTP Status Code 400 BAD REQUEST 응답한다")
             void it_responds_with_400() throws Exception {
-                mockMvc.perform(patch("/products/" + TOY_ID)
+                mockMvc.perform(put("/products/" + TOY_ID)
                                 .content(jsonFrom(toyWithEmptyName))
                                 .contentType(MediaType.APPLICATION_JSON))
                         .andExpect(status().isBadRequest());
@@ -215,6 +685,226 @@ class ToyCrudControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("patch 메소드는")
+    class Describe_patch {
+        @Nested
+        @DisplayName("일부 필드만 전달 받는다면")
+        class Context_with_partial_body {
+            @BeforeEach
+            void setUp() {
+                given(service.patch(eq(TOY_ID), any(Toy.class), any())).willReturn(toyUpdated);
+            }
+
+            @Test
+            @DisplayName("전달 받은 필드만 값을 가진 Toy로 수정하고 HTTP Status Code 200 OK 응답한다")
+            void it_patches_only_given_fields() throws Exception {
+                mockMvc.perform(patch("/products/" + TOY_ID)
+                                .content("{\"price\":" + toyUpdated.getPrice().getValue() + "}")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.name").value(toyUpdated.getName()));
+
+                verify(service).patch(eq(TOY_ID), argThat(toy -> toy.getName() == null
+                        && toy.getProducer() == null
+                        && toy.getDemo() == null
+                        && toy.getPrice() != null), isNull());
+            }
+        }
+
+        @Nested
+        @DisplayName("If-Match 헤더를 전달 받는다면")
+        class Context_with_if_match {
+            @BeforeEach
+            void setUp() {
+                ReflectionTestUtils.setField(toyUpdated, "version", TOY_VERSION + 1);
+                given(service.patch(eq(TOY_ID), any(Toy.class), any())).willReturn(toyUpdated);
+            }
+
+            @Test
+            @DisplayName("ETag의 버전을 기대하는 버전으로 수정하고, 수정된 버전의 ETag를 응답한다")
+            void it_patches_expected_version() throws Exception {
+                mockMvc.perform(patch("/products/" + TOY_ID)
+                                .header(HttpHeaders.IF_MATCH, DETAIL_ETAG)
+                                .content("{\"name\":\"" + PRODUCT_NAME + "\"}")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.ETAG, "\"1-3\""));
+
+                verify(service).patch(eq(TOY_ID), any(Toy.class), eq(TOY_VERSION));
+            }
+
+            @Test
+            @DisplayName("* 라면 버전을 확인하지 않고 수정한다")
+            void it_patches_any_version_for_wildcard() throws Exception {
+                mockMvc.perform(patch("/products/" + TOY_ID)
+                                .header(HttpHeaders.IF_MATCH, "*")
+                                .content("{\"name\":\"" + PRODUCT_NAME + "\"}")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk());
+
+                verify(service).patch(eq(TOY_ID), any(Toy.class), isNull());
+            }
+
+            @Test
+            @DisplayName("이 Toy의 강한 ETag가 아니라면 수정하지 않고 HTTP Status Code 412 PRECONDITION FAILED 응답한다")
+            void it_responds_with_412_for_invalid_tag() throws Exception {
+                for (String tag : List.of("\"10-2\"", "W/\"1-2\"", "\"1-2", "\"1-x\"")) {
+                    mockMvc.perform(patch("/products/" + TOY_ID)
+                                    .header(HttpHeaders.IF_MATCH, tag)
+                                    .content("{\"name\":\"" + PRODUCT_NAME + "\"}")
+                                    .contentType(MediaType.APPLICATION_JSON))
+                            .andExpect(status().isPreconditionFailed());
+                }
+
+                verify(service, never()).patch(any(), any(), any());
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 If-Match의 버전이 현재 버전과 다르다면")
+        class Context_with_stale_if_match {
+            @BeforeEach
+            void setUp() {
+                given(service.patch(eq(TOY_ID), any(Toy.class), eq(TOY_VERSION)))
+                        .willThrow(new ProductVersionMismatchException(TOY_ID));
+            }
+
+            @Test
+            @DisplayName("HTTP Status Code 412 PRECONDITION FAILED 응답한다")
+            void it_responds_with_412() throws Exception {
+                mockMvc.perform(patch("/products/" + TOY_ID)
+                                .header(HttpHeaders.IF_MATCH, DETAIL_ETAG)
+                                .content("{\"name\":\"" + PRODUCT_NAME + "\"}")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isPreconditionFailed());
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 다른 요청이 동시에 먼저 수정했다면")
+        class Context_with_concurrent_modification {
+            @BeforeEach
+            void setUp() {
+                given(service.patch(eq(TOY_ID), any(Toy.class), any()))
+                        .willThrow(new ObjectOptimisticLockingFailureException(Toy.class, TOY_ID));
+            }
+
+            @Test
+            @DisplayName("HTTP Status Code 409 CONFLICT 응답한다")
+            void it_responds_with_409() throws Exception {
+                mockMvc.perform(patch("/products/" + TOY_ID)
+                                .content("{\"name\":\"" + PRODUCT_NAME + "\"}")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isConflict());
+            }
+        }
+
+        @Nested
+        @DisplayName("url에 null을 명시한다면")
+        class Context_with_null_url {
+            @BeforeEach
+            void setUp() {
+                given(service.patch(eq(TOY_ID), any(Toy.class), any())).willReturn(toyUpdated);
+            }
+
+            @Test
+            @DisplayName("URL을 지우는 시연 정보로 수정한다")
+            void it_clears_url() throws Exception {
+                mockMvc.perform(patch("/products/" + TOY_ID)
+                                .content("{\"url\":null}")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk());
+
+                verify(service).patch(eq(TOY_ID), argThat(toy -> toy.getDemo() != null
+                        && toy.getDemo().getUrl() == null), isNull());
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 존재하지 않는 ID를 매개변수로 전달 받는다면")
+        class Context_without_existing_toy {
+            @BeforeEach
+            void setUp() {
+                given(service.patch(eq(TOY_ID_NOT_EXISTING), any(Toy.class), any()))
+                        .willThrow(new ProductNotFoundException(TOY_ID_NOT_EXISTING));
+            }
+
+            @Test
+            @DisplayName("HTTP Status Code 404 NOT FOUND 응답한다")
+            void it_responds_with_404() throws Exception {
+                mockMvc.perform(patch("/products/" + TOY_ID_NOT_EXISTING)
+                                .content("{\"name\":\"" + PRODUCT_NAME + "\"}")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isNotFound());
+            }
+        }
+
+        @Nested
+        @DisplayName("유효하지 않은 RequestBody를 전달 받는다면")
+        class Context_with_invalid_request_body {
+            @Test
+            @DisplayName("HTTP Status Code 400 BAD REQUEST 응답한다")
+            void it_responds_with_400() throws Exception {
+                for (String body : List.of("{\"name\":\" \"}", "{\"maker\":\"\"}", "{\"price\":null}")) {
+                    mockMvc.perform(patch("/products/" + TOY_ID)
+                                    .content(body)
+                                    .contentType(MediaType.APPLICATION_JSON))
+                            .andExpect(status().isBadRequest());
+                }
+
+                verify(service, never()).patch(any(), any(), any());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("updatePrices 메소드는")
+    class Describe_updatePrices {
+        @Nested
+        @DisplayName("유효한 항목들을 전달 받는다면")
+        class Context_with_valid_items {
+            @BeforeEach
+            void setUp() {
+                Map<Long, Boolean> results = new LinkedHashMap<>();
+                results.put(TOY_ID, true);
+                results.put(TOY_ID_NOT_EXISTING, false);
+                given(service.updatePrices(any())).willReturn(results);
+            }
+
+            @Test
+            @DisplayName("상품별 수정 여부와 함께 HTTP Status Code 200 OK 응답한다")
+            void it_responds_with_results() throws Exception {
+                mockMvc.perform(patch("/products/prices")
+                                .content("[{\"id\":" + TOY_ID + ",\"price\":1000},"
+                                        + "{\"id\":" + TOY_ID_NOT_EXISTING + ",\"price\":2000}]")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$", hasSize(2)))
+                        .andExpect(jsonPath("$[0].id").value(TOY_ID))
+                        .andExpect(jsonPath("$[0].updated").value(true))
+                        .andExpect(jsonPath("$[1].updated").value(false));
+            }
+        }
+
+        @Nested
+        @DisplayName("유효하지 않은 항목을 전달 받는다면")
+        class Context_with_invalid_item {
+            @Test
+            @DisplayName("항목의 index와 함께 HTTP Status Code 400 BAD REQUEST 응답하고 가격을 수정하지 않는다")
+            void it_responds_with_400() throws Exception {
+                mockMvc.perform(patch("/products/prices")
+                                .content("[{\"id\":" + TOY_ID + ",\"price\":1000},{\"id\":" + TOY_ID + "}]")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(jsonPath("$.errors[0].index").value(1))
+                        .andExpect(jsonPath("$.errors[0].field").value("price"));
+
+                verify(service, never()).updatePrices(any());
+            }
+        }
+    }
+
     @Nested
     @DisplayName("delete 메소드는")
     class Describe_delete {
@@ -250,13 +940,21 @@ class ToyCrudControllerTest {
 
 
     private String jsonFrom(Toy toy) throws JsonProcessingException {
-        ToyRequestData requestData = ToyRequestData.builder()
+        return objectMapper.writeValueAsString(requestDataFrom(toy));
+    }
+
+    private String jsonArrayFrom(Toy... toys) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(Arrays.stream(toys)
+                .map(this::requestDataFrom)
+                .collect(Collectors.toList()));
+    }
+
+    private ToyRequestData requestDataFrom(Toy toy) {
+        return ToyRequestData.builder()
                 .name(toy.getName())
                 .price(toy.getPrice().getValue())
                 .maker(toy.getProducer().getName())
                 .url(toy.getDemo().getUrl())
                 .build();
-
-        return objectMapper.writeValueAsString(requestData);
     }
 }
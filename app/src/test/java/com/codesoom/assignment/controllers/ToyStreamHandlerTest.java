@@ -0,0 +1,131 @@
+package com.codesoom.assignment.controllers;
+
+import com.codesoom.assignment.application.interfaces.ToyStreamService;
+import com.codesoom.assignment.controllers.dtos.ToyResponseData;
+import com.codesoom.assignment.domain.projections.ToySummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ToyStreamHandler")
+class ToyStreamHandlerTest {
+    private final ToyStreamService service = mock(ToyStreamService.class);
+    private WebTestClient client;
+
+    private final String PRODUCT_NAME = "Test Product";
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient
+                .bindToRouterFunction(ReactiveProductServer.routes(new ToyStreamHandler(service, new ObjectMapper())))
+                .build();
+    }
+
+    private ToySummary summary(long id) {
+        ToySummary summary = mock(ToySummary.class);
+        given(summary.getId()).willReturn(id);
+        given(summary.getName()).willReturn(PRODUCT_NAME + id);
+        given(summary.getPrice()).willReturn(new BigDecimal(1000));
+        given(summary.getMaker()).willReturn("Test Producer");
+        given(summary.getUrl()).willReturn("https://metacode.biz/@test/avatar.jpg");
+        return summary;
+    }
+
+    @Nested
+    @DisplayName("list 메소드는")
+    class Describe_list {
+        @Test
+        @DisplayName("커서 이후의 상품을 JSON 배열로 응답한다")
+        void it_responds_json_array() {
+            ToySummary second = summary(2L);
+            ToySummary third = summary(3L);
+            given(service.streamSummaries(1L, 2)).willReturn(Flux.just(second, third));
+
+            client.get().uri("/products?cursor=1&size=2")
+                    .accept(MediaType.APPLICATION_JSON)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                    .expectBody()
+                    .jsonPath("$.length()").isEqualTo(2)
+                    .jsonPath("$[0].id").isEqualTo(2)
+                    .jsonPath("$[1].name").isEqualTo(PRODUCT_NAME + 3);
+        }
+
+        @Test
+        @DisplayName("상품이 없다면 빈 배열로 응답한다")
+        void it_responds_empty_array() {
+            given(service.streamSummaries(null, null)).willReturn(Flux.empty());
+
+            client.get().uri("/products")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody().json("[]");
+
+            verify(service).streamSummaries(null, null);
+        }
+
+        @Test
+        @DisplayName("커서가 숫자가 아니라면 400 Bad Request로 응답한다")
+        void it_responds_bad_request_for_invalid_cursor() {
+            client.get().uri("/products?cursor=abc")
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.message").isEqualTo("Invalid cursor: abc");
+
+            verify(service, never()).streamSummaries(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("events 메소드는")
+    class Describe_events {
+        @Test
+        @DisplayName("상품을 server-sent event 하나씩으로 응답한다")
+        void it_responds_event_stream() {
+            ToySummary first = summary(1L);
+            ToySummary second = summary(2L);
+            given(service.streamSummaries(null, null)).willReturn(Flux.just(first, second));
+
+            Flux<ToyResponseData> events = client.get().uri("/products")
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                    .returnResult(ToyResponseData.class)
+                    .getResponseBody();
+
+            StepVerifier.create(events.map(ToyResponseData::getId))
+                    .expectNext(1L, 2L)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("크기가 정수가 아니라면 400 Bad Request로 응답한다")
+        void it_responds_bad_request_for_invalid_size() {
+            client.get().uri("/products?size=99999999999")
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.message").isEqualTo("Invalid size: 99999999999");
+
+            verify(service, never()).streamSummaries(any(), any());
+        }
+    }
+}
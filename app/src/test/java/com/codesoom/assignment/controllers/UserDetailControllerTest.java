@@ -13,11 +13,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -36,10 +43,14 @@ class UserDetailControllerTest {
     private final String USER_NAME = "Test User";
     private final String USER_EMAIL = "hello@gmail.com";
     private final String USER_PASSWORD = "yahOo~!@12345";
+    private final Long USER_VERSION = 3L;
+    private final String USER_ETAG = "\"1-3\"";
     private User user;
 
     @BeforeEach
     void setUp() {
+        reset(service);
+        given(service.showVersionById(USER_ID)).willReturn(USER_VERSION);
         user = User.builder()
                 .id(USER_ID)
                 .name(USER_NAME)
@@ -63,7 +74,18 @@ class UserDetailControllerTest {
             @DisplayName("HTTP Status Code 200 OK 응답한다")
             void it_responds_with_200_ok() throws Exception {
                 mockMvc.perform(get("/users/" + USER_ID))
-                        .andExpect(status().isOk());
+                        .andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.ETAG, USER_ETAG));
+            }
+
+            @Test
+            @DisplayName("If-None-Match가 현재 ETag와 같다면 사용자를 조회하지 않고 304 NOT MODIFIED 응답한다")
+            void it_responds_with_304_for_matching_etag() throws Exception {
+                mockMvc.perform(get("/users/" + USER_ID).header(HttpHeaders.IF_NONE_MATCH, USER_ETAG))
+                        .andExpect(status().isNotModified())
+                        .andExpect(content().string(""));
+
+                verify(service, never()).showById(any());
             }
         }
 
@@ -72,7 +94,7 @@ class UserDetailControllerTest {
         class Context_with_invalid_param {
             @BeforeEach
             void setUp() {
-                given(service.showById(USER_ID_NOT_EXISTING))
+                given(service.showVersionById(USER_ID_NOT_EXISTING))
                         .willThrow(new UserNotFoundException(USER_ID_NOT_EXISTING));
             }
 
@@ -1,7 +1,9 @@
 package com.codesoom.assignment.controllers;
 
 import com.codesoom.assignment.application.UserCrudService;
+import com.codesoom.assignment.domain.UserSort;
 import com.codesoom.assignment.domain.entities.User;
+import com.codesoom.assignment.domain.projections.VersionSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,15 +12,28 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.hamcrest.core.StringContains.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -34,10 +49,17 @@ class UserListControllerTest {
     private final String USER_NAME = "Test User";
     private final String USER_EMAIL = "hello@gmail.com";
     private final String USER_PASSWORD = "yahOo~!@12345";
+    private final String LIST_ETAG = "\"1-1-0\"";
     private User user;
 
     @BeforeEach
     void setUp() {
+        reset(service);
+        VersionSummary versionSummary = mock(VersionSummary.class);
+        given(versionSummary.getCount()).willReturn(1L);
+        given(versionSummary.getMaxId()).willReturn(USER_ID);
+        given(versionSummary.getVersionSum()).willReturn(0L);
+        given(service.showVersionSummary()).willReturn(versionSummary);
         user = User.builder()
                 .id(USER_ID)
                 .name(USER_NAME)
@@ -59,7 +81,80 @@ class UserListControllerTest {
         void it_responds_with_200_ok() throws Exception {
             mockMvc.perform(get("/users"))
                     .andExpect(status().isOk())
-                    .andExpect(content().string(containsString(USER_NAME)));
+                    .andExpect(content().string(containsString(USER_NAME)))
+                    .andExpect(header().string(HttpHeaders.ETAG, LIST_ETAG));
+        }
+
+        @Test
+        @DisplayName("If-None-Match가 현재 목록의 ETag와 같다면 목록을 조회하지 않고 304 NOT MODIFIED 응답한다")
+        void it_responds_with_304_for_matching_etag() throws Exception {
+            mockMvc.perform(get("/users").header(HttpHeaders.IF_NONE_MATCH, LIST_ETAG))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+
+            verify(service, never()).showAll();
+        }
+
+        @Nested
+        @DisplayName("만약 정렬된 목록의 다음 페이지가 있다면")
+        class Context_with_sorted_next_page {
+            @BeforeEach
+            void setUp() {
+                given(service.showPage(eq(UserSort.NAME), isNull(), eq(1)))
+                        .willReturn(new SliceImpl<>(List.of(user), PageRequest.of(0, 1), true));
+            }
+
+            @Test
+            @DisplayName("마지막 행의 이름으로 만든 after 커서를 Link 헤더로 응답한다")
+            void it_responds_with_after_link() throws Exception {
+                String after = KeysetCursors.of(UserSort.NAME, USER_ID, USER_NAME);
+
+                mockMvc.perform(get("/users?sort=name&size=1"))
+                        .andExpect(status().isOk())
+                        .andExpect(content().string(containsString(USER_NAME)))
+                        .andExpect(header().string(HttpHeaders.LINK, containsString("after=" + after)));
+
+                verify(service, never()).showAll();
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 after 커서로 정렬된 목록을 요청한다면")
+        class Context_with_after {
+            private final LocalDateTime CREATED_AT = LocalDateTime.of(2020, 11, 1, 12, 0);
+
+            @BeforeEach
+            void setUp() {
+                given(service.showPage(eq(UserSort.NEWEST), any(), anyInt()))
+                        .willReturn(new SliceImpl<>(List.of(user)));
+            }
+
+            @Test
+            @DisplayName("커서가 가리키는 위치 이후의 페이지를 Link 헤더 없이 응답한다")
+            void it_responds_with_page_after_keyset() throws Exception {
+                String after = KeysetCursors.of(UserSort.NEWEST, USER_ID, CREATED_AT.toString());
+
+                mockMvc.perform(get("/users?sort=newest&after=" + after))
+                        .andExpect(status().isOk())
+                        .andExpect(header().doesNotExist(HttpHeaders.LINK));
+
+                verify(service).showPage(eq(UserSort.NEWEST),
+                        argThat(keyset -> keyset.getId().equals(USER_ID) && CREATED_AT.equals(keyset.getValue())),
+                        anyInt());
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 없는 정렬을 요청한다면")
+        class Context_with_unknown_sort {
+            @Test
+            @DisplayName("HTTP Status Code 400 BAD REQUEST 응답한다")
+            void it_responds_with_400() throws Exception {
+                mockMvc.perform(get("/users?sort=email"))
+                        .andExpect(status().isBadRequest());
+
+                verify(service, never()).showAll();
+            }
         }
     }
 }
@@ -2,6 +2,7 @@ package com.codesoom.assignment.controllers;
 
 import com.codesoom.assignment.application.UserCrudService;
 import com.codesoom.assignment.application.exceptions.UserNotFoundException;
+import com.codesoom.assignment.application.exceptions.UserVersionMismatchException;
 import com.codesoom.assignment.controllers.dtos.UserRequestData;
 import com.codesoom.assignment.domain.entities.User;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -14,13 +15,25 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import javax.persistence.OptimisticLockException;
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -45,6 +58,7 @@ class UserUpdateControllerTest {
 
     @BeforeEach
     void setUp() {
+        reset(service);
         userWithoutId = User.builder()
                 .name(USER_NAME)
                 .email(USER_EMAIL)
@@ -58,8 +72,8 @@ class UserUpdateControllerTest {
     }
 
     @Nested
-    @DisplayName("patch 메소드는")
-    class Describe_patch {
+    @DisplayName("update 메소드는")
+    class Describe_update {
         @Nested
         @DisplayName("유효한 매개변수를 전달 받는다면")
         class Context_with_valid_param {
@@ -78,7 +92,7 @@ class UserUpdateControllerTest {
             @Test
             @DisplayName("HTTP Status Code 200 OK 응답한다")
             void it_responds_with_200_ok() throws Exception {
-                mockMvc.perform(patch("/users/" + USER_ID)
+                mockMvc.perform(put("/users/" + USER_ID)
                                 .content(jsonFrom(userWithoutId))
                                 .contentType(MediaType.APPLICATION_JSON))
                         .andExpect(status().isOk());
@@ -97,7 +111,7 @@ class UserUpdateControllerTest {
             @Test
             @DisplayName("HTTP Status Code 404 NOT FOUND 응답한다")
             void it_responds_with_404() throws Exception {
-                mockMvc.perform(patch("/users/" + USER_ID_NOT_EXISTING)
+                mockMvc.perform(put("/users/" + USER_ID_NOT_EXISTING)
                                 .content(jsonFrom(userWithoutId))
                                 .contentType(MediaType.APPLICATION_JSON))
                         .andExpect(status().isNotFound());
@@ -115,7 +129,7 @@ class UserUpdateControllerTest {
             @Test
             @DisplayName("HTTP Status Code 400 BAD REQUEST 응답한다")
             void it_responds_with_400() throws Exception {
-                mockMvc.perform(patch("/users/" + USER_ID)
+                mockMvc.perform(put("/users/" + USER_ID)
                                 .content(jsonFrom(userWithEmptyName))
                                 .contentType(MediaType.APPLICATION_JSON))
                         .andExpect(status().isBadRequest());
@@ -124,6 +138,129 @@ class UserUpdateControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("patch 메소드는")
+    class Describe_patch {
+        @Nested
+        @DisplayName("일부 필드만 전달 받는다면")
+        class Context_with_partial_body {
+            @BeforeEach
+            void setUp() {
+                userUpdated = User.builder()
+                        .id(USER_ID)
+                        .name(USER_NAME + "UPDATED")
+                        .email(USER_EMAIL)
+                        .password(USER_PASSWORD)
+                        .version(4L)
+                        .build();
+
+                given(service.patch(eq(USER_ID), any(User.class), any())).willReturn(userUpdated);
+            }
+
+            @Test
+            @DisplayName("전달 받은 필드만 값을 가진 User로 수정하고 HTTP Status Code 200 OK 응답한다")
+            void it_patches_only_given_fields() throws Exception {
+                mockMvc.perform(patch("/users/" + USER_ID)
+                                .content("{\"name\":\"" + USER_NAME + "UPDATED\"}")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.ETAG, "\"1-4\""))
+                        .andExpect(jsonPath("$.name").value(USER_NAME + "UPDATED"));
+
+                verify(service).patch(eq(USER_ID), argThat(user -> user.getName() != null
+                        && user.getEmail() == null
+                        && user.getPassword() == null), isNull());
+            }
+
+            @Test
+            @DisplayName("If-Match 헤더를 전달 받는다면 ETag의 버전을 기대하는 버전으로 수정한다")
+            void it_patches_expected_version() throws Exception {
+                mockMvc.perform(patch("/users/" + USER_ID)
+                                .header(HttpHeaders.IF_MATCH, "\"1-3\"")
+                                .content("{\"name\":\"" + USER_NAME + "UPDATED\"}")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk());
+
+                verify(service).patch(eq(USER_ID), any(User.class), eq(3L));
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 If-Match의 버전이 현재 버전과 다르다면")
+        class Context_with_stale_if_match {
+            @BeforeEach
+            void setUp() {
+                given(service.patch(eq(USER_ID), any(User.class), eq(2L)))
+                        .willThrow(new UserVersionMismatchException(USER_ID));
+            }
+
+            @Test
+            @DisplayName("HTTP Status Code 412 PRECONDITION FAILED 응답한다")
+            void it_responds_with_412() throws Exception {
+                mockMvc.perform(patch("/users/" + USER_ID)
+                                .header(HttpHeaders.IF_MATCH, "\"1-2\"")
+                                .content("{\"name\":\"" + USER_NAME + "\"}")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isPreconditionFailed());
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 다른 요청이 동시에 먼저 수정했다면")
+        class Context_with_concurrent_modification {
+            @BeforeEach
+            void setUp() {
+                given(service.patch(eq(USER_ID), any(User.class), any()))
+                        .willThrow(new OptimisticLockException());
+            }
+
+            @Test
+            @DisplayName("HTTP Status Code 409 CONFLICT 응답한다")
+            void it_responds_with_409() throws Exception {
+                mockMvc.perform(patch("/users/" + USER_ID)
+                                .content("{\"name\":\"" + USER_NAME + "\"}")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isConflict());
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 존재하지 않는 ID를 매개변수로 전달 받는다면")
+        class Context_without_existing_user {
+            @BeforeEach
+            void setUp() {
+                given(service.patch(eq(USER_ID_NOT_EXISTING), any(User.class), any()))
+                        .willThrow(new UserNotFoundException(USER_ID_NOT_EXISTING));
+            }
+
+            @Test
+            @DisplayName("HTTP Status Code 404 NOT FOUND 응답한다")
+            void it_responds_with_404() throws Exception {
+                mockMvc.perform(patch("/users/" + USER_ID_NOT_EXISTING)
+                                .content(jsonFrom(userWithoutId))
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isNotFound());
+            }
+        }
+
+        @Nested
+        @DisplayName("유효하지 않은 RequestBody를 전달 받는다면")
+        class Context_with_invalid_request_body {
+            @Test
+            @DisplayName("HTTP Status Code 400 BAD REQUEST 응답한다")
+            void it_responds_with_400() throws Exception {
+                for (String body : List.of("{\"name\":\"\"}", "{\"password\":\"\"}", "{\"email\":null}")) {
+                    mockMvc.perform(patch("/users/" + USER_ID)
+                                    .content(body)
+                                    .contentType(MediaType.APPLICATION_JSON))
+                            .andExpect(status().isBadRequest());
+                }
+
+                verify(service, never()).patch(any(), any(), any());
+            }
+        }
+    }
+
     private String jsonFrom(User user) throws JsonProcessingException {
         UserRequestData requestData = UserRequestData.builder()
                 .name(user.getName())
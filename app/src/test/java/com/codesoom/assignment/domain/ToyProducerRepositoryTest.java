@@ -63,4 +63,32 @@ class ToyProducerRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findFirstByNameOrderByIdAsc 메소드는")
+    class Describe_findFirstByNameOrderByIdAsc {
+        @Nested
+        @DisplayName("만약 같은 이름의 생산자가 존재한다면")
+        class Context_with_existing_producer {
+            @BeforeEach
+            void setUp() {
+                repository.save(producer);
+            }
+
+            @Test
+            @DisplayName("생산자를 반환한다")
+            void it_returns_producer() {
+                assertThat(repository.findFirstByNameOrderByIdAsc(PRODUCER_NAME)).isPresent();
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 같은 이름의 생산자가 존재하지 않는다면")
+        class Context_without_existing_producer {
+            @Test
+            @DisplayName("빈 Optional을 반환한다")
+            void it_returns_empty() {
+                assertThat(repository.findFirstByNameOrderByIdAsc(PRODUCER_NAME)).isEmpty();
+            }
+        }
+    }
 }
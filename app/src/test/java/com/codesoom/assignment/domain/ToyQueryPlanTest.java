@@ -0,0 +1,163 @@
+package com.codesoom.assignment.domain;
+
+import com.codesoom.assignment.domain.entities.Toy;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 필터와 정렬 키셋 조건이 매핑에 선언한 인덱스로 실행되는지 H2 실행 계획으로 확인한다
+ * <p>
+ * ToyRepositoryCustomImpl.findSummaries에 ToySpecifications와 ToySort의 조건을 넘겨 Hibernate가 실제로 만든 SQL과
+ * 바인딩 값을 데이터소스 프록시로 잡아 EXPLAIN 한다. 행 수는 codesoom.plan.rows 시스템 속성으로 바꿀 수 있다
+ * </p>
+ */
+@DataJpaTest
+@Import(ToyQueryPlanTest.CapturingDataSourceConfig.class)
+@DisplayName("장난감 필터 쿼리 실행 계획")
+class ToyQueryPlanTest {
+    private static final int ROWS = Integer.getInteger("codesoom.plan.rows", 20_000);
+    private static final int PRODUCERS = 100;
+    private static final long FIRST_ID = 10_000_000L;
+    private static final int PAGE_SIZE = 20;
+    private static final List<QueryInfo> CAPTURED = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private ToyRepository repository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TestConfiguration
+    static class CapturingDataSourceConfig {
+        @Bean
+        static BeanPostProcessor capturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource)) {
+                        return bean;
+                    }
+                    return ProxyDataSourceBuilder.create((DataSource) bean)
+                            .afterQuery((execInfo, queryInfoList) -> CAPTURED.addAll(queryInfoList))
+                            .build();
+                }
+            };
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> producers = new ArrayList<>(PRODUCERS);
+        for (int index = 0; index < PRODUCERS; index++) {
+            producers.add(new Object[]{FIRST_ID + index, "Plan Producer " + index});
+        }
+        jdbcTemplate.batchUpdate("insert into toy_producer (id, name) values (?, ?)", producers);
+
+        List<Object[]> products = new ArrayList<>(ROWS);
+        List<Object[]> toys = new ArrayList<>(ROWS);
+        for (int index = 0; index < ROWS; index++) {
+            long id = FIRST_ID + index;
+            products.add(new Object[]{id, "Toy", "Plan Toy " + index, index % 100_000});
+            toys.add(new Object[]{id, FIRST_ID + index % PRODUCERS, "https://example.com/" + index});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into product (id, dtype, name, value, version) values (?, ?, ?, ?, 0)", products);
+        jdbcTemplate.batchUpdate("insert into toy (id, toy_producer_id, url) values (?, ?, ?)", toys);
+    }
+
+    private String plan(ToyFilter filter) {
+        return plan(ToySpecifications.matching(filter), PageRequest.of(0, PAGE_SIZE));
+    }
+
+    private String plan(ToySort sort, Keyset after) {
+        return plan(Specification.where(sort.after(after)).and(ToySpecifications.matching(ToyFilter.builder().build())),
+                PageRequest.of(0, PAGE_SIZE, sort.toSort()));
+    }
+
+    private String plan(Specification<Toy> specification, PageRequest pageRequest) {
+        CAPTURED.clear();
+        repository.findSummaries(specification, pageRequest);
+        assertThat(CAPTURED).hasSize(1);
+        QueryInfo query = CAPTURED.get(0);
+        return jdbcTemplate.queryForObject("explain " + query.getQuery(), String.class, arguments(query))
+                .toLowerCase();
+    }
+
+    private Object[] arguments(QueryInfo query) {
+        return query.getParametersList().get(0).stream()
+                .map(ParameterSetOperation::getArgs)
+                .sorted(Comparator.comparing(args -> (Integer) args[0]))
+                .map(args -> args[1])
+                .toArray();
+    }
+
+    private int producerJoins() {
+        return CAPTURED.get(0).getQuery().toLowerCase().split("join toy_producer", -1).length - 1;
+    }
+
+    @Test
+    @DisplayName("가격 범위 조건은 product.value 인덱스를 사용한다")
+    void price_range_uses_value_index() {
+        assertThat(plan(ToyFilter.builder()
+                .minPrice(new BigDecimal(10_000))
+                .maxPrice(new BigDecimal(10_100))
+                .build())).contains("idx_product_value");
+    }
+
+    @Test
+    @DisplayName("생산자 id 조건은 생산자를 다시 조인하지 않고 toy.toy_producer_id 인덱스를 사용한다")
+    void maker_id_uses_producer_index() {
+        assertThat(plan(ToyFilter.builder().makerId(FIRST_ID).build())).contains("idx_toy_toy_producer_id");
+        assertThat(producerJoins()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("생산자 이름 조건은 생산자를 다시 조인하지 않고 생산자 이름과 toy.toy_producer_id 인덱스를 사용한다")
+    void maker_name_uses_name_and_producer_index() {
+        assertThat(plan(ToyFilter.builder().maker("Plan Producer 7").build()))
+                .contains("uk_toy_producer_name")
+                .contains("idx_toy_toy_producer_id");
+        assertThat(producerJoins()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이름 접두어 조건은 product.name 인덱스를 사용한다")
+    void name_prefix_uses_name_index() {
+        assertThat(plan(ToyFilter.builder().namePrefix("Plan Toy 1999").build())).contains("idx_product_name");
+    }
+
+    @Test
+    @DisplayName("가격순 키셋 조건은 (value, id) 인덱스를 사용한다")
+    void price_keyset_uses_value_index() {
+        assertThat(plan(ToySort.PRICE, new Keyset(new BigDecimal(99_000), FIRST_ID))).contains("idx_product_value");
+    }
+
+    @Test
+    @DisplayName("최신순 키셋 조건은 (created_at desc, id desc) 인덱스를 사용한다")
+    void newest_keyset_uses_created_at_index() {
+        assertThat(plan(ToySort.NEWEST, new Keyset(LocalDateTime.of(2000, 1, 1, 0, 0), FIRST_ID)))
+                .contains("idx_product_created_at");
+    }
+}
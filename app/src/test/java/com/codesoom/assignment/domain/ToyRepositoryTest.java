@@ -2,16 +2,41 @@ package com.codesoom.assignment.domain;
 
 import com.codesoom.assignment.domain.entities.Toy;
 import com.codesoom.assignment.domain.entities.ToyProducer;
+import com.codesoom.assignment.domain.projections.MakerCount;
+import com.codesoom.assignment.domain.projections.ToyFacet;
+import com.codesoom.assignment.domain.projections.ToySummary;
+import com.codesoom.assignment.domain.projections.VersionSummary;
 import com.codesoom.assignment.domain.vos.ImageDemo;
 import com.codesoom.assignment.domain.vos.Won;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.persistence.EntityManagerFactory;
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @DisplayName("ToyRepository")
@@ -20,7 +45,14 @@ class ToyRepositoryTest {
     private ToyRepository repository;
     @Autowired
     private ToyProducerRepository producerRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
 
+    private TransactionTemplate transactionTemplate;
     private Toy product;
     private ToyProducer producer;
     private Won money;
@@ -34,6 +66,7 @@ class ToyRepositoryTest {
     void setUp() {
         repository.deleteAll();
         producerRepository.deleteAll();
+        transactionTemplate = new TransactionTemplate(transactionManager);
 
         demo = new ImageDemo(IMAGE_URL);
         money = new Won(MONEY_VALUE);
@@ -87,4 +120,478 @@ class ToyRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Projection 조회 메소드는")
+    class Describe_summaries {
+        private Toy saved;
+
+        @BeforeEach
+        void setUp() {
+            producerRepository.save(producer);
+            saved = repository.save(product);
+        }
+
+        @Test
+        @DisplayName("findSummaryById는 응답에 필요한 컬럼을 반환한다")
+        void findSummaryById_returns_response_columns() {
+            ToySummary actual = repository.findSummaryById(saved.getId()).orElseThrow();
+
+            assertThat(actual.getId()).isEqualTo(saved.getId());
+            assertThat(actual.getName()).isEqualTo(PRODUCT_NAME);
+            assertThat(actual.getPrice()).isEqualByComparingTo(MONEY_VALUE);
+            assertThat(actual.getMaker()).isEqualTo(PRODUCER_NAME);
+            assertThat(actual.getUrl()).isEqualTo(IMAGE_URL);
+        }
+
+        @Test
+        @DisplayName("findSummariesByIdGreaterThan은 커서 이후의 Projection을 반환한다")
+        void findSummariesByIdGreaterThan_returns_after_cursor() {
+            Slice<ToySummary> actual = repository.findSummariesByIdGreaterThan(0L, PageRequest.of(0, 10));
+
+            assertThat(actual.getContent()).extracting(ToySummary::getId).containsExactly(saved.getId());
+            assertThat(actual.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("findAllSummaries는 엔티티를 영속성 컨텍스트에 올리지 않는다")
+        void findAllSummaries_does_not_manage_entities() {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<ToySummary> actual = repository.findAllSummaries();
+
+                assertThat(actual).hasSize(1);
+                assertThat(entityManager.getEntityManager()
+                        .unwrap(Session.class)
+                        .getStatistics()
+                        .getEntityCount()).isZero();
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("findSummaries 메소드는")
+    class Describe_findSummaries {
+        private ToyProducer lego;
+        private Toy cheapTrain;
+        private Toy train;
+        private Toy blocks;
+        private Toy car;
+
+        @BeforeEach
+        void setUp() {
+            lego = producerRepository.save(ToyProducer.builder().name("Lego").build());
+            producerRepository.save(producer);
+            cheapTrain = repository.save(toy("Wooden Train", 5_000, lego));
+            train = repository.save(toy("Wooden Train Set", 30_000, lego));
+            blocks = repository.save(toy("Blocks_100%", 45_000, lego));
+            car = repository.save(toy("Wooden Car", 20_000, producer));
+        }
+
+        private Toy toy(String name, int price, ToyProducer maker) {
+            return Toy.builder()
+                    .name(name)
+                    .price(new Won(new BigDecimal(price)))
+                    .producer(maker)
+                    .demo(demo)
+                    .build();
+        }
+
+        private List<Long> idsMatching(ToyFilter filter) {
+            return repository.findSummaries(ToySpecifications.matching(filter), PageRequest.of(0, 10))
+                    .getContent().stream()
+                    .map(ToySummary::getId)
+                    .collect(Collectors.toList());
+        }
+
+        @Test
+        @DisplayName("가격 범위와 생산자 이름을 모두 만족하는 Projection을 id 오름차순으로 반환한다")
+        void it_returns_summaries_in_price_range_of_maker() {
+            ToyFilter filter = ToyFilter.builder()
+                    .minPrice(new BigDecimal(10_000))
+                    .maxPrice(new BigDecimal(50_000))
+                    .maker("Lego")
+                    .build();
+
+            assertThat(idsMatching(filter)).containsExactly(train.getId(), blocks.getId());
+        }
+
+        @Test
+        @DisplayName("생산자 id와 이름 접두어로 거른다")
+        void it_filters_by_maker_id_and_name_prefix() {
+            ToyFilter filter = ToyFilter.builder()
+                    .makerId(lego.getId())
+                    .namePrefix("Wooden")
+                    .build();
+
+            assertThat(idsMatching(filter)).containsExactly(cheapTrain.getId(), train.getId());
+        }
+
+        @Test
+        @DisplayName("이름 접두어의 % 와 _ 는 문자 그대로 비교한다")
+        void it_escapes_like_wildcards() {
+            assertThat(idsMatching(ToyFilter.builder().namePrefix("Blocks_100%").build()))
+                    .containsExactly(blocks.getId());
+            assertThat(idsMatching(ToyFilter.builder().namePrefix("%").build())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("커서 이후의 한 페이지와 다음 페이지 존재여부, 응답에 필요한 컬럼을 반환한다")
+        void it_returns_page_after_cursor() {
+            Slice<ToySummary> actual = repository.findSummaries(
+                    ToySpecifications.idGreaterThan(cheapTrain.getId())
+                            .and(ToySpecifications.matching(ToyFilter.builder().maker("Lego").build())),
+                    PageRequest.of(0, 1));
+
+            assertThat(actual.getContent()).hasSize(1);
+            assertThat(actual.hasNext()).isTrue();
+            ToySummary summary = actual.getContent().get(0);
+            assertThat(summary.getId()).isEqualTo(train.getId());
+            assertThat(summary.getName()).isEqualTo("Wooden Train Set");
+            assertThat(summary.getPrice()).isEqualByComparingTo(new BigDecimal(30_000));
+            assertThat(summary.getMaker()).isEqualTo("Lego");
+            assertThat(summary.getUrl()).isEqualTo(IMAGE_URL);
+        }
+
+        @Test
+        @DisplayName("조건이 없다면 모든 Projection을 반환한다")
+        void it_returns_all_without_conditions() {
+            assertThat(idsMatching(ToyFilter.builder().build())).hasSize(4);
+        }
+
+        private List<Long> idsSortedBy(ToySort sort, Keyset after, ToyFilter filter) {
+            return repository.findSummaries(
+                    Specification.where(sort.after(after)).and(ToySpecifications.matching(filter)),
+                    PageRequest.of(0, 10, sort.toSort()))
+                    .getContent().stream()
+                    .map(ToySummary::getId)
+                    .collect(Collectors.toList());
+        }
+
+        @Test
+        @DisplayName("정렬 순서대로 Projection을 반환한다")
+        void it_returns_summaries_in_sort_order() {
+            ToyFilter none = ToyFilter.builder().build();
+
+            assertThat(idsSortedBy(ToySort.PRICE, null, none))
+                    .containsExactly(cheapTrain.getId(), car.getId(), train.getId(), blocks.getId());
+            assertThat(idsSortedBy(ToySort.NAME, null, ToyFilter.builder().maker("Lego").build()))
+                    .containsExactly(blocks.getId(), cheapTrain.getId(), train.getId());
+            assertThat(idsSortedBy(ToySort.NEWEST, null, none))
+                    .containsExactly(car.getId(), blocks.getId(), train.getId(), cheapTrain.getId());
+        }
+
+        @Test
+        @DisplayName("키셋 이후의 Projection만 정렬 순서대로 반환한다")
+        void it_returns_summaries_after_keyset() {
+            ToyFilter none = ToyFilter.builder().build();
+
+            assertThat(idsSortedBy(ToySort.PRICE, new Keyset(new BigDecimal(20_000), car.getId()), none))
+                    .containsExactly(train.getId(), blocks.getId());
+            assertThat(idsSortedBy(ToySort.NAME, new Keyset("Wooden Car", car.getId()), none))
+                    .containsExactly(cheapTrain.getId(), train.getId());
+        }
+
+        @Test
+        @DisplayName("정렬 키가 같다면 id 순서로 이어서 반환한다")
+        void it_breaks_ties_by_id() {
+            Toy sameName = repository.save(toy("Wooden Car", 25_000, lego));
+
+            assertThat(idsSortedBy(ToySort.NAME, new Keyset("Wooden Car", car.getId()), ToyFilter.builder().build()))
+                    .containsExactly(sameName.getId(), cheapTrain.getId(), train.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("집계 메소드는")
+    class Describe_facet_counts {
+        @BeforeEach
+        void setUp() {
+            transactionTemplate.executeWithoutResult(status -> {
+                ToyProducer lego = producerRepository.save(ToyProducer.builder().name("Lego").build());
+                producerRepository.save(producer);
+                repository.save(toy("Wooden Train", 5_000, lego));
+                repository.save(toy("Wooden Train Set", 30_000, lego));
+                repository.save(toy("Blocks", 45_000, lego));
+                repository.save(toy("Wooden Car", 10_000, producer));
+            });
+        }
+
+        private Toy toy(String name, int price, ToyProducer maker) {
+            return Toy.builder()
+                    .name(name)
+                    .price(new Won(new BigDecimal(price)))
+                    .producer(maker)
+                    .demo(demo)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("countByMaker는 생산자 이름별 장난감 수를 반환한다")
+        void it_counts_by_maker() {
+            Map<String, Long> counts = repository.countByMaker().stream()
+                    .collect(Collectors.toMap(MakerCount::getMaker, MakerCount::getCount));
+
+            assertThat(counts).containsOnly(Map.entry("Lego", 3L), Map.entry(PRODUCER_NAME, 1L));
+        }
+
+        @Test
+        @DisplayName("countByPriceBucket은 경계 가격을 위 구간에 넣어 구간별 장난감 수를 반환한다")
+        void it_counts_by_price_bucket() {
+            long[] counts = repository.countByPriceBucket(
+                    List.of(new BigDecimal(10_000), new BigDecimal(30_000), new BigDecimal(100_000)));
+
+            assertThat(counts).containsExactly(1L, 1L, 2L, 0L);
+        }
+    }
+
+    @Nested
+    @DisplayName("행 단위 수정/삭제 메소드는")
+    class Describe_row_statements {
+        private Toy saved;
+
+        @BeforeEach
+        void setUp() {
+            producerRepository.save(producer);
+            saved = repository.save(product);
+        }
+
+        @Test
+        @DisplayName("updateColumns는 존재하는 장난감을 수정하고 수정 전 생산자와 가격을 반환한다")
+        void update_columns_of_existing_toy() {
+            ToyProducer newProducer = producerRepository.save(ToyProducer.builder().name(PRODUCER_NAME + "NEW").build());
+            BigDecimal newPrice = new BigDecimal(2000);
+
+            ToyFacet previous = transactionTemplate.execute(status -> repository.updateColumns(saved.getId(),
+                    PRODUCT_NAME + "UPDATED", newPrice, newProducer.getId(), IMAGE_URL + "?v=2")).orElseThrow();
+
+            assertThat(previous.getMaker()).isEqualTo(PRODUCER_NAME);
+            assertThat(previous.getPrice()).isEqualByComparingTo(MONEY_VALUE);
+
+            ToySummary actual = repository.findSummaryById(saved.getId()).orElseThrow();
+            assertThat(actual.getName()).isEqualTo(PRODUCT_NAME + "UPDATED");
+            assertThat(actual.getPrice()).isEqualByComparingTo(newPrice);
+            assertThat(actual.getMaker()).isEqualTo(PRODUCER_NAME + "NEW");
+            assertThat(actual.getUrl()).isEqualTo(IMAGE_URL + "?v=2");
+        }
+
+        @Test
+        @DisplayName("updateColumns는 존재하지 않는 장난감이라면 빈 Optional을 반환한다")
+        void update_columns_of_not_existing_toy() {
+            Optional<ToyFacet> previous = transactionTemplate.execute(status -> repository.updateColumns(
+                    saved.getId() + 100, PRODUCT_NAME, MONEY_VALUE, producer.getId(), IMAGE_URL));
+
+            assertThat(previous).isEmpty();
+        }
+
+        @Test
+        @DisplayName("updateColumns는 먼저 커밋한 트랜잭션이 수정한 값을 수정 전 값으로 반환한다")
+        void update_columns_returns_value_committed_by_concurrent_transaction() throws Exception {
+            BigDecimal firstPrice = new BigDecimal(2000);
+            CountDownLatch firstUpdated = new CountDownLatch(1);
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<?> first = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                    repository.updateColumns(saved.getId(), PRODUCT_NAME, firstPrice, producer.getId(), IMAGE_URL);
+                    firstUpdated.countDown();
+                    sleep(200);
+                }));
+                firstUpdated.await();
+
+                ToyFacet previous = transactionTemplate.execute(status -> repository.updateColumns(saved.getId(),
+                        PRODUCT_NAME, new BigDecimal(3000), producer.getId(), IMAGE_URL)).orElseThrow();
+                first.get();
+
+                assertThat(previous.getPrice()).isEqualByComparingTo(firstPrice);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("deleteRows는 장난감을 삭제하고 삭제 전 생산자와 가격을 반환한다")
+        void delete_rows_of_existing_toy() {
+            ToyFacet previous = transactionTemplate.execute(status -> repository.deleteRows(saved.getId()))
+                    .orElseThrow();
+
+            assertThat(previous.getMaker()).isEqualTo(PRODUCER_NAME);
+            assertThat(previous.getPrice()).isEqualByComparingTo(MONEY_VALUE);
+            assertThat(repository.findById(saved.getId())).isEmpty();
+
+            Optional<ToyFacet> deletedAgain = transactionTemplate.execute(status -> repository.deleteRows(saved.getId()));
+            assertThat(deletedAgain).isEmpty();
+        }
+
+        private void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("updatePrices 메소드는")
+    class Describe_updatePrices {
+        private Toy saved;
+        private final BigDecimal newPrice = new BigDecimal(3000);
+
+        @BeforeEach
+        void setUp() {
+            producerRepository.save(producer);
+            saved = repository.save(product);
+        }
+
+        @Test
+        @DisplayName("존재하는 장난감의 가격만 수정하고 수정된 id의 수정 전 생산자와 가격만 반환한다")
+        void it_updates_prices_of_existing_toys() {
+            Long missingId = saved.getId() + 100;
+            Map<Long, BigDecimal> prices = new LinkedHashMap<>();
+            prices.put(saved.getId(), newPrice);
+            prices.put(missingId, newPrice);
+
+            Map<Long, ToyFacet> actual = repository.updatePrices(prices);
+
+            assertThat(actual).containsOnlyKeys(saved.getId());
+            assertThat(actual.get(saved.getId()).getMaker()).isEqualTo(PRODUCER_NAME);
+            assertThat(actual.get(saved.getId()).getPrice()).isEqualByComparingTo(MONEY_VALUE);
+            ToySummary summary = repository.findSummaryById(saved.getId()).orElseThrow();
+            assertThat(summary.getPrice()).isEqualByComparingTo(newPrice);
+            assertThat(summary.getName()).isEqualTo(PRODUCT_NAME);
+        }
+    }
+
+    @Nested
+    @DisplayName("버전 조회 메소드는")
+    class Describe_versions {
+        private Toy saved;
+
+        @BeforeEach
+        void setUp() {
+            producerRepository.save(producer);
+            saved = repository.save(product);
+        }
+
+        @Test
+        @DisplayName("findVersionById는 저장된 장난감의 초기 버전을 반환하고, 없는 장난감이라면 비어 있다")
+        void findVersionById_returns_initial_version() {
+            assertThat(repository.findVersionById(saved.getId())).contains(0L);
+            assertThat(repository.findVersionById(saved.getId() + 100)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("updateColumns와 updatePrices는 버전을 증가시킨다")
+        void row_updates_increase_version() {
+            transactionTemplate.execute(status -> repository.updateColumns(
+                    saved.getId(), PRODUCT_NAME, MONEY_VALUE, producer.getId(), IMAGE_URL));
+            repository.updatePrices(Map.of(saved.getId(), new BigDecimal(2000)));
+
+            assertThat(repository.findVersionById(saved.getId())).contains(2L);
+        }
+
+        @Test
+        @DisplayName("findVersionSummary는 커서 이후 장난감의 개수, 최대 id, 버전의 합을 반환한다")
+        void findVersionSummary_summarizes_after_cursor() {
+            VersionSummary actual = repository.findVersionSummary(0L);
+
+            assertThat(actual.getCount()).isEqualTo(1L);
+            assertThat(actual.getMaxId()).isEqualTo(saved.getId());
+            assertThat(actual.getVersionSum()).isZero();
+            assertThat(repository.findVersionSummary(saved.getId()).getCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("먼저 읽은 버전으로 수정하는 트랜잭션은 다른 트랜잭션이 먼저 커밋했다면 실패한다")
+        void stale_entity_update_fails() {
+            TransactionTemplate concurrentTemplate = new TransactionTemplate(transactionManager);
+            concurrentTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+            assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+                Toy stale = repository.findWithProducerById(saved.getId()).orElseThrow();
+                concurrentTemplate.executeWithoutResult(concurrentStatus -> repository
+                        .findWithProducerById(saved.getId()).orElseThrow()
+                        .changeName(PRODUCT_NAME + "FIRST"));
+                stale.changeName(PRODUCT_NAME + "SECOND");
+            })).isInstanceOf(OptimisticLockingFailureException.class);
+
+            assertThat(repository.findSummaryById(saved.getId()).orElseThrow().getName())
+                    .isEqualTo(PRODUCT_NAME + "FIRST");
+            assertThat(repository.findVersionById(saved.getId())).contains(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("2차 캐시는")
+    class Describe_second_level_cache {
+        private Toy saved;
+
+        @BeforeEach
+        void setUp() {
+            producerRepository.save(producer);
+            saved = repository.save(product);
+            statistics().clear();
+        }
+
+        @Test
+        @DisplayName("한 번 조회한 장난감과 생산자를 다시 조회할 때 데이터베이스에 쿼리하지 않는다")
+        void findById_hits_second_level_cache() {
+            findMakerName();
+            long statementCount = statistics().getPrepareStatementCount();
+
+            assertThat(findMakerName()).isEqualTo(PRODUCER_NAME);
+            assertThat(statistics().getPrepareStatementCount()).isEqualTo(statementCount);
+            assertThat(statistics().getSecondLevelCacheHitCount()).isPositive();
+        }
+
+        @Test
+        @DisplayName("updatePrices로 수정한 장난감은 캐시에서 지워져 새 가격으로 조회된다")
+        void updatePrices_evicts_cached_toy() {
+            repository.findById(saved.getId()).orElseThrow();
+            BigDecimal newPrice = new BigDecimal(7000);
+
+            repository.updatePrices(Map.of(saved.getId(), newPrice));
+
+            assertThat(repository.findById(saved.getId()).orElseThrow().getPrice().getValue())
+                    .isEqualByComparingTo(newPrice);
+        }
+
+        @Test
+        @DisplayName("updateColumns로 수정한 장난감만 캐시에서 지우고 다른 장난감과 생산자는 남겨둔다")
+        void updateColumns_evicts_only_updated_toy() {
+            Toy other = repository.save(Toy.builder()
+                    .name(PRODUCT_NAME + "OTHER")
+                    .price(money)
+                    .producer(producer)
+                    .demo(demo)
+                    .build());
+            transactionTemplate.execute(status -> repository.findAllById(List.of(saved.getId(), other.getId())));
+
+            transactionTemplate.execute(status -> repository.updateColumns(
+                    saved.getId(), PRODUCT_NAME + "UPDATED", MONEY_VALUE, producer.getId(), IMAGE_URL));
+
+            assertThat(entityManagerFactory.getCache().contains(Toy.class, saved.getId())).isFalse();
+            assertThat(entityManagerFactory.getCache().contains(Toy.class, other.getId())).isTrue();
+            assertThat(entityManagerFactory.getCache().contains(ToyProducer.class, producer.getId())).isTrue();
+            assertThat(repository.findById(saved.getId()).orElseThrow().getName()).isEqualTo(PRODUCT_NAME + "UPDATED");
+        }
+
+        @Test
+        @DisplayName("findAllSummaries를 다시 호출하면 쿼리 캐시에서 결과를 반환한다")
+        void findAllSummaries_hits_query_cache() {
+            repository.findAllSummaries();
+            long statementCount = statistics().getPrepareStatementCount();
+
+            assertThat(repository.findAllSummaries()).hasSize(1);
+            assertThat(statistics().getPrepareStatementCount()).isEqualTo(statementCount);
+            assertThat(statistics().getQueryCacheHitCount()).isPositive();
+        }
+
+        private String findMakerName() {
+            return transactionTemplate.execute(status ->
+                    repository.findById(saved.getId()).orElseThrow().getProducer().getName());
+        }
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
 }
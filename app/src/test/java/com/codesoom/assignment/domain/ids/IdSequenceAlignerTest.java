@@ -0,0 +1,108 @@
+package com.codesoom.assignment.domain.ids;
+
+import com.codesoom.assignment.domain.ToyProducerRepository;
+import com.codesoom.assignment.domain.entities.ToyProducer;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("IdSequenceAligner")
+class IdSequenceAlignerTest {
+    @Autowired
+    private ToyProducerRepository repository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private IdSequenceAligner aligner;
+    private final String SEQUENCE = "TOY_PRODUCER_SEQ";
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        aligner = new IdSequenceAligner(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    private long increment() {
+        return jdbcTemplate.queryForObject(
+                "select increment from information_schema.sequences where sequence_name = ?", Long.class, SEQUENCE);
+    }
+
+    private long currentValue() {
+        return jdbcTemplate.queryForObject(
+                "select current_value from information_schema.sequences where sequence_name = ?", Long.class, SEQUENCE);
+    }
+
+    private List<Long> createProducers(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> repository.save(ToyProducer.builder().name("Producer " + i).build()).getId())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("시퀀스는 설정된 블록 크기만큼 증가한다")
+    void it_creates_sequence_with_configured_increment() {
+        assertThat(increment()).isEqualTo(PooledSequenceGenerator.DEFAULT_INCREMENT_SIZE);
+    }
+
+    @Nested
+    @DisplayName("afterPropertiesSet 메소드는")
+    class Describe_afterPropertiesSet {
+        @Nested
+        @DisplayName("만약 시퀀스보다 큰 id의 행이 이미 존재한다면")
+        class Context_with_rows_above_sequence {
+            private long seededId;
+
+            @BeforeEach
+            void setUp() {
+                seededId = currentValue() + increment() * 10;
+                jdbcTemplate.update("insert into toy_producer (id, name) values (?, ?)", seededId, "Seeded Producer");
+            }
+
+            @Test
+            @DisplayName("새로 발급되는 id가 기존 id와 겹치지 않도록 시퀀스를 재시작한다")
+            void it_restarts_sequence_above_existing_ids() {
+                aligner.afterPropertiesSet();
+
+                List<Long> ids = createProducers((int) increment() * 2);
+
+                assertThat(ids).doesNotContain(seededId).doesNotHaveDuplicates();
+                assertThat(currentValue()).isGreaterThan(seededId);
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 시퀀스가 이미 모든 id보다 앞서 있다면")
+        class Context_with_sequence_ahead {
+            @BeforeEach
+            void setUp() {
+                createProducers(1);
+            }
+
+            @Test
+            @DisplayName("시퀀스를 바꾸지 않는다")
+            void it_keeps_sequence() {
+                long before = currentValue();
+
+                aligner.afterPropertiesSet();
+
+                assertThat(currentValue()).isEqualTo(before);
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.codesoom.assignment.domain.migrations;
+
+import com.codesoom.assignment.domain.ToyProducerRepository;
+import com.codesoom.assignment.domain.ToyRepository;
+import com.codesoom.assignment.domain.entities.Toy;
+import com.codesoom.assignment.domain.entities.ToyProducer;
+import com.codesoom.assignment.domain.vos.ImageDemo;
+import com.codesoom.assignment.domain.vos.Won;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ToyProducerNameDeduplicator")
+class ToyProducerNameDeduplicatorTest {
+    @Autowired
+    private ToyRepository toyRepository;
+    @Autowired
+    private ToyProducerRepository producerRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ToyProducerNameDeduplicator deduplicator;
+    private final String PRODUCER_NAME = "Duplicated Producer";
+
+    @BeforeEach
+    void setUp() {
+        toyRepository.deleteAll();
+        producerRepository.deleteAll();
+        deduplicator = new ToyProducerNameDeduplicator(jdbcTemplate, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        toyRepository.deleteAll();
+        producerRepository.deleteAll();
+    }
+
+    private long insertProducer(long id, String name) {
+        jdbcTemplate.update("insert into toy_producer (id, name) values (?, ?)", id, name);
+        return id;
+    }
+
+    private Toy saveToy(long producerId) {
+        return toyRepository.save(Toy.builder()
+                .name("Toy of " + producerId)
+                .price(new Won(new BigDecimal(1000)))
+                .producer(ToyProducer.builder().id(producerId).build())
+                .demo(new ImageDemo("https://metacode.biz/@test/avatar.jpg"))
+                .build());
+    }
+
+    private Long producerIdOf(Toy toy) {
+        return jdbcTemplate.queryForObject("select toy_producer_id from toy where id = ?", Long.class, toy.getId());
+    }
+
+    @Nested
+    @DisplayName("afterPropertiesSet 메소드는")
+    class Describe_afterPropertiesSet {
+        @Nested
+        @DisplayName("만약 유니크 제약 없이 이름이 같은 생산자가 여럿 존재한다면")
+        class Context_with_duplicated_producers {
+            private long kept;
+            private long duplicate;
+            private long other;
+
+            @BeforeEach
+            void setUp() {
+                jdbcTemplate.execute("alter table toy_producer drop constraint "
+                        + ToyProducerNameDeduplicator.CONSTRAINT_NAME);
+                kept = insertProducer(100_001, PRODUCER_NAME);
+                duplicate = insertProducer(100_002, PRODUCER_NAME);
+                other = insertProducer(100_003, "Other Producer");
+            }
+
+            @Test
+            @DisplayName("id가 가장 작은 생산자만 남기고 장난감을 남은 생산자로 옮긴다")
+            void it_merges_duplicates() {
+                Toy ofKept = saveToy(kept);
+                Toy ofDuplicate = saveToy(duplicate);
+                Toy ofOther = saveToy(other);
+
+                deduplicator.afterPropertiesSet();
+
+                List<ToyProducer> producers = producerRepository.findAll();
+                assertThat(producers).extracting(ToyProducer::getId).containsExactlyInAnyOrder(kept, other);
+                assertThat(producerIdOf(ofKept)).isEqualTo(kept);
+                assertThat(producerIdOf(ofDuplicate)).isEqualTo(kept);
+                assertThat(producerIdOf(ofOther)).isEqualTo(other);
+                assertThat(producerRepository.findFirstByNameOrderByIdAsc(PRODUCER_NAME))
+                        .map(ToyProducer::getId).hasValue(kept);
+            }
+
+            @Test
+            @DisplayName("생산자 이름의 유니크 제약을 만든다")
+            void it_adds_unique_constraint() {
+                deduplicator.afterPropertiesSet();
+
+                assertThatThrownBy(() -> insertProducer(100_004, PRODUCER_NAME))
+                        .isInstanceOf(DataIntegrityViolationException.class);
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 이름이 같은 생산자가 없다면")
+        class Context_without_duplicated_producers {
+            @Test
+            @DisplayName("생산자와 제약을 그대로 둔다")
+            void it_keeps_producers() {
+                long producer = insertProducer(100_001, PRODUCER_NAME);
+
+                deduplicator.afterPropertiesSet();
+
+                assertThat(producerRepository.findAll()).extracting(ToyProducer::getId).containsExactly(producer);
+                assertThatThrownBy(() -> insertProducer(100_002, PRODUCER_NAME))
+                        .isInstanceOf(DataIntegrityViolationException.class);
+            }
+        }
+    }
+}
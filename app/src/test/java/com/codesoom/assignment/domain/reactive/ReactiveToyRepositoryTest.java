@@ -0,0 +1,98 @@
+package com.codesoom.assignment.domain.reactive;
+
+import com.codesoom.assignment.domain.ToyProducerRepository;
+import com.codesoom.assignment.domain.ToyRepository;
+import com.codesoom.assignment.domain.entities.Toy;
+import com.codesoom.assignment.domain.entities.ToyProducer;
+import com.codesoom.assignment.domain.projections.ToySummary;
+import com.codesoom.assignment.domain.vos.ImageDemo;
+import com.codesoom.assignment.domain.vos.Won;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("ReactiveToyRepository")
+class ReactiveToyRepositoryTest {
+    @Autowired
+    private ReactiveToyRepository repository;
+    @Autowired
+    private ToyRepository toyRepository;
+    @Autowired
+    private ToyProducerRepository producerRepository;
+
+    private final String PRODUCT_NAME = "Reactive Product";
+    private Toy first;
+    private Toy second;
+
+    @BeforeEach
+    void setUp() {
+        ToyProducer producer = producerRepository.save(ToyProducer.builder()
+                .name("Reactive Producer")
+                .build());
+        first = toyRepository.save(toy(producer, 1));
+        second = toyRepository.save(toy(producer, 2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        toyRepository.deleteAll();
+        producerRepository.deleteAll();
+    }
+
+    private Toy toy(ToyProducer producer, int index) {
+        return Toy.builder()
+                .name(PRODUCT_NAME + index)
+                .price(new Won(new BigDecimal(1000 * index)))
+                .producer(producer)
+                .demo(new ImageDemo("https://metacode.biz/@test/avatar.jpg"))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("findSummariesByIdGreaterThan 메소드는")
+    class Describe_findSummariesByIdGreaterThan {
+        @Test
+        @DisplayName("커서 이후의 장난감 Projection을 id 오름차순으로 최대 limit 개 흘려보낸다")
+        void it_streams_summaries_after_cursor() {
+            StepVerifier.create(repository.findSummariesByIdGreaterThan(first.getId() - 1, 2))
+                    .assertNext(summary -> assertSummary(summary, first))
+                    .assertNext(summary -> assertSummary(summary, second))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("구독자가 요청한 만큼만 흘려보낸다")
+        void it_respects_demand() {
+            StepVerifier.create(repository.findSummariesByIdGreaterThan(first.getId() - 1, 2), 1)
+                    .assertNext(summary -> assertSummary(summary, first))
+                    .thenCancel()
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("호출한 스레드가 아닌 boundedElastic 스케줄러에서 읽는다")
+        void it_reads_off_the_calling_thread() {
+            StepVerifier.create(repository.findSummariesByIdGreaterThan(first.getId() - 1, 1))
+                    .assertNext(summary -> assertThat(Thread.currentThread().getName()).startsWith("boundedElastic"))
+                    .verifyComplete();
+        }
+    }
+
+    private void assertSummary(ToySummary summary, Toy toy) {
+        assertThat(summary.getId()).isEqualTo(toy.getId());
+        assertThat(summary.getName()).isEqualTo(toy.getName());
+        assertThat(summary.getPrice()).isEqualByComparingTo(toy.getPrice().getValue());
+        assertThat(summary.getMaker()).isEqualTo(toy.getProducer().getName());
+        assertThat(summary.getUrl()).isEqualTo(toy.getDemo().getUrl());
+    }
+}
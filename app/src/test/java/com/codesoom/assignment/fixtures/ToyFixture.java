@@ -2,12 +2,14 @@ package com.codesoom.assignment.fixtures;
 
 import com.codesoom.assignment.domain.entities.Toy;
 import com.codesoom.assignment.domain.entities.ToyProducer;
+import com.codesoom.assignment.domain.projections.ToySummary;
 import com.codesoom.assignment.domain.vos.ImageDemo;
 import com.codesoom.assignment.domain.vos.Won;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Component
 public class ToyFixture {
@@ -17,6 +19,7 @@ public class ToyFixture {
     private final ImageDemo demo = new ImageDemo("https://metacode.biz/@test/avatar.jpg");
     private final Long TOY_ID = 1L;
     private final String PRODUCT_NAME = "Test Product";
+    private final LocalDateTime CREATED_AT = LocalDateTime.of(2020, 11, 1, 12, 0);
 
     public Toy toy() {
         return Toy.builder()
@@ -66,4 +69,38 @@ public class ToyFixture {
                 .build();
     }
 
+    public ToySummary toySummary() {
+        Toy toy = toy();
+        return new ToySummary() {
+            @Override
+            public Long getId() {
+                return toy.getId();
+            }
+
+            @Override
+            public String getName() {
+                return toy.getName();
+            }
+
+            @Override
+            public BigDecimal getPrice() {
+                return toy.getPrice().getValue();
+            }
+
+            @Override
+            public String getMaker() {
+                return toy.getProducer().getName();
+            }
+
+            @Override
+            public String getUrl() {
+                return toy.getDemo().getUrl();
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return CREATED_AT;
+            }
+        };
+    }
 }
@@ -0,0 +1,69 @@
+package com.codesoom.assignment.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("CacheRegionMetrics")
+class CacheRegionMetricsTest {
+    private Statistics statistics;
+    private MeterRegistry registry;
+
+    private final String REGION_NAME = "product";
+    private final String REGION_WITHOUT_STATISTICS = "toy-summaries";
+
+    @BeforeEach
+    void setUp() {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        statistics = mock(Statistics.class);
+        given(entityManagerFactory.unwrap(SessionFactory.class)).willReturn(sessionFactory);
+        given(sessionFactory.getStatistics()).willReturn(statistics);
+
+        registry = new SimpleMeterRegistry();
+        given(statistics.getSecondLevelCacheRegionNames())
+                .willReturn(new String[]{REGION_NAME, REGION_WITHOUT_STATISTICS});
+        new CacheRegionMetrics(entityManagerFactory).bindTo(registry);
+    }
+
+    private double count(String name, String region, String... tags) {
+        return registry.get(name).tag("region", region).tags(tags).functionCounter().count();
+    }
+
+    @Nested
+    @DisplayName("bindTo 메소드는")
+    class Describe_bindTo {
+        @Test
+        @DisplayName("region별 적중, 실패, 저장 수를 현재 통계에서 읽는다")
+        void it_reads_region_statistics() {
+            CacheRegionStatistics regionStatistics = mock(CacheRegionStatistics.class);
+            given(regionStatistics.getHitCount()).willReturn(5L);
+            given(regionStatistics.getMissCount()).willReturn(2L);
+            given(regionStatistics.getPutCount()).willReturn(3L);
+            given(statistics.getCacheRegionStatistics(REGION_NAME)).willReturn(regionStatistics);
+
+            assertThat(count(CacheRegionMetrics.REQUESTS, REGION_NAME, "result", "hit")).isEqualTo(5.0);
+            assertThat(count(CacheRegionMetrics.REQUESTS, REGION_NAME, "result", "miss")).isEqualTo(2.0);
+            assertThat(count(CacheRegionMetrics.PUTS, REGION_NAME)).isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("통계가 없는 region은 0으로 기록한다")
+        void it_reads_zero_without_statistics() {
+            assertThat(count(CacheRegionMetrics.REQUESTS, REGION_WITHOUT_STATISTICS, "result", "hit")).isZero();
+            assertThat(count(CacheRegionMetrics.PUTS, REGION_WITHOUT_STATISTICS)).isZero();
+        }
+    }
+}
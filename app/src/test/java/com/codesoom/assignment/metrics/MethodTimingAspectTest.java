@@ -0,0 +1,108 @@
+package com.codesoom.assignment.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("MethodTimingAspect")
+class MethodTimingAspectTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MeterRegistry registry;
+
+    private final Long ID_NOT_EXISTING = Long.MAX_VALUE;
+
+    @Nested
+    @DisplayName("정상적으로 끝난 호출은")
+    class Describe_successful_call {
+        @Test
+        @DisplayName("선언한 인터페이스 메소드 이름으로 컨트롤러와 서비스 시간을 기록한다")
+        void it_records_by_interface_method() throws Exception {
+            long controllerCount = count(MethodTimingAspect.CONTROLLER_TIMER, "UserListController.list", "none");
+            long serviceCount = count(MethodTimingAspect.SERVICE_TIMER, "UserShowService.showVersionSummary", "none");
+
+            mockMvc.perform(get("/users"))
+                    .andExpect(status().isOk());
+
+            assertThat(count(MethodTimingAspect.CONTROLLER_TIMER, "UserListController.list", "none"))
+                    .isEqualTo(controllerCount + 1);
+            assertThat(count(MethodTimingAspect.SERVICE_TIMER, "UserShowService.showVersionSummary", "none"))
+                    .isEqualTo(serviceCount + 1);
+        }
+
+        @Test
+        @DisplayName("인터페이스가 없는 메소드는 클래스 이름으로 기록한다")
+        void it_records_by_class_without_interface() throws Exception {
+            mockMvc.perform(get("/"))
+                    .andExpect(status().isOk());
+
+            assertThat(count(MethodTimingAspect.CONTROLLER_TIMER, "HelloController.sayHello", "none"))
+                    .isPositive();
+        }
+    }
+
+    @Nested
+    @DisplayName("예외로 끝난 호출은")
+    class Describe_failed_call {
+        @Test
+        @DisplayName("예외 이름을 태그로 기록하고 찾지 못한 엔티티 수를 센다")
+        void it_records_exception_and_counts_not_found() throws Exception {
+            double products = notFound("product");
+            double users = notFound("user");
+
+            mockMvc.perform(get("/products/" + ID_NOT_EXISTING))
+                    .andExpect(status().isNotFound());
+            mockMvc.perform(get("/users/" + ID_NOT_EXISTING))
+                    .andExpect(status().isNotFound());
+
+            assertThat(count(MethodTimingAspect.CONTROLLER_TIMER,
+                    "ToyDetailController.detail", "ProductNotFoundException")).isPositive();
+            assertThat(count(MethodTimingAspect.SERVICE_TIMER,
+                    "ToyShowService.showVersionById", "ProductNotFoundException")).isPositive();
+            assertThat(notFound("product")).isEqualTo(products + 1);
+            assertThat(notFound("user")).isEqualTo(users + 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Prometheus 엔드포인트는")
+    class Describe_prometheus {
+        @Test
+        @DisplayName("메소드별 실행 시간 히스토그램을 응답한다")
+        void it_exposes_histograms() throws Exception {
+            mockMvc.perform(get("/users"));
+
+            mockMvc.perform(get("/actuator/prometheus"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(containsString("codesoom_controller_seconds_bucket")))
+                    .andExpect(content().string(containsString("operation=\"UserListController.list\"")));
+        }
+    }
+
+    private long count(String name, String operation, String exception) {
+        Timer timer = registry.find(name)
+                .tag("operation", operation)
+                .tag("exception", exception)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private double notFound(String entity) {
+        return registry.get("codesoom.not.found").tag("entity", entity).counter().count();
+    }
+}
@@ -0,0 +1,149 @@
+package com.codesoom.assignment.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(OutputCaptureExtension.class)
+@DisplayName("QueryBudgetFilter")
+class QueryBudgetFilterTest {
+    private final int BUDGET = 2;
+    private SimpleMeterRegistry registry;
+    private QueryBudgetFilter filter;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new QueryBudgetFilter(registry, BUDGET);
+        request = new MockHttpServletRequest("GET", "/products/1");
+    }
+
+    private void perform(int statements) throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/products/{id}");
+                QueryStatistics statistics = QueryStatistics.current();
+                for (int i = 0; i < statements; i++) {
+                    statistics.addStatement(3);
+                    statistics.addRow();
+                }
+            }
+        }));
+    }
+
+    @Nested
+    @DisplayName("예산 안에서 SQL을 실행한 요청은")
+    class Describe_within_budget {
+        @Test
+        @DisplayName("엔드포인트별 SQL 문 수, 행 수, JDBC 시간을 기록하고 경고하지 않는다")
+        void it_records_metrics_by_endpoint(CapturedOutput output) throws Exception {
+            perform(BUDGET);
+
+            assertThat(registry.get(QueryBudgetFilter.STATEMENTS)
+                    .tag("method", "GET").tag("uri", "/products/{id}")
+                    .summary().totalAmount()).isEqualTo(BUDGET);
+            assertThat(registry.get(QueryBudgetFilter.ROWS).summary().totalAmount()).isEqualTo(BUDGET);
+            assertThat(registry.get(QueryBudgetFilter.JDBC_TIME).timer().count()).isEqualTo(1);
+            assertThat(output).doesNotContain("SQL statements");
+            assertThat(QueryStatistics.current()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("같은 엔드포인트로 반복된 요청은")
+    class Describe_repeated_requests {
+        @Test
+        @DisplayName("처음 만든 지표에 누적하고 MeterRegistry에서 지표를 다시 찾지 않는다")
+        void it_reuses_meters() throws Exception {
+            registry = spy(new SimpleMeterRegistry());
+            filter = new QueryBudgetFilter(registry, BUDGET);
+
+            perform(1);
+            perform(1);
+
+            assertThat(registry.get(QueryBudgetFilter.STATEMENTS).summary().count()).isEqualTo(2);
+            verify(registry, times(1)).summary(eq(QueryBudgetFilter.STATEMENTS), any(Iterable.class));
+            verify(registry, times(1)).timer(eq(QueryBudgetFilter.JDBC_TIME), any(Iterable.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("예산보다 많은 SQL을 실행한 요청은")
+    class Describe_over_budget {
+        @Test
+        @DisplayName("엔드포인트와 SQL 문 수를 경고 로그로 남긴다")
+        void it_logs_warning(CapturedOutput output) throws Exception {
+            perform(BUDGET + 1);
+
+            assertThat(output).contains("GET /products/{id} issued 3 SQL statements (budget 2)");
+        }
+    }
+
+    @Nested
+    @DisplayName("비동기로 처리되는 요청은")
+    class Describe_async_request {
+        private MockFilterChain chain(boolean asyncStarted) {
+            return new MockFilterChain(new HttpServlet() {
+                @Override
+                protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                    req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/products/{id}");
+                    QueryStatistics.current().addStatement(3);
+                    ((MockHttpServletRequest) req).setAsyncStarted(asyncStarted);
+                }
+            });
+        }
+
+        @Test
+        @DisplayName("비동기 디스패치가 끝날 때 두 디스패치의 SQL을 합쳐 한 번 기록한다")
+        void it_records_once_after_async_dispatch() throws Exception {
+            request.setAsyncSupported(true);
+            filter.doFilter(request, new MockHttpServletResponse(), chain(true));
+
+            assertThat(registry.find(QueryBudgetFilter.STATEMENTS).summary()).isNull();
+            assertThat(QueryStatistics.current()).isNull();
+
+            request.setDispatcherType(DispatcherType.ASYNC);
+            filter.doFilter(request, new MockHttpServletResponse(), chain(false));
+
+            assertThat(registry.get(QueryBudgetFilter.STATEMENTS).summary().count()).isEqualTo(1);
+            assertThat(registry.get(QueryBudgetFilter.STATEMENTS).summary().totalAmount()).isEqualTo(2);
+            assertThat(QueryStatistics.current()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("핸들러를 찾지 못한 요청은")
+    class Describe_without_handler {
+        @Test
+        @DisplayName("UNKNOWN 엔드포인트로 기록한다")
+        void it_records_unknown_endpoint() throws Exception {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+            assertThat(registry.get(QueryBudgetFilter.STATEMENTS).tag("uri", "UNKNOWN")
+                    .summary().count()).isEqualTo(1);
+        }
+    }
+}
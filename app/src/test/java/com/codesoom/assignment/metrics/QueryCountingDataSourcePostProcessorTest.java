@@ -0,0 +1,55 @@
+package com.codesoom.assignment.metrics;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QueryCountingDataSourcePostProcessor")
+class QueryCountingDataSourcePostProcessorTest {
+    private final QueryCountingDataSourcePostProcessor postProcessor = new QueryCountingDataSourcePostProcessor();
+
+    @Test
+    @DisplayName("데이터소스가 아니거나 이미 감싼 데이터소스는 그대로 반환한다")
+    void it_keeps_other_beans() {
+        Object bean = new Object();
+        Object proxy = postProcessor.postProcessAfterInitialization(h2(), "dataSource");
+
+        assertThat(postProcessor.postProcessAfterInitialization(bean, "bean")).isSameAs(bean);
+        assertThat(postProcessor.postProcessAfterInitialization(proxy, "dataSource")).isSameAs(proxy);
+    }
+
+    @Test
+    @DisplayName("감싼 데이터소스로 실행한 SQL 문과 읽은 행을 현재 요청의 통계에 기록한다")
+    void it_records_statements_and_rows() throws Exception {
+        DataSource dataSource = (DataSource) postProcessor.postProcessAfterInitialization(h2(), "dataSource");
+        assertThat(dataSource).isInstanceOf(ProxyDataSource.class);
+
+        QueryStatistics statistics = QueryStatistics.start();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select x from system_range(1, 3)")) {
+            while (resultSet.next()) {
+                resultSet.getLong(1);
+            }
+        } finally {
+            QueryStatistics.finish();
+        }
+
+        assertThat(statistics.getStatements()).isEqualTo(1);
+        assertThat(statistics.getRows()).isEqualTo(3);
+    }
+
+    private DataSource h2() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:query-counting;DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+}
@@ -0,0 +1,108 @@
+package com.codesoom.assignment.metrics;
+
+import com.codesoom.assignment.domain.ToyProducerRepository;
+import com.codesoom.assignment.domain.ToyRepository;
+import com.codesoom.assignment.domain.entities.Toy;
+import com.codesoom.assignment.domain.entities.ToyProducer;
+import com.codesoom.assignment.domain.vos.ImageDemo;
+import com.codesoom.assignment.domain.vos.Won;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "codesoom.queries.debug-headers=true")
+@AutoConfigureMockMvc
+@DisplayName("QueryStatisticsHeaderAdvice")
+class QueryStatisticsHeaderAdviceTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ToyRepository repository;
+    @Autowired
+    private ToyProducerRepository producerRepository;
+    @Autowired
+    private QueryStatisticsHeaderAdvice advice;
+
+    private Toy saved;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            ToyProducer producer = producerRepository.save(ToyProducer.builder()
+                    .name("Query Budget Producer " + i)
+                    .build());
+            saved = repository.save(Toy.builder()
+                    .name("Query Budget Toy " + i)
+                    .price(new Won(new BigDecimal(1000)))
+                    .producer(producer)
+                    .demo(new ImageDemo("https://metacode.biz/@test/avatar.jpg"))
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+        producerRepository.deleteAll();
+    }
+
+    @Nested
+    @DisplayName("디버그 모드에서 응답은")
+    class Describe_debug_headers {
+        @Test
+        @DisplayName("목록 조회는 장난감 수와 관계없이 SQL 문 수가 일정하다")
+        void list_does_not_query_per_toy() throws Exception {
+            MvcResult result = mockMvc.perform(get("/products?all=true"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(QueryStatisticsHeaderAdvice.TIME_HEADER))
+                    .andReturn();
+
+            assertThat(Integer.parseInt(result.getResponse().getHeader(QueryStatisticsHeaderAdvice.COUNT_HEADER)))
+                    .isBetween(1, 2);
+        }
+
+        @Test
+        @DisplayName("상세 조회는 버전, 장난감, 생산자 조회 이상의 SQL을 실행하지 않는다")
+        void detail_has_bounded_queries() throws Exception {
+            MvcResult result = mockMvc.perform(get("/products/" + saved.getId()))
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            assertThat(Integer.parseInt(result.getResponse().getHeader(QueryStatisticsHeaderAdvice.COUNT_HEADER)))
+                    .isBetween(1, 3);
+            assertThat(Long.parseLong(result.getResponse().getHeader(QueryStatisticsHeaderAdvice.ROWS_HEADER)))
+                    .isPositive();
+        }
+    }
+
+    @Nested
+    @DisplayName("요청 밖에서 쓰는 응답은")
+    class Describe_outside_request {
+        @Test
+        @DisplayName("헤더를 추가하지 않는다")
+        void it_does_not_add_headers() {
+            MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+            ServletServerHttpResponse response = new ServletServerHttpResponse(servletResponse);
+
+            advice.beforeBodyWrite("body", null, null, null, null, response);
+
+            assertThat(response.getHeaders().containsKey(QueryStatisticsHeaderAdvice.COUNT_HEADER)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.codesoom.assignment.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QueryStatisticsPropagation")
+class QueryStatisticsPropagationTest {
+    private ExecutorService worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryStatistics.finish();
+        worker.shutdownNow();
+    }
+
+    private <T> T runOnWorker(Callable<T> callable) throws Exception {
+        return worker.submit(callable).get(5, TimeUnit.SECONDS);
+    }
+
+    @Nested
+    @DisplayName("wrap 메소드는")
+    class Describe_wrap {
+        private final Callable<QueryStatistics> recording = () -> {
+            QueryStatistics statistics = QueryStatistics.current();
+            statistics.addStatement(3);
+            statistics.addRow();
+            return statistics;
+        };
+
+        @Nested
+        @DisplayName("만약 현재 스레드가 기록 중이라면")
+        class Context_with_statistics {
+            @Test
+            @DisplayName("작업 스레드에서 같은 기록에 쓰게 한다")
+            void it_binds_statistics_on_worker() throws Exception {
+                QueryStatistics statistics = QueryStatistics.start();
+
+                QueryStatistics actual = runOnWorker(QueryStatisticsPropagation.wrap(recording));
+
+                assertThat(actual).isSameAs(statistics);
+                assertThat(statistics.getStatements()).isEqualTo(1);
+                assertThat(statistics.getRows()).isEqualTo(1);
+            }
+
+            @Test
+            @DisplayName("작업이 끝나면 작업 스레드의 기록을 떼어낸다")
+            void it_clears_statistics_after_call() throws Exception {
+                QueryStatistics.start();
+
+                runOnWorker(QueryStatisticsPropagation.wrap(recording));
+
+                assertThat(runOnWorker(QueryStatistics::current)).isNull();
+            }
+        }
+
+        @Nested
+        @DisplayName("만약 현재 스레드가 기록 중이 아니라면")
+        class Context_without_statistics {
+            @Test
+            @DisplayName("작업을 그대로 반환한다")
+            void it_returns_callable() {
+                assertThat(QueryStatisticsPropagation.wrap(recording)).isSameAs(recording);
+            }
+        }
+    }
+}
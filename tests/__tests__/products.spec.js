@@ -126,7 +126,6 @@ describe('Products', () => {
       const params = [
         { ...toy, name: '' },
         { ...toy, maker: '' },
-        { ...toy, price: undefined },
         { ...toy, price: null },
       ];
 